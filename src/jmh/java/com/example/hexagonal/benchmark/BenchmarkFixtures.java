@@ -0,0 +1,79 @@
+package com.example.hexagonal.benchmark;
+
+import com.example.hexagonal.config.ObservabilityConfig;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.infrastructure.observability.DebitTransactionMetrics;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+
+    static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    static DebitTransactionMetrics metrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ObservabilityConfig config = new ObservabilityConfig();
+        return new DebitTransactionMetrics(
+                config.debitTransactionCreatedCounter(registry),
+                config.debitTransactionProcessedCounter(registry),
+                config.debitTransactionFailedCounter(registry),
+                config.debitTransactionRetryCounter(registry),
+                config.debitTransactionConflictRetriedCounter(registry),
+                config.debitTransactionConflictExhaustedCounter(registry),
+                config.debitTransactionProcessingTimer(registry),
+                config.debitTransactionCreationTimer(registry));
+    }
+
+    static DebitTransaction transaction(int sequence, int companies) {
+        LocalDateTime now = LocalDateTime.now();
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId("company-" + (sequence % companies))
+                .companyDocument("12.345.678/0001-90")
+                .companyName("Company " + (sequence % companies))
+                .bankAccountId("account-" + sequence)
+                .amount(BigDecimal.valueOf(1000 + sequence % 10_000, 2))
+                .description("Benchmark debit " + sequence)
+                .status(STATUSES[sequence % STATUSES.length])
+                .scheduledDate(now.plusMinutes(sequence % 1440))
+                .createdAt(now)
+                .updatedAt(now)
+                .correlationId("corr-" + sequence)
+                .retryCount(0)
+                .build();
+    }
+
+    static String createCommandJson(UUID commandId) {
+        return """
+                {"commandType":"CREATE_DEBIT_TRANSACTION","commandId":"%s","companyId":"company-42",\
+                "companyDocument":"12.345.678/0001-90","companyName":"Empresa Benchmark Ltda",\
+                "bankAccountId":"account-42","amount":1234.56,"description":"Mensalidade",\
+                "scheduledDate":"2030-01-10T10:00:00","correlationId":"corr-42"}"""
+                .formatted(commandId);
+    }
+
+    static String transactionCommandJson(String commandType, UUID commandId) {
+        return """
+                {"commandType":"%s","commandId":"%s","transactionId":"%s","reason":"Solicitado pelo cliente",\
+                "correlationId":"corr-42"}"""
+                .formatted(commandType, commandId, UUID.randomUUID());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.hexagonal.benchmark;
+
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelope;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelopeReader;
+import com.example.hexagonal.infrastructure.messaging.dto.CancelDebitTransactionCommand;
+import com.example.hexagonal.infrastructure.messaging.dto.CreateDebitTransactionCommand;
+import com.example.hexagonal.infrastructure.messaging.dto.ProcessDebitTransactionCommand;
+import com.example.hexagonal.infrastructure.messaging.dto.RetryDebitTransactionCommand;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandDeserializationBenchmark {
+
+    @Param({"CREATE_DEBIT_TRANSACTION", "PROCESS_DEBIT_TRANSACTION", "RETRY_DEBIT_TRANSACTION", "CANCEL_DEBIT_TRANSACTION"})
+    public String commandType;
+
+    private ObjectMapper objectMapper;
+    private CommandEnvelopeReader envelopeReader;
+    private Class<?> commandClass;
+    private String message;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        envelopeReader = new CommandEnvelopeReader(objectMapper);
+        commandClass = switch (commandType) {
+            case "CREATE_DEBIT_TRANSACTION" -> CreateDebitTransactionCommand.class;
+            case "PROCESS_DEBIT_TRANSACTION" -> ProcessDebitTransactionCommand.class;
+            case "RETRY_DEBIT_TRANSACTION" -> RetryDebitTransactionCommand.class;
+            case "CANCEL_DEBIT_TRANSACTION" -> CancelDebitTransactionCommand.class;
+            default -> throw new IllegalArgumentException("Unknown command type " + commandType);
+        };
+        message = commandClass == CreateDebitTransactionCommand.class
+                ? BenchmarkFixtures.createCommandJson(UUID.randomUUID())
+                : BenchmarkFixtures.transactionCommandJson(commandType, UUID.randomUUID());
+    }
+
+    @Benchmark
+    public Object readValue() throws Exception {
+        return objectMapper.readValue(message, commandClass);
+    }
+
+    @Benchmark
+    public Object readEnvelopeThenTreeToValue() throws Exception {
+        CommandEnvelope envelope = envelopeReader.read(message, null);
+        return objectMapper.treeToValue(envelope.getPayload(), commandClass);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.hexagonal.benchmark;
+
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandDispatcher;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelopeReader;
+import com.example.hexagonal.infrastructure.messaging.dispatch.FairCommandScheduler;
+import com.example.hexagonal.infrastructure.messaging.dto.CancelDebitTransactionCommand;
+import com.example.hexagonal.infrastructure.messaging.dto.CreateDebitTransactionCommand;
+import com.example.hexagonal.infrastructure.messaging.dto.ProcessDebitTransactionCommand;
+import com.example.hexagonal.infrastructure.messaging.dto.RetryDebitTransactionCommand;
+import com.example.hexagonal.infrastructure.messaging.handler.CommandHandler;
+import com.example.hexagonal.infrastructure.messaging.idempotency.IdempotentCommandGuard;
+import com.example.hexagonal.infrastructure.messaging.registry.CommandHandlerRegistry;
+import com.example.hexagonal.infrastructure.observability.CommandMetrics;
+import com.example.hexagonal.infrastructure.persistence.dynamodb.adapter.DynamoDbMockAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandDispatchBenchmark {
+
+    @Param({"false", "true"})
+    public boolean idempotency;
+
+    @Param({"false", "true"})
+    public boolean fairQueue;
+
+    private CommandHandlerRegistry registry;
+    private CommandEnvelopeReader envelopeReader;
+    private CommandDispatcher dispatcher;
+    private final AtomicLong sequence = new AtomicLong();
+    private String messagePrefix;
+    private String messageSuffix;
+    private String duplicateMessage;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        registry = new CommandHandlerRegistry(List.of(
+                handler(objectMapper, "CREATE_DEBIT_TRANSACTION", CreateDebitTransactionCommand.class),
+                handler(objectMapper, "PROCESS_DEBIT_TRANSACTION", ProcessDebitTransactionCommand.class),
+                handler(objectMapper, "RETRY_DEBIT_TRANSACTION", RetryDebitTransactionCommand.class),
+                handler(objectMapper, "CANCEL_DEBIT_TRANSACTION", CancelDebitTransactionCommand.class)));
+        registry.initializeHandlers();
+
+        envelopeReader = new CommandEnvelopeReader(objectMapper);
+        dispatcher = new CommandDispatcher(registry, new IdempotentCommandGuard(
+                Optional.empty(), new SimpleMeterRegistry(), idempotency, 60, 100_000),
+                new FairCommandScheduler(new DynamoDbMockAdapter(),
+                        new SimpleMeterRegistry(), fairQueue, 16, 1000, 1, "", 200, 64),
+                new CommandMetrics(new SimpleMeterRegistry(), 0.01));
+
+        UUID placeholder = UUID.randomUUID();
+        String template = BenchmarkFixtures.createCommandJson(placeholder);
+        int commandIdStart = template.indexOf(placeholder.toString());
+        messagePrefix = template.substring(0, commandIdStart);
+        messageSuffix = template.substring(commandIdStart + placeholder.toString().length());
+        duplicateMessage = template;
+    }
+
+    @Benchmark
+    public Object registryLookup() {
+        return registry.getHandler("CANCEL_DEBIT_TRANSACTION");
+    }
+
+    @Benchmark
+    public Object dispatchNewCommand() {
+        String message = messagePrefix + new UUID(0, sequence.incrementAndGet()) + messageSuffix;
+        return dispatcher.dispatch(envelopeReader.read(message, null));
+    }
+
+    @Benchmark
+    public Object dispatchRedeliveredCommand() {
+        return dispatcher.dispatch(envelopeReader.read(duplicateMessage, null));
+    }
+
+    private static <T> CommandHandler<T> handler(ObjectMapper objectMapper, String commandType, Class<T> commandClass) {
+        return new CommandHandler<>(objectMapper) {
+            @Override
+            public String getCommandType() {
+                return commandType;
+            }
+
+            @Override
+            public Class<T> getCommandClass() {
+                return commandClass;
+            }
+
+            @Override
+            public void handle(T command) {
+            }
+
+            @Override
+            public String handleWithResult(T command) {
+                return commandType;
+            }
+        };
+    }
+}
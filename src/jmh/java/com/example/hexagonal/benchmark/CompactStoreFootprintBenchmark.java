@@ -0,0 +1,80 @@
+package com.example.hexagonal.benchmark;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.infrastructure.persistence.codec.CompactDebitTransaction;
+import com.example.hexagonal.infrastructure.persistence.codec.StringInternTable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Retained heap per stored row, measured as the used-heap delta (after full GCs) of a
+// ConcurrentHashMap<UUID, row> like the one DynamoDbMockAdapter keeps. Run alone:
+//   ./gradlew jmh -PjmhIncludes=CompactStoreFootprintBenchmark
+// and read the bytesPerTransaction counter; 10M "objects" rows need about 8 GB of heap.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g", "-XX:+UseParallelGC"})
+public class CompactStoreFootprintBenchmark {
+
+    private static final int COMPANIES = 1000;
+
+    @Param({"10000000"})
+    public int rows;
+
+    @Param({"objects", "compact"})
+    public String layout;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerTransaction;
+    }
+
+    @Benchmark
+    public int populate(Footprint footprint) {
+        long before = usedHeapAfterGc();
+
+        StringInternTable strings = new StringInternTable();
+        Map<UUID, Object> store = new ConcurrentHashMap<>(rows);
+        for (int i = 0; i < rows; i++) {
+            DebitTransaction transaction = BenchmarkFixtures.transaction(i, COMPANIES);
+            transaction.setVersion(1L);
+            store.put(transaction.getTransactionId(), "compact".equals(layout)
+                    ? CompactDebitTransaction.of(transaction, strings)
+                    : transaction);
+        }
+
+        long after = usedHeapAfterGc();
+        footprint.bytesPerTransaction = (after - before) / rows;
+        Reference.reachabilityFence(strings);
+        Reference.reachabilityFence(store);
+        return store.size();
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
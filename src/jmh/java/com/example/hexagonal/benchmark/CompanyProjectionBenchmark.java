@@ -0,0 +1,83 @@
+package com.example.hexagonal.benchmark;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.infrastructure.persistence.dynamodb.adapter.DynamoDbMockAdapter;
+import com.example.hexagonal.infrastructure.projection.CompanyTransactionProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompanyProjectionBenchmark {
+
+    private static final int COMPANIES = 1000;
+    private static final BigDecimal AMOUNT = new BigDecimal("1234.56");
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private DynamoDbMockAdapter store;
+    private CompanyTransactionProjection projection;
+
+    @Setup
+    public void setUp() {
+        store = new DynamoDbMockAdapter();
+        projection = new CompanyTransactionProjection(new SimpleMeterRegistry(), true, 60, 2 * rows);
+        for (int i = 0; i < rows; i++) {
+            DebitTransaction transaction = BenchmarkFixtures.transaction(i, COMPANIES);
+            store.save(transaction);
+            projection.apply(DebitEvent.builder()
+                    .eventId(UUID.randomUUID())
+                    .transactionId(transaction.getTransactionId())
+                    .companyId(transaction.getCompanyId())
+                    .status(transaction.getStatus())
+                    .amount(transaction.getAmount())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public long countFromStore() {
+        return store.countByCompanyIdAndStatus(company(), TransactionStatus.PENDING);
+    }
+
+    @Benchmark
+    public long countFromProjection() {
+        return projection.count(company(), TransactionStatus.PENDING);
+    }
+
+    @Benchmark
+    public BigDecimal totalAmountFromProjection() {
+        return projection.totalAmount(company(), TransactionStatus.PENDING);
+    }
+
+    @Benchmark
+    public boolean applyTransition() {
+        return projection.apply(DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .companyId(company())
+                .previousStatus(TransactionStatus.PENDING)
+                .status(TransactionStatus.PROCESSING)
+                .amount(AMOUNT)
+                .build());
+    }
+
+    private static String company() {
+        return "company-" + ThreadLocalRandom.current().nextInt(COMPANIES);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.hexagonal.benchmark;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.service.DebitTransactionServiceImpl;
+import com.example.hexagonal.infrastructure.concurrency.StripedTransactionLocks;
+import com.example.hexagonal.infrastructure.observability.CommandTracePersistTimer;
+import com.example.hexagonal.infrastructure.persistence.dynamodb.adapter.DynamoDbMockAdapter;
+import com.example.hexagonal.infrastructure.projection.CompanyTransactionProjection;
+import com.example.hexagonal.infrastructure.retry.RetryBackoffPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreateDebitTransactionBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1234.56");
+
+    private DynamoDbMockAdapter store;
+    private DebitTransactionServiceImpl service;
+    private LocalDateTime scheduledDate;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        store = new DynamoDbMockAdapter();
+        service = new DebitTransactionServiceImpl(store, BenchmarkFixtures.metrics(),
+                new StripedTransactionLocks(new SimpleMeterRegistry(), 1024, 5000),
+                new RetryBackoffPolicy(3, 60, 3600),
+                new CompanyTransactionProjection(new SimpleMeterRegistry(), false, 1440, 1000), new CommandTracePersistTimer());
+        scheduledDate = LocalDateTime.now().plusDays(1);
+    }
+
+    @Benchmark
+    public DebitTransaction buildTransaction() {
+        return BenchmarkFixtures.transaction(sequence.incrementAndGet(), 1000);
+    }
+
+    @Benchmark
+    public DebitTransaction createDebitTransaction() {
+        int company = sequence.incrementAndGet() % 1000;
+        return service.createDebitTransaction("company-" + company, "12.345.678/0001-90", "Company " + company,
+                "account-" + company, AMOUNT, "Mensalidade", scheduledDate, "corr-" + company);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.hexagonal.benchmark;
+
+import com.example.hexagonal.infrastructure.concurrency.BoundedVirtualThreadExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExecutorModeBenchmark {
+
+    private static final int TASKS = 1000;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"1"})
+    public long blockingMillis;
+
+    private Executor executor;
+
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            executor = new BoundedVirtualThreadExecutor("bench-virtual-", 200, 30);
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(50);
+            pool.setMaxPoolSize(200);
+            pool.setQueueCapacity(1000);
+            pool.setThreadNamePrefix("bench-platform-");
+            pool.initialize();
+            executor = pool;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof BoundedVirtualThreadExecutor virtual) {
+            virtual.close();
+        } else if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void blockingCommands() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            futures[i] = CompletableFuture.runAsync(this::simulateIo, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private void simulateIo() {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(blockingMillis));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.hexagonal.benchmark;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.infrastructure.persistence.dynamodb.adapter.DynamoDbMockAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MockStoreIndexBenchmark {
+
+    private static final int COMPANIES = 1000;
+    private static final int MINUTES_PER_DAY = 1440;
+    private static final int SCHEDULER_TICK_LIMIT = 100;
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private DynamoDbMockAdapter store;
+    private UUID[] ids;
+    private LocalDateTime start;
+
+    @Setup
+    public void setUp() {
+        store = new DynamoDbMockAdapter();
+        start = LocalDateTime.now().minusMinutes(1);
+        ids = new UUID[rows];
+        for (int i = 0; i < rows; i++) {
+            DebitTransaction transaction = BenchmarkFixtures.transaction(i, COMPANIES);
+            ids[i] = transaction.getTransactionId();
+            store.save(transaction);
+        }
+    }
+
+    @Benchmark
+    public Optional<DebitTransaction> findById() {
+        return store.findById(ids[ThreadLocalRandom.current().nextInt(rows)]);
+    }
+
+    @Benchmark
+    public List<DebitTransaction> findByCompanyId() {
+        return store.findByCompanyId("company-" + ThreadLocalRandom.current().nextInt(COMPANIES));
+    }
+
+    @Benchmark
+    public long countByCompanyId() {
+        return store.countByCompanyId("company-" + ThreadLocalRandom.current().nextInt(COMPANIES));
+    }
+
+    @Benchmark
+    public List<DebitTransaction> findByScheduledDateBetween() {
+        LocalDateTime from = start.plusMinutes(ThreadLocalRandom.current().nextInt(MINUTES_PER_DAY));
+        return store.findByScheduledDateBetween(from, from.plusMinutes(1), SCHEDULER_TICK_LIMIT);
+    }
+
+    @Benchmark
+    public List<DebitTransaction> findFailedTransactionsForRetry() {
+        return store.findFailedTransactionsForRetry(SCHEDULER_TICK_LIMIT);
+    }
+
+    @Benchmark
+    public long countByStatus() {
+        return store.countByStatus(TransactionStatus.FAILED);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.hexagonal.benchmark;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.infrastructure.persistence.segmentlog.SegmentLogDynamoDbAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+// Durable writes per second; 128 writers stand in for the virtual-thread executor and
+// share group-commit fsyncs, so the score scales with writers per fsync latency.
+// Point -Djava.io.tmpdir at the disk under test; tmpfs makes fsync free.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(128)
+public class SegmentLogWriteBenchmark {
+
+    private static final int COMPANIES = 1000;
+
+    @Param({"true", "false"})
+    public boolean fsync;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private Path directory;
+    private SegmentLogDynamoDbAdapter store;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("segment-log-benchmark");
+        store = new SegmentLogDynamoDbAdapter(new SimpleMeterRegistry(), directory.toString(), 64, fsync, 0.5, 3);
+        store.start();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.shutdown();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public DebitTransaction save() {
+        return store.save(BenchmarkFixtures.transaction(sequence.getAndIncrement(), COMPANIES));
+    }
+}
@@ -1,17 +1,24 @@
 package com.example.hexagonal.config;
 
+import com.example.hexagonal.infrastructure.concurrency.BoundedVirtualThreadExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
     
     @Bean(name = "debitTransactionExecutor")
+    @ConditionalOnProperty(name = "debit.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
     public Executor debitTransactionExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(50);
@@ -25,6 +32,7 @@ public class AsyncConfig {
     }
     
     @Bean(name = "eventPublisherExecutor")
+    @ConditionalOnProperty(name = "debit.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
     public Executor eventPublisherExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(20);
@@ -36,4 +44,31 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+    
+    @Bean(name = "debitCommandExecutor")
+    @ConditionalOnProperty(name = "debit.threads.virtual.enabled", havingValue = "false", matchIfMissing = true)
+    public Executor debitCommandExecutor() {
+        return new SyncTaskExecutor();
+    }
+    
+    @Bean(name = "debitTransactionExecutor")
+    @ConditionalOnProperty(name = "debit.threads.virtual.enabled", havingValue = "true")
+    public BoundedVirtualThreadExecutor virtualDebitTransactionExecutor(
+            @Value("${debit.threads.virtual.transaction-concurrency:200}") int maxConcurrency) {
+        return new BoundedVirtualThreadExecutor("DebitTransaction-", maxConcurrency, 60);
+    }
+    
+    @Bean(name = "eventPublisherExecutor")
+    @ConditionalOnProperty(name = "debit.threads.virtual.enabled", havingValue = "true")
+    public BoundedVirtualThreadExecutor virtualEventPublisherExecutor(
+            @Value("${debit.threads.virtual.event-publisher-concurrency:100}") int maxConcurrency) {
+        return new BoundedVirtualThreadExecutor("EventPublisher-", maxConcurrency, 30);
+    }
+    
+    @Bean(name = "debitCommandExecutor")
+    @ConditionalOnProperty(name = "debit.threads.virtual.enabled", havingValue = "true")
+    public BoundedVirtualThreadExecutor virtualDebitCommandExecutor(
+            @Value("${debit.threads.virtual.command-concurrency:200}") int maxConcurrency) {
+        return new BoundedVirtualThreadExecutor("DebitCommand-", maxConcurrency, 60);
+    }
 }
@@ -1,16 +1,22 @@
 package com.example.hexagonal.config;
 
-import io.awspring.cloud.sqs.config.SqsMessageDrivenChannelAdapterFactory;
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.ListenerMode;
+import io.awspring.cloud.sqs.listener.acknowledgement.handler.AcknowledgementMode;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 public class AwsConfig {
@@ -34,10 +40,45 @@ public class AwsConfig {
                 .build();
     }
     
+    // Replaces the auto-configured client so debit.persistence.dynamodb.endpoint can point it
+    // at LocalStack; without an endpoint it uses the regional one and the default credentials.
+    @Bean
+    @ConditionalOnProperty(name = "debit.persistence.type", havingValue = "dynamodb")
+    public DynamoDbClient dynamoDbClient(@Value("${debit.persistence.dynamodb.endpoint:}") String endpoint) {
+        DynamoDbClientBuilder builder = DynamoDbClient.builder()
+                .region(Region.of(region));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        if (!accessKey.isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(accessKey, secretKey)));
+        }
+        return builder.build();
+    }
+    
     @Bean
     public SqsTemplate sqsTemplate(SqsAsyncClient sqsAsyncClient) {
         return SqsTemplate.builder()
                 .sqsAsyncClient(sqsAsyncClient)
                 .build();
     }
+    
+    @Bean
+    @ConditionalOnProperty(name = "debit.sqs.batch.enabled", havingValue = "true")
+    public SqsMessageListenerContainerFactory<String> batchSqsListenerContainerFactory(
+            SqsAsyncClient sqsAsyncClient,
+            @Value("${debit.sqs.batch.max-messages-per-poll:10}") int maxMessagesPerPoll,
+            @Value("${spring.cloud.aws.sqs.listener.max-concurrent-messages:10}") int maxConcurrentMessages,
+            @Value("${debit.sqs.batch.poll-timeout-seconds:10}") int pollTimeoutSeconds) {
+        return SqsMessageListenerContainerFactory.<String>builder()
+                .sqsAsyncClient(sqsAsyncClient)
+                .configure(options -> options
+                        .listenerMode(ListenerMode.BATCH)
+                        .maxConcurrentMessages(maxConcurrentMessages)
+                        .maxMessagesPerPoll(maxMessagesPerPoll)
+                        .pollTimeout(Duration.ofSeconds(pollTimeoutSeconds))
+                        .acknowledgementMode(AcknowledgementMode.MANUAL))
+                .build();
+    }
 }
@@ -41,6 +41,24 @@ public class ObservabilityConfig {
                 .register(meterRegistry);
     }
     
+    @Bean
+    public Counter debitTransactionConflictRetriedCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("debit.transactions.version.conflicts")
+                .description("Number of debit transaction writes rejected by a concurrent update")
+                .tag("service", "hexagonal-debit-service")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+    }
+    
+    @Bean
+    public Counter debitTransactionConflictExhaustedCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("debit.transactions.version.conflicts")
+                .description("Number of debit transaction writes rejected by a concurrent update")
+                .tag("service", "hexagonal-debit-service")
+                .tag("outcome", "exhausted")
+                .register(meterRegistry);
+    }
+    
     @Bean
     public Timer debitTransactionProcessingTimer(MeterRegistry meterRegistry) {
         return Timer.builder("debit.transactions.processing.time")
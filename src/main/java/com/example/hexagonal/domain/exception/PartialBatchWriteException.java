@@ -0,0 +1,16 @@
+package com.example.hexagonal.domain.exception;
+
+public class PartialBatchWriteException extends RuntimeException {
+
+    private final int persistedCount;
+
+    public PartialBatchWriteException(int persistedCount, Throwable cause) {
+        super(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName(), cause);
+        this.persistedCount = persistedCount;
+    }
+
+    // The first persistedCount items of the batch were stored; none of the others were.
+    public int getPersistedCount() {
+        return persistedCount;
+    }
+}
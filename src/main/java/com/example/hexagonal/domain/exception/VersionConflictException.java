@@ -0,0 +1,27 @@
+package com.example.hexagonal.domain.exception;
+
+import java.util.UUID;
+
+public class VersionConflictException extends RuntimeException {
+
+    private final UUID transactionId;
+    private final Long expectedVersion;
+
+    public VersionConflictException(UUID transactionId, Long expectedVersion) {
+        this(transactionId, expectedVersion, null);
+    }
+
+    public VersionConflictException(UUID transactionId, Long expectedVersion, Throwable cause) {
+        super("Transaction " + transactionId + " was modified concurrently (expected version " + expectedVersion + ")", cause);
+        this.transactionId = transactionId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public UUID getTransactionId() {
+        return transactionId;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -1,13 +1,18 @@
 package com.example.hexagonal.domain.model;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class DebitEvent {
     private UUID eventId;
     private UUID transactionId;
@@ -16,4 +21,7 @@ public class DebitEvent {
     private LocalDateTime timestamp;
     private String correlationId;
     private String companyId;
+    private TransactionStatus status;
+    private TransactionStatus previousStatus;
+    private BigDecimal amount;
 }
@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class DebitTransaction {
     private UUID transactionId;
     private String companyId;
@@ -25,4 +25,5 @@ public class DebitTransaction {
     private LocalDateTime updatedAt;
     private String correlationId;
     private Integer retryCount;
+    private Long version;
 }
@@ -0,0 +1,15 @@
+package com.example.hexagonal.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder(toBuilder = true)
+public class DebitTransactionBatchItemResult {
+    private int index;
+    private boolean success;
+    private UUID transactionId;
+    private String error;
+}
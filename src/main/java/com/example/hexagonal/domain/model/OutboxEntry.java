@@ -8,12 +8,10 @@ import java.util.UUID;
 
 @Data
 @Builder
-public class DebitEvent {
+public class OutboxEntry {
     private UUID eventId;
     private UUID transactionId;
-    private String eventType;
-    private String payload;
-    private LocalDateTime timestamp;
-    private String correlationId;
-    private String companyId;
+    private long sequence;
+    private LocalDateTime createdAt;
+    private DebitEvent event;
 }
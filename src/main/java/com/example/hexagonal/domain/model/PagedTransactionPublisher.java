@@ -0,0 +1,113 @@
+package com.example.hexagonal.domain.model;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Cold publisher over a page cursor: every subscriber gets its own cursor, and signals
+// to one subscriber are serialized by a drain loop that only one executor task runs at
+// a time. The next page is fetched only when the subscriber has demand left.
+final class PagedTransactionPublisher implements Flow.Publisher<DebitTransaction> {
+
+    private final Supplier<TransactionPage.Cursor> cursors;
+    private final Executor executor;
+
+    PagedTransactionPublisher(Supplier<TransactionPage.Cursor> cursors, Executor executor) {
+        this.cursors = cursors;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super DebitTransaction> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new PageSubscription(subscriber, cursors.get()));
+    }
+
+    private final class PageSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super DebitTransaction> subscriber;
+        private final TransactionPage.Cursor cursor;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile boolean terminated;
+        private volatile Throwable invalidRequest;
+
+        private PageSubscription(Flow.Subscriber<? super DebitTransaction> subscriber, TransactionPage.Cursor cursor) {
+            this.subscriber = subscriber;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " items, must be positive");
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            terminated = true;
+        }
+
+        private void scheduleDrain() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    terminate(e);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                while (!terminated) {
+                    if (invalidRequest != null) {
+                        terminate(invalidRequest);
+                    } else if (cursor.isExhausted()) {
+                        complete();
+                    } else if (demand.get() == 0) {
+                        break;
+                    } else {
+                        emitNext();
+                    }
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emitNext() {
+            DebitTransaction next;
+            try {
+                if (!cursor.hasNext()) {
+                    complete();
+                    return;
+                }
+                next = cursor.next();
+            } catch (RuntimeException e) {
+                terminate(e);
+                return;
+            }
+            subscriber.onNext(next);
+            demand.decrementAndGet();
+        }
+
+        private void complete() {
+            terminated = true;
+            subscriber.onComplete();
+        }
+
+        private void terminate(Throwable error) {
+            terminated = true;
+            subscriber.onError(error);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.hexagonal.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// One page of a cursor query. The continuation token is opaque to callers and is null on
+// the last page; a page may hold fewer than pageSize items without being the last one.
+@Data
+@Builder
+public class TransactionPage {
+    private List<DebitTransaction> items;
+    private String continuationToken;
+
+    public boolean hasMore() {
+        return continuationToken != null;
+    }
+
+    public static TransactionPage of(List<DebitTransaction> items, String continuationToken) {
+        return TransactionPage.builder()
+                .items(items)
+                .continuationToken(continuationToken)
+                .build();
+    }
+
+    // Lazily walks the pages returned by fetchPage (called with null for the first page),
+    // holding a single page in memory at a time.
+    public static Stream<DebitTransaction> stream(Function<String, TransactionPage> fetchPage) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Cursor(fetchPage),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    public static Flow.Publisher<DebitTransaction> publisher(Function<String, TransactionPage> fetchPage) {
+        return publisher(fetchPage, Thread::startVirtualThread);
+    }
+
+    // Pages are fetched on the executor only while the subscriber has outstanding demand.
+    public static Flow.Publisher<DebitTransaction> publisher(Function<String, TransactionPage> fetchPage, Executor executor) {
+        return new PagedTransactionPublisher(() -> new Cursor(fetchPage), executor);
+    }
+
+    static final class Cursor implements Iterator<DebitTransaction> {
+
+        private final Function<String, TransactionPage> fetchPage;
+        private Iterator<DebitTransaction> items = Collections.emptyIterator();
+        private String continuationToken;
+        private boolean lastPageFetched;
+
+        Cursor(Function<String, TransactionPage> fetchPage) {
+            this.fetchPage = fetchPage;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!items.hasNext() && !lastPageFetched) {
+                TransactionPage page = fetchPage.apply(continuationToken);
+                items = page.getItems().iterator();
+                continuationToken = page.getContinuationToken();
+                lastPageFetched = continuationToken == null;
+            }
+            return items.hasNext();
+        }
+
+        @Override
+        public DebitTransaction next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items.next();
+        }
+
+        boolean isExhausted() {
+            return lastPageFetched && !items.hasNext();
+        }
+    }
+}
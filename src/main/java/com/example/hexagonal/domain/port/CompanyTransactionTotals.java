@@ -0,0 +1,11 @@
+package com.example.hexagonal.domain.port;
+
+import com.example.hexagonal.domain.model.TransactionStatus;
+
+import java.math.BigDecimal;
+
+public interface CompanyTransactionTotals {
+    boolean isReady();
+    long count(String companyId, TransactionStatus status);
+    BigDecimal totalAmount(String companyId, TransactionStatus status);
+}
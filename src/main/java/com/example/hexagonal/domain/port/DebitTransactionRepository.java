@@ -1,19 +1,49 @@
 package com.example.hexagonal.domain.port;
 
+import com.example.hexagonal.domain.model.DebitEvent;
 import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionPage;
+import com.example.hexagonal.domain.model.TransactionStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 public interface DebitTransactionRepository {
     DebitTransaction save(DebitTransaction transaction);
+    DebitTransaction saveWithEvent(DebitTransaction transaction, DebitEvent event);
+    List<DebitTransaction> saveAll(List<DebitTransaction> transactions);
+    List<DebitTransaction> saveAllWithEvents(List<DebitTransaction> transactions, List<DebitEvent> events);
     Optional<DebitTransaction> findById(UUID transactionId);
+    List<DebitTransaction> findAllById(Collection<UUID> transactionIds);
     List<DebitTransaction> findByCompanyId(String companyId);
     List<DebitTransaction> findByStatus(TransactionStatus status);
+    TransactionPage findByCompanyId(String companyId, int pageSize, String continuationToken);
+    TransactionPage findByStatus(TransactionStatus status, int pageSize, String continuationToken);
     List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+    List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate, int limit);
     List<DebitTransaction> findFailedTransactionsForRetry();
+    List<DebitTransaction> findFailedTransactionsForRetry(int limit);
     void deleteById(UUID transactionId);
     long countByCompanyIdAndStatus(String companyId, TransactionStatus status);
+
+    default Stream<DebitTransaction> streamByCompanyId(String companyId, int pageSize) {
+        return TransactionPage.stream(token -> findByCompanyId(companyId, pageSize, token));
+    }
+
+    default Stream<DebitTransaction> streamByStatus(TransactionStatus status, int pageSize) {
+        return TransactionPage.stream(token -> findByStatus(status, pageSize, token));
+    }
+
+    default Flow.Publisher<DebitTransaction> publishByCompanyId(String companyId, int pageSize) {
+        return TransactionPage.publisher(token -> findByCompanyId(companyId, pageSize, token));
+    }
+
+    default Flow.Publisher<DebitTransaction> publishByStatus(TransactionStatus status, int pageSize) {
+        return TransactionPage.publisher(token -> findByStatus(status, pageSize, token));
+    }
 }
@@ -1,17 +1,24 @@
 package com.example.hexagonal.domain.port;
 
 import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.DebitTransactionBatchItemResult;
+import com.example.hexagonal.domain.model.TransactionPage;
+import com.example.hexagonal.domain.model.TransactionStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 public interface DebitTransactionService {
     DebitTransaction createDebitTransaction(String companyId, String companyDocument, String companyName, 
                                           String bankAccountId, BigDecimal amount, String description, 
                                           LocalDateTime scheduledDate, String correlationId);
     
+    List<DebitTransactionBatchItemResult> createDebitTransactions(List<DebitTransaction> drafts);
+    
     DebitTransaction processDebitTransaction(UUID transactionId);
     
     DebitTransaction retryFailedTransaction(UUID transactionId);
@@ -24,9 +31,23 @@ public interface DebitTransactionService {
     
     List<DebitTransaction> getTransactionsByStatus(TransactionStatus status);
     
+    TransactionPage getTransactionsByCompanyId(String companyId, int pageSize, String continuationToken);
+    
+    TransactionPage getTransactionsByStatus(TransactionStatus status, int pageSize, String continuationToken);
+    
+    Stream<DebitTransaction> streamTransactionsByCompanyId(String companyId);
+    
+    Stream<DebitTransaction> streamTransactionsByStatus(TransactionStatus status);
+    
+    Flow.Publisher<DebitTransaction> publishTransactionsByCompanyId(String companyId);
+    
+    Flow.Publisher<DebitTransaction> publishTransactionsByStatus(TransactionStatus status);
+    
     List<DebitTransaction> getScheduledTransactions(LocalDateTime startDate, LocalDateTime endDate);
     
     List<DebitTransaction> getFailedTransactionsForRetry();
     
     long getTransactionCountByCompanyAndStatus(String companyId, TransactionStatus status);
+    
+    BigDecimal getTransactionAmountByCompanyAndStatus(String companyId, TransactionStatus status);
 }
@@ -2,6 +2,17 @@ package com.example.hexagonal.domain.port;
 
 import com.example.hexagonal.domain.model.DebitEvent;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface EventPublisher {
     void publish(DebitEvent event);
+    
+    default CompletableFuture<Void> publishAsync(DebitEvent event) {
+        try {
+            publish(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
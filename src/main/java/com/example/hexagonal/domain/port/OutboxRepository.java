@@ -0,0 +1,15 @@
+package com.example.hexagonal.domain.port;
+
+import com.example.hexagonal.domain.model.OutboxEntry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxRepository {
+    List<OutboxEntry> findPending(int limit);
+    boolean claim(UUID eventId, String owner, Duration lease);
+    void markPublished(Collection<UUID> eventIds);
+    long countPending();
+}
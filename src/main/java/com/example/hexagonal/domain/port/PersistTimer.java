@@ -0,0 +1,7 @@
+package com.example.hexagonal.domain.port;
+
+import java.util.function.Supplier;
+
+public interface PersistTimer {
+    <R> R time(Supplier<R> write);
+}
@@ -0,0 +1,5 @@
+package com.example.hexagonal.domain.port;
+
+public interface RetryPolicy {
+    boolean canRetry(Integer retryCount);
+}
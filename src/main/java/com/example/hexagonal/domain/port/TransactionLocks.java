@@ -0,0 +1,8 @@
+package com.example.hexagonal.domain.port;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public interface TransactionLocks {
+    <T> T withLock(UUID transactionId, Supplier<T> action);
+}
@@ -1,28 +1,54 @@
 package com.example.hexagonal.domain.service;
 
+import com.example.hexagonal.domain.exception.PartialBatchWriteException;
+import com.example.hexagonal.domain.exception.VersionConflictException;
 import com.example.hexagonal.domain.model.DebitTransaction;
 import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.DebitTransactionBatchItemResult;
+import com.example.hexagonal.domain.model.TransactionPage;
 import com.example.hexagonal.domain.model.TransactionStatus;
-import com.example.hexagonal.domain.port.EventPublisher;
+import com.example.hexagonal.domain.port.CompanyTransactionTotals;
 import com.example.hexagonal.domain.port.DebitTransactionRepository;
 import com.example.hexagonal.domain.port.DebitTransactionService;
+import com.example.hexagonal.domain.port.PersistTimer;
+import com.example.hexagonal.domain.port.RetryPolicy;
+import com.example.hexagonal.domain.port.TransactionLocks;
 import com.example.hexagonal.infrastructure.observability.DebitTransactionMetrics;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class DebitTransactionServiceImpl implements DebitTransactionService {
     
+    private static final int MAX_VERSION_CONFLICT_ATTEMPTS = 3;
+    
     private final DebitTransactionRepository transactionRepository;
-    private final EventPublisher eventPublisher;
     private final DebitTransactionMetrics debitTransactionMetrics;
+    private final TransactionLocks transactionLocks;
+    private final RetryPolicy retryPolicy;
+    private final CompanyTransactionTotals projection;
+    private final PersistTimer persistTimer;
+    
+    @Value("${debit.performance.batch-size:100}")
+    private int batchSize = 100;
+    
+    @Value("${debit.query.max-page-size:1000}")
+    private int maxPageSize = 1000;
+    
+    @Value("${debit.query.stream-page-size:500}")
+    private int streamPageSize = 500;
     
     @Override
     public DebitTransaction createDebitTransaction(String companyId, String companyDocument, String companyName, 
@@ -47,20 +73,9 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
                     .retryCount(0)
                     .build();
             
-            DebitTransaction savedTransaction = transactionRepository.save(transaction);
-            
-            DebitEvent event = DebitEvent.builder()
-                    .eventId(UUID.randomUUID())
-                    .transactionId(savedTransaction.getTransactionId())
-                    .eventType("DEBIT_TRANSACTION_CREATED")
-                    .payload(String.format("Debit transaction %s created for company %s", 
-                            savedTransaction.getTransactionId(), companyId))
-                    .timestamp(LocalDateTime.now())
-                    .correlationId(correlationId)
-                    .companyId(companyId)
-                    .build();
+            DebitEvent event = createdEvent(transaction);
             
-            eventPublisher.publish(event);
+            DebitTransaction savedTransaction = persistTimer.time(() -> transactionRepository.saveWithEvent(transaction, event));
             debitTransactionMetrics.recordDebitTransactionCreated();
             
             return savedTransaction;
@@ -69,8 +84,65 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
         }
     }
     
+    @Override
+    public List<DebitTransactionBatchItemResult> createDebitTransactions(List<DebitTransaction> drafts) {
+        List<DebitTransactionBatchItemResult> results = new ArrayList<>(drafts.size());
+        
+        for (int from = 0; from < drafts.size(); from += batchSize) {
+            List<DebitTransaction> chunk = drafts.subList(from, Math.min(from + batchSize, drafts.size()));
+            LocalDateTime now = LocalDateTime.now();
+            List<DebitTransaction> transactions = new ArrayList<>(chunk.size());
+            List<DebitEvent> events = new ArrayList<>(chunk.size());
+            for (DebitTransaction draft : chunk) {
+                DebitTransaction transaction = draft.toBuilder()
+                        .transactionId(UUID.randomUUID())
+                        .status(TransactionStatus.PENDING)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .retryCount(0)
+                        .version(null)
+                        .build();
+                transactions.add(transaction);
+                events.add(createdEvent(transaction));
+            }
+            
+            // The repository stores items in atomic groups; on a partial failure only the
+            // items it reports as persisted are successes.
+            int persisted = transactions.size();
+            String error = null;
+            try {
+                persistTimer.time(() -> transactionRepository.saveAllWithEvents(transactions, events));
+            } catch (PartialBatchWriteException e) {
+                persisted = e.getPersistedCount();
+                error = e.getMessage();
+            } catch (RuntimeException e) {
+                persisted = 0;
+                error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            }
+            
+            for (int i = 0; i < transactions.size(); i++) {
+                boolean success = i < persisted;
+                results.add(DebitTransactionBatchItemResult.builder()
+                        .index(from + i)
+                        .success(success)
+                        .transactionId(success ? transactions.get(i).getTransactionId() : null)
+                        .error(success ? null : error)
+                        .build());
+                if (success) {
+                    debitTransactionMetrics.recordDebitTransactionCreated();
+                }
+            }
+        }
+        
+        return results;
+    }
+    
     @Override
     public DebitTransaction processDebitTransaction(UUID transactionId) {
+        return withConflictRetry(transactionId, () -> processDebitTransactionLocked(transactionId));
+    }
+    
+    private DebitTransaction processDebitTransactionLocked(UUID transactionId) {
         DebitTransaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new RuntimeException("Transaction not found"));
         
@@ -79,11 +151,10 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
             throw new RuntimeException("Transaction cannot be processed in current status: " + transaction.getStatus());
         }
         
+        TransactionStatus previousStatus = transaction.getStatus();
         transaction.setStatus(TransactionStatus.PROCESSING);
         transaction.setUpdatedAt(LocalDateTime.now());
         
-        DebitTransaction updatedTransaction = transactionRepository.save(transaction);
-        
         DebitEvent event = DebitEvent.builder()
                 .eventId(UUID.randomUUID())
                 .transactionId(transactionId)
@@ -92,9 +163,12 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
                 .timestamp(LocalDateTime.now())
                 .correlationId(transaction.getCorrelationId())
                 .companyId(transaction.getCompanyId())
+                .status(transaction.getStatus())
+                .previousStatus(previousStatus)
+                .amount(transaction.getAmount())
                 .build();
         
-        eventPublisher.publish(event);
+        DebitTransaction updatedTransaction = persistTimer.time(() -> transactionRepository.saveWithEvent(transaction, event));
         debitTransactionMetrics.recordDebitTransactionProcessed();
         
         return updatedTransaction;
@@ -102,6 +176,10 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
     
     @Override
     public DebitTransaction retryFailedTransaction(UUID transactionId) {
+        return withConflictRetry(transactionId, () -> retryFailedTransactionLocked(transactionId));
+    }
+    
+    private DebitTransaction retryFailedTransactionLocked(UUID transactionId) {
         DebitTransaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new RuntimeException("Transaction not found"));
         
@@ -109,16 +187,15 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
             throw new RuntimeException("Only failed transactions can be retried");
         }
         
-        if (transaction.getRetryCount() >= 3) {
+        if (!retryPolicy.canRetry(transaction.getRetryCount())) {
             throw new RuntimeException("Maximum retry attempts exceeded");
         }
         
+        TransactionStatus previousStatus = transaction.getStatus();
         transaction.setStatus(TransactionStatus.RETRYING);
         transaction.setRetryCount(transaction.getRetryCount() + 1);
         transaction.setUpdatedAt(LocalDateTime.now());
         
-        DebitTransaction updatedTransaction = transactionRepository.save(transaction);
-        
         DebitEvent event = DebitEvent.builder()
                 .eventId(UUID.randomUUID())
                 .transactionId(transactionId)
@@ -128,15 +205,22 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
                 .timestamp(LocalDateTime.now())
                 .correlationId(transaction.getCorrelationId())
                 .companyId(transaction.getCompanyId())
+                .status(transaction.getStatus())
+                .previousStatus(previousStatus)
+                .amount(transaction.getAmount())
                 .build();
         
-        eventPublisher.publish(event);
+        DebitTransaction updatedTransaction = persistTimer.time(() -> transactionRepository.saveWithEvent(transaction, event));
         
         return updatedTransaction;
     }
     
     @Override
     public DebitTransaction cancelTransaction(UUID transactionId, String reason) {
+        return withConflictRetry(transactionId, () -> cancelTransactionLocked(transactionId, reason));
+    }
+    
+    private DebitTransaction cancelTransactionLocked(UUID transactionId, String reason) {
         DebitTransaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new RuntimeException("Transaction not found"));
         
@@ -144,12 +228,11 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
             throw new RuntimeException("Cannot cancel processed transaction");
         }
         
+        TransactionStatus previousStatus = transaction.getStatus();
         transaction.setStatus(TransactionStatus.CANCELLED);
         transaction.setFailureReason(reason);
         transaction.setUpdatedAt(LocalDateTime.now());
         
-        DebitTransaction updatedTransaction = transactionRepository.save(transaction);
-        
         DebitEvent event = DebitEvent.builder()
                 .eventId(UUID.randomUUID())
                 .transactionId(transactionId)
@@ -158,13 +241,47 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
                 .timestamp(LocalDateTime.now())
                 .correlationId(transaction.getCorrelationId())
                 .companyId(transaction.getCompanyId())
+                .status(transaction.getStatus())
+                .previousStatus(previousStatus)
+                .amount(transaction.getAmount())
                 .build();
         
-        eventPublisher.publish(event);
+        DebitTransaction updatedTransaction = persistTimer.time(() -> transactionRepository.saveWithEvent(transaction, event));
         
         return updatedTransaction;
     }
     
+    private DebitEvent createdEvent(DebitTransaction transaction) {
+        return DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transaction.getTransactionId())
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .payload(String.format("Debit transaction %s created for company %s", 
+                        transaction.getTransactionId(), transaction.getCompanyId()))
+                .timestamp(LocalDateTime.now())
+                .correlationId(transaction.getCorrelationId())
+                .companyId(transaction.getCompanyId())
+                .status(transaction.getStatus())
+                .amount(transaction.getAmount())
+                .build();
+    }
+    
+    // The striped lock only serializes this instance; other replicas are caught by the
+    // repository's version check, and the transition is re-run against the fresh state.
+    private DebitTransaction withConflictRetry(UUID transactionId, Supplier<DebitTransaction> transition) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionLocks.withLock(transactionId, transition);
+            } catch (VersionConflictException e) {
+                if (attempt >= MAX_VERSION_CONFLICT_ATTEMPTS) {
+                    debitTransactionMetrics.recordVersionConflictExhausted();
+                    throw e;
+                }
+                debitTransactionMetrics.recordVersionConflictRetried();
+            }
+        }
+    }
+    
     @Override
     public DebitTransaction getTransactionById(UUID transactionId) {
         return transactionRepository.findById(transactionId)
@@ -181,6 +298,36 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
         return transactionRepository.findByStatus(status);
     }
     
+    @Override
+    public TransactionPage getTransactionsByCompanyId(String companyId, int pageSize, String continuationToken) {
+        return transactionRepository.findByCompanyId(companyId, validPageSize(pageSize), continuationToken);
+    }
+    
+    @Override
+    public TransactionPage getTransactionsByStatus(TransactionStatus status, int pageSize, String continuationToken) {
+        return transactionRepository.findByStatus(status, validPageSize(pageSize), continuationToken);
+    }
+    
+    @Override
+    public Stream<DebitTransaction> streamTransactionsByCompanyId(String companyId) {
+        return transactionRepository.streamByCompanyId(companyId, streamPageSize);
+    }
+    
+    @Override
+    public Stream<DebitTransaction> streamTransactionsByStatus(TransactionStatus status) {
+        return transactionRepository.streamByStatus(status, streamPageSize);
+    }
+    
+    @Override
+    public Flow.Publisher<DebitTransaction> publishTransactionsByCompanyId(String companyId) {
+        return transactionRepository.publishByCompanyId(companyId, streamPageSize);
+    }
+    
+    @Override
+    public Flow.Publisher<DebitTransaction> publishTransactionsByStatus(TransactionStatus status) {
+        return transactionRepository.publishByStatus(status, streamPageSize);
+    }
+    
     @Override
     public List<DebitTransaction> getScheduledTransactions(LocalDateTime startDate, LocalDateTime endDate) {
         return transactionRepository.findByScheduledDateBetween(startDate, endDate);
@@ -193,6 +340,29 @@ public class DebitTransactionServiceImpl implements DebitTransactionService {
     
     @Override
     public long getTransactionCountByCompanyAndStatus(String companyId, TransactionStatus status) {
+        if (projection.isReady()) {
+            return projection.count(companyId, status);
+        }
         return transactionRepository.countByCompanyIdAndStatus(companyId, status);
     }
+    
+    @Override
+    public BigDecimal getTransactionAmountByCompanyAndStatus(String companyId, TransactionStatus status) {
+        if (projection.isReady()) {
+            return projection.totalAmount(companyId, status);
+        }
+        try (Stream<DebitTransaction> transactions = transactionRepository.streamByCompanyId(companyId, streamPageSize)) {
+            return transactions
+                    .filter(transaction -> transaction.getStatus() == status && transaction.getAmount() != null)
+                    .map(DebitTransaction::getAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+    }
+    
+    private int validPageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ": " + pageSize);
+        }
+        return pageSize;
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.hexagonal.infrastructure.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class BoundedVirtualThreadExecutor implements TaskExecutor, AutoCloseable {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+    private final long awaitTerminationSeconds;
+    private volatile boolean closed;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, long awaitTerminationSeconds) {
+        this.name = threadNamePrefix;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (closed) {
+            throw new TaskRejectedException("Executor " + name + " is shut down");
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("Interrupted while waiting for a " + name + " permit", e);
+        }
+
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw new TaskRejectedException("Failed to start " + name + " virtual thread", e);
+        }
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            if (permits.tryAcquire(maxConcurrency, awaitTerminationSeconds, TimeUnit.SECONDS)) {
+                permits.release(maxConcurrency);
+            } else {
+                log.warn("Timed out waiting for {} running {} tasks to complete", getActiveCount(), name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.hexagonal.infrastructure.concurrency;
+
+import com.example.hexagonal.domain.port.TransactionLocks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+public class StripedTransactionLocks implements TransactionLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long acquireTimeoutMillis;
+
+    private final Timer lockWaitTimer;
+    private final Counter contendedCounter;
+    private final Counter timeoutCounter;
+
+    public StripedTransactionLocks(MeterRegistry meterRegistry,
+                                   @Value("${debit.locks.stripes:1024}") int stripes,
+                                   @Value("${debit.locks.acquire-timeout-ms:5000}") long acquireTimeoutMillis) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+
+        this.lockWaitTimer = Timer.builder("debit.transaction.lock.wait")
+                .description("Time spent waiting for the per-transaction lock")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.contendedCounter = lockCounter(meterRegistry, "contended");
+        this.timeoutCounter = lockCounter(meterRegistry, "timeout");
+        Gauge.builder("debit.transaction.lock.queue.depth", this, StripedTransactionLocks::queueDepth)
+                .description("Threads currently waiting on per-transaction locks")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T withLock(UUID transactionId, Supplier<T> action) {
+        ReentrantLock lock = stripeFor(transactionId);
+        acquire(lock, transactionId);
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    int queueDepth() {
+        int waiting = 0;
+        for (ReentrantLock stripe : stripes) {
+            waiting += stripe.getQueueLength();
+        }
+        return waiting;
+    }
+
+    private void acquire(ReentrantLock lock, UUID transactionId) {
+        // Only contended acquires are timed; the uncontended fast path records nothing.
+        if (lock.tryLock()) {
+            return;
+        }
+
+        contendedCounter.increment();
+        long start = System.nanoTime();
+        try {
+            boolean acquired = lock.tryLock(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            lockWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                timeoutCounter.increment();
+                throw new RuntimeException("Timed out waiting for lock on transaction " + transactionId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for lock on transaction " + transactionId, e);
+        }
+    }
+
+    private ReentrantLock stripeFor(UUID transactionId) {
+        int hash = transactionId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static Counter lockCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("debit.transaction.lock.acquisitions")
+                .description("Per-transaction lock acquisitions that had to wait")
+                .tag("service", "hexagonal-debit-service")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.hexagonal.infrastructure.messaging.adapter;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.port.EventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@ConditionalOnProperty(name = "debit.events.publisher", havingValue = "sqs-batch")
+@RequiredArgsConstructor
+@Slf4j
+public class BatchingSqsEventPublisherAdapter implements EventPublisher {
+
+    static final int MAX_BATCH_ENTRIES = 10;
+    // SQS caps the summed body size of one SendMessageBatch, and each message, at 256 KiB.
+    static final int MAX_BATCH_PAYLOAD_BYTES = 256 * 1024;
+
+    private final SqsAsyncClient sqsAsyncClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.cloud.aws.sqs.queue-name:debit-events}")
+    private String queueName;
+
+    @Value("${debit.events.batch.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${debit.events.batch.linger-ms:20}")
+    private long lingerMs;
+
+    @Value("${debit.events.batch.offer-timeout-ms:500}")
+    private long offerTimeoutMs;
+
+    @Value("${debit.events.batch.max-in-flight-batches:16}")
+    private int maxInFlightBatches;
+
+    @Value("${debit.events.batch.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    private BlockingQueue<PendingEvent> buffer;
+    private Semaphore inFlightBatches;
+    private DistributionSummary batchSizeSummary;
+    private Thread sender;
+    private volatile String queueUrl;
+    private volatile boolean running;
+    // Offers hold the read lock across the running check, shutdown flips running under the
+    // write lock, so no event lands in the buffer after the sender has seen it stop.
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        inFlightBatches = new Semaphore(maxInFlightBatches);
+        batchSizeSummary = DistributionSummary.builder("debit.events.publish.batch.size")
+                .description("Number of events per SendMessageBatch call")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        Gauge.builder("debit.events.publish.buffer.size", buffer, BlockingQueue::size)
+                .description("Events waiting to be published")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+
+        running = true;
+        sender = new Thread(this::drainBuffer, "EventPublisher-batch-sender");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    // Waits for the batch carrying the event, so callers keep the synchronous contract of
+    // SqsEventPublisherAdapter: a failed send is thrown, never only logged.
+    @Override
+    public void publish(DebitEvent event) {
+        try {
+            publishAsync(event).join();
+        } catch (CompletionException e) {
+            log.error("Failed to publish event: {} for transaction: {}",
+                    event.getEventType(), event.getTransactionId(), e.getCause());
+            throw new RuntimeException("Failed to publish event", e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(DebitEvent event) {
+        PendingEvent pending = new PendingEvent(event, new CompletableFuture<>());
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Event publisher is shut down"));
+            }
+            if (!buffer.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return CompletableFuture.failedFuture(
+                        new RuntimeException("Event buffer full, rejecting event " + event.getEventId()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+        return pending.future();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lifecycleLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        try {
+            sender.join(TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds));
+            if (!inFlightBatches.tryAcquire(maxInFlightBatches, shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("Timed out waiting for in-flight event batches to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        PendingEvent leftover;
+        while ((leftover = buffer.poll()) != null) {
+            leftover.future().completeExceptionally(new IllegalStateException("Event publisher is shut down"));
+        }
+        log.info("Batching event publisher stopped");
+    }
+
+    // A batch closes at MAX_BATCH_ENTRIES, when the linger expires, or when the next body would
+    // push it past MAX_BATCH_PAYLOAD_BYTES; that event then opens the following batch.
+    private void drainBuffer() {
+        List<OutgoingEvent> batch = new ArrayList<>(MAX_BATCH_ENTRIES);
+        OutgoingEvent carried = null;
+        long lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+
+        while (running || !buffer.isEmpty() || carried != null) {
+            try {
+                OutgoingEvent first = carried;
+                carried = null;
+                if (first == null) {
+                    PendingEvent pending = buffer.poll(100, TimeUnit.MILLISECONDS);
+                    first = pending != null ? serialize(pending) : null;
+                    if (first == null) {
+                        continue;
+                    }
+                }
+                batch.add(first);
+                int batchBytes = first.size();
+
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < MAX_BATCH_ENTRIES) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingEvent pending = remaining > 0 ? buffer.poll(remaining, TimeUnit.NANOSECONDS) : buffer.poll();
+                    if (pending == null) {
+                        break;
+                    }
+                    OutgoingEvent next = serialize(pending);
+                    if (next == null) {
+                        continue;
+                    }
+                    if (batchBytes + next.size() > MAX_BATCH_PAYLOAD_BYTES) {
+                        carried = next;
+                        break;
+                    }
+                    batch.add(next);
+                    batchBytes += next.size();
+                }
+
+                sendBatch(List.copyOf(batch));
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(outgoing -> outgoing.pending().future().completeExceptionally(e));
+                if (carried != null) {
+                    carried.pending().future().completeExceptionally(e);
+                }
+                return;
+            } catch (Exception e) {
+                log.error("Failed to send event batch", e);
+                batch.forEach(outgoing -> outgoing.pending().future().completeExceptionally(e));
+                batch.clear();
+            }
+        }
+    }
+
+    private OutgoingEvent serialize(PendingEvent pending) {
+        try {
+            String body = objectMapper.writeValueAsString(pending.event());
+            int size = body.getBytes(StandardCharsets.UTF_8).length;
+            if (size > MAX_BATCH_PAYLOAD_BYTES) {
+                pending.future().completeExceptionally(new IllegalArgumentException("Event " + pending.event().getEventId()
+                        + " is " + size + " bytes, above the SQS limit of " + MAX_BATCH_PAYLOAD_BYTES));
+                return null;
+            }
+            return new OutgoingEvent(pending, body, size);
+        } catch (Exception e) {
+            pending.future().completeExceptionally(e);
+            return null;
+        }
+    }
+
+    private void sendBatch(List<OutgoingEvent> batch) throws InterruptedException {
+        Map<String, PendingEvent> byEntryId = new HashMap<>();
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            String entryId = String.valueOf(i);
+            entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(entryId)
+                    .messageBody(batch.get(i).body())
+                    .build());
+            byEntryId.put(entryId, batch.get(i).pending());
+        }
+
+        SendMessageBatchRequest request;
+        try {
+            request = SendMessageBatchRequest.builder()
+                    .queueUrl(resolveQueueUrl())
+                    .entries(entries)
+                    .build();
+        } catch (RuntimeException e) {
+            failEntries(byEntryId, e);
+            return;
+        }
+
+        inFlightBatches.acquire();
+        batchSizeSummary.record(entries.size());
+
+        CompletableFuture<SendMessageBatchResponse> sent;
+        try {
+            sent = sqsAsyncClient.sendMessageBatch(request);
+        } catch (RuntimeException e) {
+            inFlightBatches.release();
+            failEntries(byEntryId, e);
+            return;
+        }
+
+        sent.whenComplete((response, error) -> {
+            inFlightBatches.release();
+            if (error != null) {
+                failEntries(byEntryId, error);
+            } else {
+                completeEntries(response, byEntryId);
+            }
+        });
+    }
+
+    private void failEntries(Map<String, PendingEvent> byEntryId, Throwable error) {
+        log.error("SendMessageBatch failed for {} events", byEntryId.size(), error);
+        byEntryId.values().forEach(pending -> pending.future().completeExceptionally(error));
+    }
+
+    private void completeEntries(SendMessageBatchResponse response, Map<String, PendingEvent> byEntryId) {
+        response.successful().forEach(entry -> {
+            PendingEvent pending = byEntryId.get(entry.id());
+            if (pending != null) {
+                pending.future().complete(null);
+            }
+        });
+
+        for (BatchResultErrorEntry failure : response.failed()) {
+            PendingEvent pending = byEntryId.get(failure.id());
+            if (pending != null) {
+                log.error("Failed to publish event: {} for transaction: {} ({}: {})",
+                        pending.event().getEventType(), pending.event().getTransactionId(),
+                        failure.code(), failure.message());
+                pending.future().completeExceptionally(
+                        new RuntimeException("Failed to publish event: " + failure.code() + " " + failure.message()));
+            }
+        }
+    }
+
+    private String resolveQueueUrl() {
+        String url = queueUrl;
+        if (url == null) {
+            url = sqsAsyncClient.getQueueUrl(request -> request.queueName(queueName)).join().queueUrl();
+            queueUrl = url;
+        }
+        return url;
+    }
+
+    private record PendingEvent(DebitEvent event, CompletableFuture<Void> future) {
+    }
+
+    private record OutgoingEvent(PendingEvent pending, String body, int size) {
+    }
+}
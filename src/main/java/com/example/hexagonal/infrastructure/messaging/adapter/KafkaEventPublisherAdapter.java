@@ -0,0 +1,149 @@
+package com.example.hexagonal.infrastructure.messaging.adapter;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.port.EventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "debit.events.publisher", havingValue = "kafka")
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaEventPublisherAdapter implements EventPublisher {
+
+    static final String EVENT_TYPE_HEADER = "eventType";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${debit.events.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${debit.events.kafka.topic:debit-events}")
+    private String topic;
+
+    @Value("${debit.events.kafka.partition-key:company}")
+    private String partitionKey;
+
+    @Value("${debit.events.kafka.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${debit.events.kafka.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${debit.events.kafka.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${debit.events.kafka.delivery-timeout-ms:120000}")
+    private int deliveryTimeoutMs;
+
+    private DefaultKafkaProducerFactory<String, String> producerFactory;
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private Timer successTimer;
+    private Timer failureTimer;
+
+    @PostConstruct
+    public void start() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.CLIENT_ID_CONFIG, "hexagonal-debit-service-events");
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
+
+        producerFactory = new DefaultKafkaProducerFactory<>(config);
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry,
+                List.of(Tag.of("service", "hexagonal-debit-service"))));
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+        successTimer = sendTimer("success");
+        failureTimer = sendTimer("failure");
+        log.info("Kafka event publisher started for topic {} keyed by {}", topic, partitionKey);
+    }
+
+    @Override
+    public void publish(DebitEvent event) {
+        publishAsync(event).whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.error("Failed to publish event: {} for transaction: {}",
+                        event.getEventType(), event.getTransactionId(), error);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(DebitEvent event) {
+        ProducerRecord<String, String> record;
+        try {
+            record = new ProducerRecord<>(topic, key(event), objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (event.getEventType() != null) {
+            record.headers().add(EVENT_TYPE_HEADER, event.getEventType().getBytes(StandardCharsets.UTF_8));
+        }
+
+        long start = System.nanoTime();
+        return kafkaTemplate.send(record)
+                .whenComplete((result, error) -> (error == null ? successTimer : failureTimer)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                .thenAccept(result -> log.debug("Event {} written to {}-{}@{}", event.getEventId(),
+                        result.getRecordMetadata().topic(), result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (kafkaTemplate == null) {
+            return;
+        }
+        kafkaTemplate.flush();
+        producerFactory.destroy();
+        log.info("Kafka event publisher stopped");
+    }
+
+    String key(DebitEvent event) {
+        if ("company".equals(partitionKey) && event.getCompanyId() != null) {
+            return event.getCompanyId();
+        }
+        return event.getTransactionId() != null ? event.getTransactionId().toString() : null;
+    }
+
+    private Timer sendTimer(String outcome) {
+        return Timer.builder("debit.events.publish.latency")
+                .description("Time from send until the broker acknowledges the event")
+                .tag("service", "hexagonal-debit-service")
+                .tag("publisher", "kafka")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,30 +1,32 @@
 package com.example.hexagonal.infrastructure.messaging.adapter;
 
-import com.example.hexagonal.domain.model.OrderEvent;
+import com.example.hexagonal.domain.model.DebitEvent;
 import com.example.hexagonal.domain.port.EventPublisher;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "debit.events.publisher", havingValue = "sqs", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class SqsEventPublisherAdapter implements EventPublisher {
     
     private final SqsTemplate sqsTemplate;
     
-    @Value("${aws.sqs.queue-name:order-events}")
+    @Value("${spring.cloud.aws.sqs.queue-name:debit-events}")
     private String queueName;
     
     @Override
-    public void publish(OrderEvent event) {
+    public void publish(DebitEvent event) {
         try {
             sqsTemplate.send(queueName, event);
-            log.info("Event published successfully: {} for order: {}", event.getEventType(), event.getOrderId());
+            log.info("Event published successfully: {} for transaction: {}", event.getEventType(), event.getTransactionId());
         } catch (Exception e) {
-            log.error("Failed to publish event: {} for order: {}", event.getEventType(), event.getOrderId(), e);
+            log.error("Failed to publish event: {} for transaction: {}", event.getEventType(), event.getTransactionId(), e);
             throw new RuntimeException("Failed to publish event", e);
         }
     }
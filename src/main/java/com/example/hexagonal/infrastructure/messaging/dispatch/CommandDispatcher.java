@@ -0,0 +1,41 @@
+package com.example.hexagonal.infrastructure.messaging.dispatch;
+
+import com.example.hexagonal.infrastructure.messaging.handler.CommandHandler;
+import com.example.hexagonal.infrastructure.messaging.idempotency.IdempotentCommandGuard;
+import com.example.hexagonal.infrastructure.messaging.registry.CommandHandlerRegistry;
+import com.example.hexagonal.infrastructure.observability.CommandMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommandDispatcher {
+
+    private final CommandHandlerRegistry commandHandlerRegistry;
+    private final IdempotentCommandGuard idempotentCommandGuard;
+    private final FairCommandScheduler fairCommandScheduler;
+    private final CommandMetrics commandMetrics;
+
+    public String dispatch(CommandEnvelope envelope) {
+        return dispatch(envelope, 0);
+    }
+
+    // sentTimestampMillis is when the broker accepted the message (0 if unknown), used for queue lag.
+    public String dispatch(CommandEnvelope envelope, long sentTimestampMillis) {
+        CommandHandler<?> handler = commandHandlerRegistry.getHandler(envelope.getCommandType());
+        if (handler == null) {
+            log.warn("Unknown command type: {}. Supported types: {}",
+                    envelope.getCommandType(),
+                    commandHandlerRegistry.getSupportedCommandTypes());
+            return null;
+        }
+
+        commandMetrics.recordQueueLag(handler.getCommandType(), sentTimestampMillis);
+        return idempotentCommandGuard.execute(envelope.getCommandType(), envelope.getPayload(),
+                () -> fairCommandScheduler.execute(envelope.getPayload(),
+                        () -> commandMetrics.trace(handler.getCommandType(),
+                                () -> handler.processCommand(envelope.getPayload()))));
+    }
+}
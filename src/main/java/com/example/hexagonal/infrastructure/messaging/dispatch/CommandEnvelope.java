@@ -0,0 +1,10 @@
+package com.example.hexagonal.infrastructure.messaging.dispatch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Value;
+
+@Value
+public class CommandEnvelope {
+    String commandType;
+    JsonNode payload;
+}
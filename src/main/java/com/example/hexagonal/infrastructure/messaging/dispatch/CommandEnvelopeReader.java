@@ -0,0 +1,34 @@
+package com.example.hexagonal.infrastructure.messaging.dispatch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+@RequiredArgsConstructor
+public class CommandEnvelopeReader {
+
+    public static final String COMMAND_TYPE_ATTRIBUTE = "CommandType";
+    public static final String COMMAND_TYPE_FIELD = "commandType";
+    public static final String UNKNOWN_COMMAND_TYPE = "UNKNOWN";
+
+    private final ObjectMapper objectMapper;
+
+    public CommandEnvelope read(String message, String commandTypeAttribute) {
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(message);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Command message is not valid JSON", e);
+        }
+
+        String commandType = commandTypeAttribute;
+        if (!StringUtils.hasText(commandType)) {
+            commandType = payload.path(COMMAND_TYPE_FIELD).asText(UNKNOWN_COMMAND_TYPE);
+        }
+
+        return new CommandEnvelope(commandType, payload);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.hexagonal.infrastructure.messaging.dispatch;
+
+public class CommandQueueFullException extends RuntimeException {
+
+    public CommandQueueFullException(String tenant, int limit) {
+        super("Command queue for tenant " + tenant + " is full (" + limit + " queued)");
+    }
+}
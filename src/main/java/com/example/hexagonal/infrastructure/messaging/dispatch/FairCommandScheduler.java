@@ -0,0 +1,277 @@
+package com.example.hexagonal.infrastructure.messaging.dispatch;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Deficit round-robin over per-company queues. Commands run on the caller's thread once
+// granted one of max-concurrency slots; when every slot is busy, the next free slot goes
+// to the company whose deficit covers its head command, so a tenant with a deep backlog
+// only gets its weighted share instead of the whole pipeline. Reordering only happens
+// when the listeners hand over more commands at once than there are slots, so
+// max-concurrency has to stay below the listener concurrency.
+@Component
+@Slf4j
+public class FairCommandScheduler {
+
+    static final String UNKNOWN_TENANT = "unknown";
+    static final String OTHER_TENANT = "other";
+
+    private final DebitTransactionRepository transactionRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxConcurrency;
+    private final int maxQueuedPerTenant;
+    private final int quantum;
+    private final int metricsMaxTenants;
+    private final Map<String, Integer> weights;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, TenantQueue> tenants = new HashMap<>();
+    private final ArrayDeque<TenantQueue> active = new ArrayDeque<>();
+    private final Map<String, String> metricTenants = new ConcurrentHashMap<>();
+    private int inFlight;
+
+    public FairCommandScheduler(DebitTransactionRepository transactionRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${debit.commands.fair-queue.enabled:true}") boolean enabled,
+                                @Value("${debit.commands.fair-queue.max-concurrency:16}") int maxConcurrency,
+                                @Value("${debit.commands.fair-queue.max-queued-per-tenant:1000}") int maxQueuedPerTenant,
+                                @Value("${debit.commands.fair-queue.quantum:1}") int quantum,
+                                @Value("${debit.commands.fair-queue.weights:}") String weights,
+                                @Value("${debit.commands.fair-queue.metrics-max-tenants:200}") int metricsMaxTenants,
+                                @Value("${spring.cloud.aws.sqs.listener.max-concurrent-messages:10}") int listenerConcurrency) {
+        this.transactionRepository = transactionRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueuedPerTenant = maxQueuedPerTenant;
+        this.quantum = quantum;
+        this.metricsMaxTenants = metricsMaxTenants;
+        this.weights = parseWeights(weights);
+        if (enabled && maxConcurrency >= listenerConcurrency) {
+            log.warn("Fair queue has {} slots for at most {} concurrent listener messages; commands will never queue, "
+                    + "so tenants are not reordered", maxConcurrency, listenerConcurrency);
+        }
+
+        Gauge.builder("debit.commands.fair.queue.in.flight", this, FairCommandScheduler::inFlight)
+                .description("Commands holding a fair-queue execution slot")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(JsonNode payload, Supplier<T> command) {
+        if (!enabled) {
+            return command.get();
+        }
+
+        Task task = enqueue(resolveTenant(payload), cost(payload));
+        try {
+            task.granted().join();
+            task.queue().waitTimer.record(System.nanoTime() - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+            return command.get();
+        } finally {
+            release();
+        }
+    }
+
+    public int queuedCount(String tenant) {
+        lock.lock();
+        try {
+            TenantQueue queue = tenants.get(tenant);
+            return queue == null ? 0 : queue.tasks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int trackedTenants() {
+        lock.lock();
+        try {
+            return tenants.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Task enqueue(String tenant, int cost) {
+        lock.lock();
+        try {
+            TenantQueue queue = tenants.computeIfAbsent(tenant, this::newTenantQueue);
+            if (queue.tasks.size() >= maxQueuedPerTenant) {
+                queue.rejectedCounter.increment();
+                throw new CommandQueueFullException(tenant, maxQueuedPerTenant);
+            }
+
+            Task task = new Task(queue, cost, System.nanoTime(), new CompletableFuture<>());
+            if (queue.tasks.isEmpty()) {
+                active.addLast(queue);
+            }
+            queue.tasks.addLast(task);
+            grantAvailableSlots();
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            grantAvailableSlots();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void grantAvailableSlots() {
+        while (inFlight < maxConcurrency && !active.isEmpty()) {
+            inFlight++;
+            next().granted().complete(null);
+        }
+    }
+
+    private Task next() {
+        while (true) {
+            TenantQueue queue = active.peekFirst();
+            Task head = queue.tasks.peekFirst();
+            if (head.cost() <= queue.deficit) {
+                queue.tasks.pollFirst();
+                queue.deficit -= head.cost();
+                // An idle tenant keeps no state: its deficit resets anyway and its meters stay registered.
+                if (queue.tasks.isEmpty()) {
+                    active.pollFirst();
+                    tenants.remove(queue.tenant);
+                }
+                return head;
+            }
+            active.pollFirst();
+            queue.deficit += (long) quantum * queue.weight;
+            active.addLast(queue);
+        }
+    }
+
+    private String resolveTenant(JsonNode payload) {
+        String companyId = payload.path("companyId").asText(null);
+        if (StringUtils.hasText(companyId)) {
+            return companyId;
+        }
+
+        JsonNode transactions = payload.path("transactions");
+        if (transactions.isArray() && !transactions.isEmpty()) {
+            companyId = transactions.get(0).path("companyId").asText(null);
+            if (StringUtils.hasText(companyId)) {
+                return companyId;
+            }
+        }
+
+        String transactionId = payload.path("transactionId").asText(null);
+        if (StringUtils.hasText(transactionId)) {
+            try {
+                return transactionRepository.findById(UUID.fromString(transactionId))
+                        .map(DebitTransaction::getCompanyId)
+                        .orElse(UNKNOWN_TENANT);
+            } catch (RuntimeException e) {
+                log.debug("Could not resolve company of transaction {}: {}", transactionId, e.getMessage());
+            }
+        }
+        return UNKNOWN_TENANT;
+    }
+
+    private int cost(JsonNode payload) {
+        JsonNode transactions = payload.path("transactions");
+        return transactions.isArray() ? Math.max(1, transactions.size()) : 1;
+    }
+
+    private TenantQueue newTenantQueue(String tenant) {
+        String tag = metricTenants.size() < metricsMaxTenants
+                ? metricTenants.computeIfAbsent(tenant, key -> key)
+                : metricTenants.getOrDefault(tenant, OTHER_TENANT);
+        TenantQueue queue = new TenantQueue(tenant, weights.getOrDefault(tenant, 1),
+                Timer.builder("debit.commands.fair.queue.wait")
+                        .description("Time a command waited in its tenant queue for an execution slot")
+                        .tag("service", "hexagonal-debit-service")
+                        .tag("tenant", tag)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("debit.commands.fair.queue.rejected")
+                        .description("Commands rejected because their tenant queue was full")
+                        .tag("service", "hexagonal-debit-service")
+                        .tag("tenant", tag)
+                        .register(meterRegistry));
+        if (!OTHER_TENANT.equals(tag)) {
+            Gauge.builder("debit.commands.fair.queue.depth", () -> queuedCount(tenant))
+                    .description("Commands waiting in the tenant queue")
+                    .tag("service", "hexagonal-debit-service")
+                    .tag("tenant", tag)
+                    .register(meterRegistry);
+        }
+        return queue;
+    }
+
+    private static Map<String, Integer> parseWeights(String weights) {
+        Map<String, Integer> parsed = new HashMap<>();
+        if (!StringUtils.hasText(weights)) {
+            return parsed;
+        }
+        for (String entry : weights.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid fair-queue weight entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 1) {
+                throw new IllegalArgumentException("Fair-queue weight must be positive: " + entry);
+            }
+            parsed.put(parts[0].trim(), weight);
+        }
+        return parsed;
+    }
+
+    private static final class TenantQueue {
+        private final ArrayDeque<Task> tasks = new ArrayDeque<>();
+        private final String tenant;
+        private final int weight;
+        private final Timer waitTimer;
+        private final Counter rejectedCounter;
+        private long deficit;
+
+        private TenantQueue(String tenant, int weight, Timer waitTimer, Counter rejectedCounter) {
+            this.tenant = tenant;
+            this.weight = weight;
+            this.waitTimer = waitTimer;
+            this.rejectedCounter = rejectedCounter;
+        }
+    }
+
+    private record Task(TenantQueue queue, int cost, long enqueuedAt, CompletableFuture<Void> granted) {
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.hexagonal.infrastructure.messaging.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,6 +11,8 @@ import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class CancelDebitTransactionCommand {
     @NotNull(message = "Transaction ID is required")
     private UUID transactionId;
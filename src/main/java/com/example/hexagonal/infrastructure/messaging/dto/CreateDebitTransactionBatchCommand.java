@@ -0,0 +1,22 @@
+package com.example.hexagonal.infrastructure.messaging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateDebitTransactionBatchCommand {
+    @NotEmpty(message = "At least one transaction is required")
+    private List<CreateDebitTransactionCommand> transactions;
+    
+    private UUID commandId;
+    private String correlationId;
+}
@@ -1,7 +1,9 @@
 package com.example.hexagonal.infrastructure.messaging.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -12,6 +14,8 @@ import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class CreateDebitTransactionCommand {
     @NotBlank(message = "Company ID is required")
     private String companyId;
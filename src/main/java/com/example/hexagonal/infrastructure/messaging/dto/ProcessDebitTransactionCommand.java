@@ -1,13 +1,17 @@
 package com.example.hexagonal.infrastructure.messaging.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import jakarta.validation.constraints.NotNull;
 import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ProcessDebitTransactionCommand {
     @NotNull(message = "Transaction ID is required")
     private UUID transactionId;
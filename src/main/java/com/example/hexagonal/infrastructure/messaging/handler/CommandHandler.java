@@ -1,13 +1,13 @@
 package com.example.hexagonal.infrastructure.messaging.handler;
 
+import com.example.hexagonal.infrastructure.observability.CommandPhase;
+import com.example.hexagonal.infrastructure.observability.CommandTrace;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.function.Function;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -21,13 +21,39 @@ public abstract class CommandHandler<T> {
     
     public abstract void handle(T command);
     
+    public String handleWithResult(T command) {
+        handle(command);
+        return null;
+    }
+    
     public void processCommand(String message) {
         try {
+            long start = System.nanoTime();
             T command = objectMapper.readValue(message, getCommandClass());
+            CommandTrace.record(CommandPhase.DESERIALIZE, start);
+            
+            start = System.nanoTime();
             handle(command);
+            CommandTrace.record(CommandPhase.HANDLE, start);
         } catch (Exception e) {
             log.error("Error processing {} command: {}", getCommandType(), message, e);
             throw new RuntimeException("Failed to process " + getCommandType() + " command", e);
         }
     }
+    
+    public String processCommand(JsonNode payload) {
+        try {
+            long start = System.nanoTime();
+            T command = objectMapper.treeToValue(payload, getCommandClass());
+            CommandTrace.record(CommandPhase.DESERIALIZE, start);
+            
+            start = System.nanoTime();
+            String result = handleWithResult(command);
+            CommandTrace.record(CommandPhase.HANDLE, start);
+            return result;
+        } catch (Exception e) {
+            log.error("Error processing {} command: {}", getCommandType(), payload, e);
+            throw new RuntimeException("Failed to process " + getCommandType() + " command", e);
+        }
+    }
 }
@@ -0,0 +1,149 @@
+package com.example.hexagonal.infrastructure.messaging.handler;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.DebitTransactionBatchItemResult;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.DebitTransactionService;
+import com.example.hexagonal.infrastructure.messaging.dto.CreateDebitTransactionBatchCommand;
+import com.example.hexagonal.infrastructure.messaging.dto.CreateDebitTransactionCommand;
+import com.example.hexagonal.infrastructure.scheduling.ScheduledDebitReleaser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class CreateDebitTransactionBatchHandler extends CommandHandler<CreateDebitTransactionBatchCommand> {
+    
+    private final DebitTransactionService debitTransactionService;
+    private final Validator validator;
+    private final Optional<ScheduledDebitReleaser> scheduledDebitReleaser;
+    private final int maxItems;
+    
+    public CreateDebitTransactionBatchHandler(ObjectMapper objectMapper,
+                                              DebitTransactionService debitTransactionService,
+                                              Validator validator,
+                                              Optional<ScheduledDebitReleaser> scheduledDebitReleaser,
+                                              @Value("${debit.commands.batch.max-items:1000}") int maxItems) {
+        super(objectMapper);
+        this.debitTransactionService = debitTransactionService;
+        this.validator = validator;
+        this.scheduledDebitReleaser = scheduledDebitReleaser;
+        this.maxItems = maxItems;
+    }
+    
+    @Override
+    public String getCommandType() {
+        return "CREATE_DEBIT_TRANSACTION_BATCH";
+    }
+    
+    @Override
+    public Class<CreateDebitTransactionBatchCommand> getCommandClass() {
+        return CreateDebitTransactionBatchCommand.class;
+    }
+    
+    @Override
+    public void handle(CreateDebitTransactionBatchCommand command) {
+        handleWithResult(command);
+    }
+    
+    @Override
+    public String handleWithResult(CreateDebitTransactionBatchCommand command) {
+        List<CreateDebitTransactionCommand> items = command.getTransactions();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch command has no transactions");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("Batch command has " + items.size() + " transactions, limit is " + maxItems);
+        }
+        log.info("Processing create debit transaction batch with {} items", items.size());
+        
+        DebitTransactionBatchItemResult[] results = new DebitTransactionBatchItemResult[items.size()];
+        List<DebitTransaction> drafts = new ArrayList<>(items.size());
+        List<Integer> draftIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            CreateDebitTransactionCommand item = items.get(i);
+            String violations = item == null ? "Transaction is required" : violations(item);
+            if (violations != null) {
+                results[i] = DebitTransactionBatchItemResult.builder().index(i).success(false).error(violations).build();
+            } else {
+                drafts.add(draft(item, command.getCorrelationId()));
+                draftIndexes.add(i);
+            }
+        }
+        
+        if (!drafts.isEmpty()) {
+            for (DebitTransactionBatchItemResult result : debitTransactionService.createDebitTransactions(drafts)) {
+                int index = draftIndexes.get(result.getIndex());
+                results[index] = result.toBuilder().index(index).build();
+                if (result.isSuccess()) {
+                    DebitTransaction created = drafts.get(result.getIndex()).toBuilder()
+                            .transactionId(result.getTransactionId())
+                            .status(TransactionStatus.PENDING)
+                            .build();
+                    scheduledDebitReleaser.ifPresent(releaser -> releaser.track(created));
+                }
+            }
+        }
+        
+        return summary(results);
+    }
+    
+    private String violations(CreateDebitTransactionCommand item) {
+        Set<ConstraintViolation<CreateDebitTransactionCommand>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+    
+    private DebitTransaction draft(CreateDebitTransactionCommand item, String batchCorrelationId) {
+        return DebitTransaction.builder()
+                .companyId(item.getCompanyId())
+                .companyDocument(item.getCompanyDocument())
+                .companyName(item.getCompanyName())
+                .bankAccountId(item.getBankAccountId())
+                .amount(item.getAmount())
+                .description(item.getDescription())
+                .scheduledDate(item.getScheduledDate())
+                .correlationId(item.getCorrelationId() != null ? item.getCorrelationId() : batchCorrelationId)
+                .build();
+    }
+    
+    private String summary(DebitTransactionBatchItemResult[] results) {
+        ObjectNode summary = objectMapper.createObjectNode();
+        ArrayNode itemNodes = summary.putArray("items");
+        int created = 0;
+        for (DebitTransactionBatchItemResult result : results) {
+            ObjectNode node = itemNodes.addObject()
+                    .put("index", result.getIndex())
+                    .put("success", result.isSuccess());
+            if (result.isSuccess()) {
+                node.put("transactionId", result.getTransactionId().toString());
+                created++;
+            } else {
+                node.put("error", result.getError());
+            }
+        }
+        summary.put("total", results.length);
+        summary.put("created", created);
+        summary.put("failed", results.length - created);
+        
+        log.info("Debit transaction batch completed: {} created, {} failed", created, results.length - created);
+        return summary.toString();
+    }
+}
@@ -1,18 +1,29 @@
 package com.example.hexagonal.infrastructure.messaging.handler;
 
+import com.example.hexagonal.domain.model.DebitTransaction;
 import com.example.hexagonal.domain.port.DebitTransactionService;
 import com.example.hexagonal.infrastructure.messaging.dto.CreateDebitTransactionCommand;
+import com.example.hexagonal.infrastructure.scheduling.ScheduledDebitReleaser;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CreateDebitTransactionHandler extends CommandHandler<CreateDebitTransactionCommand> {
     
     private final DebitTransactionService debitTransactionService;
+    private final Optional<ScheduledDebitReleaser> scheduledDebitReleaser;
+    
+    public CreateDebitTransactionHandler(ObjectMapper objectMapper,
+                                         DebitTransactionService debitTransactionService,
+                                         Optional<ScheduledDebitReleaser> scheduledDebitReleaser) {
+        super(objectMapper);
+        this.debitTransactionService = debitTransactionService;
+        this.scheduledDebitReleaser = scheduledDebitReleaser;
+    }
     
     @Override
     public String getCommandType() {
@@ -26,9 +37,14 @@ public class CreateDebitTransactionHandler extends CommandHandler<CreateDebitTra
     
     @Override
     public void handle(CreateDebitTransactionCommand command) {
+        handleWithResult(command);
+    }
+    
+    @Override
+    public String handleWithResult(CreateDebitTransactionCommand command) {
         log.info("Processing create debit transaction command for company: {}", command.getCompanyId());
         
-        debitTransactionService.createDebitTransaction(
+        DebitTransaction transaction = debitTransactionService.createDebitTransaction(
             command.getCompanyId(),
             command.getCompanyDocument(),
             command.getCompanyName(),
@@ -39,6 +55,10 @@ public class CreateDebitTransactionHandler extends CommandHandler<CreateDebitTra
             command.getCorrelationId()
         );
         
-        log.info("Debit transaction created successfully for company: {}", command.getCompanyId());
+        scheduledDebitReleaser.ifPresent(releaser -> releaser.track(transaction));
+        
+        log.info("Debit transaction {} created successfully for company: {}",
+                transaction.getTransactionId(), command.getCompanyId());
+        return transaction.getTransactionId().toString();
     }
 }
@@ -3,17 +3,21 @@ package com.example.hexagonal.infrastructure.messaging.handler;
 import com.example.hexagonal.domain.port.DebitTransactionService;
 import com.example.hexagonal.infrastructure.messaging.dto.ProcessDebitTransactionCommand;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ProcessDebitTransactionHandler extends CommandHandler<ProcessDebitTransactionCommand> {
     
     private final DebitTransactionService debitTransactionService;
     
+    public ProcessDebitTransactionHandler(ObjectMapper objectMapper,
+                                          DebitTransactionService debitTransactionService) {
+        super(objectMapper);
+        this.debitTransactionService = debitTransactionService;
+    }
+    
     @Override
     public String getCommandType() {
         return "PROCESS_DEBIT_TRANSACTION";
@@ -0,0 +1,8 @@
+package com.example.hexagonal.infrastructure.messaging.idempotency;
+
+public class CommandInProgressException extends RuntimeException {
+
+    public CommandInProgressException(String key) {
+        super("Command " + key + " is already being processed");
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.hexagonal.infrastructure.messaging.idempotency;
+
+// A command already processed by some instance; result is null when the command returned null.
+public record CompletedCommand(String result) {
+}
@@ -0,0 +1,121 @@
+package com.example.hexagonal.infrastructure.messaging.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class IdempotentCommandGuard {
+
+    public static final String COMMAND_ID_FIELD = "commandId";
+
+    private final Optional<SharedDeduplicationStore> sharedStore;
+    private final Cache<String, CompletableFuture<String>> processed;
+    private final boolean enabled;
+
+    private final Counter missCounter;
+    private final Counter localHitCounter;
+    private final Counter sharedHitCounter;
+    private final Counter inProgressCounter;
+    private final Counter bypassCounter;
+
+    public IdempotentCommandGuard(Optional<SharedDeduplicationStore> sharedStore,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${debit.idempotency.enabled:true}") boolean enabled,
+                                  @Value("${debit.idempotency.retention-minutes:1440}") long retentionMinutes,
+                                  @Value("${debit.idempotency.maximum-size:500000}") long maximumSize) {
+        this.sharedStore = sharedStore;
+        this.enabled = enabled;
+        this.processed = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .build();
+
+        this.missCounter = counter(meterRegistry, "miss", "none");
+        this.localHitCounter = counter(meterRegistry, "hit", "local");
+        this.sharedHitCounter = counter(meterRegistry, "hit", "shared");
+        this.inProgressCounter = counter(meterRegistry, "in_progress", "none");
+        this.bypassCounter = counter(meterRegistry, "bypass", "none");
+    }
+
+    public String execute(String commandType, JsonNode payload, Supplier<String> command) {
+        String commandId = payload.path(COMMAND_ID_FIELD).asText(null);
+        if (!enabled || !StringUtils.hasText(commandId)) {
+            bypassCounter.increment();
+            return command.get();
+        }
+
+        String key = commandType + ":" + commandId;
+        CompletableFuture<String> claim = new CompletableFuture<>();
+        CompletableFuture<String> existing = processed.asMap().putIfAbsent(key, claim);
+        if (existing != null) {
+            if (existing.isDone() && !existing.isCompletedExceptionally()) {
+                localHitCounter.increment();
+                log.info("Duplicate {} command {} skipped", commandType, commandId);
+                return existing.join();
+            }
+            inProgressCounter.increment();
+            throw new CommandInProgressException(key);
+        }
+
+        try {
+            Optional<CompletedCommand> previous = sharedStore.flatMap(store -> store.findResult(key));
+            if (previous.isPresent()) {
+                sharedHitCounter.increment();
+                claim.complete(previous.get().result());
+                log.info("Duplicate {} command {} skipped (processed by another instance)", commandType, commandId);
+                return previous.get().result();
+            }
+            if (sharedStore.isPresent() && !sharedStore.get().tryClaim(key)) {
+                inProgressCounter.increment();
+                throw new CommandInProgressException(key);
+            }
+        } catch (RuntimeException e) {
+            processed.asMap().remove(key, claim);
+            claim.completeExceptionally(e);
+            throw e;
+        }
+
+        missCounter.increment();
+        String result;
+        try {
+            result = command.get();
+        } catch (RuntimeException e) {
+            processed.asMap().remove(key, claim);
+            claim.completeExceptionally(e);
+            sharedStore.ifPresent(store -> store.release(key));
+            throw e;
+        }
+
+        claim.complete(result);
+        sharedStore.ifPresent(store -> {
+            try {
+                store.complete(key, result);
+            } catch (RuntimeException e) {
+                log.warn("Failed to record {} command {} in shared dedup store: {}", commandType, commandId, e.getMessage());
+            }
+        });
+        return result;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("debit.commands.idempotency")
+                .description("Command idempotency lookups by outcome")
+                .tag("service", "hexagonal-debit-service")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.hexagonal.infrastructure.messaging.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "debit.idempotency.redis.enabled", havingValue = "true")
+@Slf4j
+public class RedisDeduplicationStore implements SharedDeduplicationStore {
+
+    static final String KEY_PREFIX = "debit:command:";
+    static final String IN_PROGRESS = "IN_PROGRESS";
+    static final String COMPLETED_PREFIX = "DONE:";
+    // A null result has no colon so it is not confused with an empty string.
+    static final String COMPLETED_WITHOUT_RESULT = "DONE";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration retention;
+    private final Duration claimTimeout;
+
+    public RedisDeduplicationStore(StringRedisTemplate redisTemplate,
+                                   @Value("${debit.idempotency.retention-minutes:1440}") long retentionMinutes,
+                                   @Value("${debit.idempotency.claim-timeout-seconds:300}") long claimTimeoutSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.claimTimeout = Duration.ofSeconds(claimTimeoutSeconds);
+    }
+
+    @Override
+    public Optional<CompletedCommand> findResult(String key) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (COMPLETED_WITHOUT_RESULT.equals(value)) {
+            return Optional.of(new CompletedCommand(null));
+        }
+        if (value == null || !value.startsWith(COMPLETED_PREFIX)) {
+            return Optional.empty();
+        }
+        return Optional.of(new CompletedCommand(value.substring(COMPLETED_PREFIX.length())));
+    }
+
+    @Override
+    public boolean tryClaim(String key) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, IN_PROGRESS, claimTimeout));
+    }
+
+    @Override
+    public void complete(String key, String result) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, result == null ? COMPLETED_WITHOUT_RESULT : COMPLETED_PREFIX + result, retention);
+    }
+
+    @Override
+    public void release(String key) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release idempotency claim {}, it expires in {}: {}", key, claimTimeout, e.getMessage());
+        }
+    }
+}
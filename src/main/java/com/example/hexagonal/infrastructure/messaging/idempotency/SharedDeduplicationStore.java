@@ -0,0 +1,10 @@
+package com.example.hexagonal.infrastructure.messaging.idempotency;
+
+import java.util.Optional;
+
+public interface SharedDeduplicationStore {
+    Optional<CompletedCommand> findResult(String key);
+    boolean tryClaim(String key);
+    void complete(String key, String result);
+    void release(String key);
+}
@@ -1,8 +1,8 @@
 package com.example.hexagonal.infrastructure.messaging.listener;
 
 import com.example.hexagonal.domain.model.DebitEvent;
+import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cloud.aws.messaging.listener.annotation.SqsListener;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -0,0 +1,89 @@
+package com.example.hexagonal.infrastructure.messaging.listener;
+
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandDispatcher;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelopeReader;
+import com.example.hexagonal.infrastructure.observability.CommandMetrics;
+import com.example.hexagonal.infrastructure.observability.SqsConsumerMetrics;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Component
+@ConditionalOnProperty(name = "debit.sqs.batch.enabled", havingValue = "true")
+@Slf4j
+public class DebitTransactionBatchCommandListener {
+
+    private final CommandEnvelopeReader commandEnvelopeReader;
+    private final CommandDispatcher commandDispatcher;
+    private final SqsConsumerMetrics sqsConsumerMetrics;
+    private final Executor debitCommandExecutor;
+
+    public DebitTransactionBatchCommandListener(CommandEnvelopeReader commandEnvelopeReader,
+                                                CommandDispatcher commandDispatcher,
+                                                SqsConsumerMetrics sqsConsumerMetrics,
+                                                @Qualifier("debitCommandExecutor") Executor debitCommandExecutor) {
+        this.commandEnvelopeReader = commandEnvelopeReader;
+        this.commandDispatcher = commandDispatcher;
+        this.sqsConsumerMetrics = sqsConsumerMetrics;
+        this.debitCommandExecutor = debitCommandExecutor;
+    }
+
+    @SqsListener(value = "debit-commands", factory = "batchSqsListenerContainerFactory")
+    public void handleDebitTransactionCommands(List<Message<String>> messages,
+                                               BatchAcknowledgement<String> acknowledgement) {
+        long receivedAt = sqsConsumerMetrics.recordBatchReceived(messages.size(), polledAt(messages));
+        log.info("Received batch of {} debit transaction commands", messages.size());
+
+        List<CompletableFuture<Boolean>> outcomes = messages.stream()
+                .map(message -> CompletableFuture.supplyAsync(() -> process(message), debitCommandExecutor))
+                .toList();
+
+        List<Message<String>> processed = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            if (outcomes.get(i).join()) {
+                processed.add(messages.get(i));
+            }
+        }
+
+        if (!processed.isEmpty()) {
+            acknowledgement.acknowledge(processed);
+        }
+
+        int failed = messages.size() - processed.size();
+        sqsConsumerMetrics.recordBatchCompleted(receivedAt, processed.size(), failed);
+        log.info("Debit transaction command batch completed: {} acknowledged, {} left for redelivery",
+                processed.size(), failed);
+    }
+
+    private static Instant polledAt(List<Message<String>> messages) {
+        return messages.isEmpty()
+                ? null
+                : messages.get(0).getHeaders().get(SqsHeaders.SQS_RECEIVED_AT_HEADER, Instant.class);
+    }
+
+    private boolean process(Message<String> message) {
+        try {
+            String commandType = message.getHeaders()
+                    .get(CommandEnvelopeReader.COMMAND_TYPE_ATTRIBUTE, String.class);
+            long sentTimestamp = CommandMetrics.sentTimestamp(
+                    message.getHeaders().get(SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP));
+            commandDispatcher.dispatch(commandEnvelopeReader.read(message.getPayload(), commandType), sentTimestamp);
+            return true;
+        } catch (Exception e) {
+            log.error("Error processing debit transaction command, leaving it for redelivery: {}",
+                    message.getPayload(), e);
+            return false;
+        }
+    }
+}
@@ -1,47 +1,55 @@
 package com.example.hexagonal.infrastructure.messaging.listener;
 
-import com.example.hexagonal.infrastructure.messaging.handler.CommandHandler;
-import com.example.hexagonal.infrastructure.messaging.registry.CommandHandlerRegistry;
-import lombok.RequiredArgsConstructor;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandDispatcher;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelope;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelopeReader;
+import com.example.hexagonal.infrastructure.observability.CommandMetrics;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cloud.aws.messaging.listener.annotation.SqsListener;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "debit.sqs.batch.enabled", havingValue = "false", matchIfMissing = true)
 @Slf4j
 public class DebitTransactionCommandListener {
     
-    private final CommandHandlerRegistry commandHandlerRegistry;
+    private final CommandEnvelopeReader commandEnvelopeReader;
+    private final CommandDispatcher commandDispatcher;
+    private final Executor debitCommandExecutor;
     
-    @SqsListener("debit-commands")
-    public void handleDebitTransactionCommand(String message) {
-        try {
-            log.info("Received debit transaction command: {}", message);
-            
-            String commandType = extractCommandType(message);
-            
-            CommandHandler<?> handler = commandHandlerRegistry.getHandler(commandType);
-            if (handler != null) {
-                handler.processCommand(message);
-            } else {
-                log.warn("Unknown command type: {}. Supported types: {}", 
-                        commandType, 
-                        commandHandlerRegistry.getSupportedCommandTypes());
-            }
-            
-        } catch (Exception e) {
-            log.error("Error processing debit transaction command: {}", message, e);
-            throw new RuntimeException("Failed to process debit transaction command", e);
-        }
+    public DebitTransactionCommandListener(CommandEnvelopeReader commandEnvelopeReader,
+                                           CommandDispatcher commandDispatcher,
+                                           @Qualifier("debitCommandExecutor") Executor debitCommandExecutor) {
+        this.commandEnvelopeReader = commandEnvelopeReader;
+        this.commandDispatcher = commandDispatcher;
+        this.debitCommandExecutor = debitCommandExecutor;
     }
     
-    private String extractCommandType(String message) {
-        for (String commandType : commandHandlerRegistry.getSupportedCommandTypes()) {
-            if (message.contains(commandType)) {
-                return commandType;
+    @SqsListener("debit-commands")
+    public CompletableFuture<Void> handleDebitTransactionCommand(@Payload String message,
+                                                                 @Header(name = CommandEnvelopeReader.COMMAND_TYPE_ATTRIBUTE, required = false)
+                                                                 String commandTypeAttribute,
+                                                                 @Header(name = SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP, required = false)
+                                                                 String sentTimestamp) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                log.info("Received debit transaction command: {}", message);
+                
+                CommandEnvelope envelope = commandEnvelopeReader.read(message, commandTypeAttribute);
+                commandDispatcher.dispatch(envelope, CommandMetrics.sentTimestamp(sentTimestamp));
+                
+            } catch (Exception e) {
+                log.error("Error processing debit transaction command: {}", message, e);
+                throw new RuntimeException("Failed to process debit transaction command", e);
             }
-        }
-        return "UNKNOWN";
+        }, debitCommandExecutor);
     }
 }
@@ -0,0 +1,327 @@
+package com.example.hexagonal.infrastructure.messaging.listener;
+
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandDispatcher;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelope;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelopeReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "debit.commands.kafka.enabled", havingValue = "true")
+@Slf4j
+public class KafkaCommandListener implements BatchConsumerAwareMessageListener<String, String> {
+
+    private static final long NOTHING_FAILED = -1L;
+    private static final int DEAD_LETTERED = Integer.MAX_VALUE;
+    private static final long DEAD_LETTER_TIMEOUT_MS = 30_000;
+
+    private final CommandEnvelopeReader commandEnvelopeReader;
+    private final CommandDispatcher commandDispatcher;
+    private final Executor debitTransactionExecutor;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Counter deadLetteredCounter;
+
+    // Failed deliveries per partition and offset (DEAD_LETTERED once moved), pruned as the
+    // committed offset moves past them.
+    private final Map<TopicPartition, ConcurrentSkipListMap<Long, Integer>> attempts = new ConcurrentHashMap<>();
+
+    @Value("${debit.commands.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${debit.commands.kafka.topic:debit-commands}")
+    private String topic;
+
+    @Value("${debit.commands.kafka.group-id:hexagonal-debit-service}")
+    private String groupId;
+
+    @Value("${debit.commands.kafka.concurrency:3}")
+    private int concurrency;
+
+    @Value("${debit.commands.kafka.max-poll-records:200}")
+    private int maxPollRecords;
+
+    @Value("${debit.commands.kafka.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${debit.commands.kafka.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${debit.commands.kafka.dead-letter-topic:debit-commands.DLT}")
+    private String deadLetterTopic;
+
+    private ConcurrentMessageListenerContainer<String, String> container;
+    private KafkaTemplate<String, String> deadLetterTemplate;
+
+    public KafkaCommandListener(CommandEnvelopeReader commandEnvelopeReader,
+                                CommandDispatcher commandDispatcher,
+                                @Qualifier("debitTransactionExecutor") Executor debitTransactionExecutor,
+                                MeterRegistry meterRegistry) {
+        this.commandEnvelopeReader = commandEnvelopeReader;
+        this.commandDispatcher = commandDispatcher;
+        this.debitTransactionExecutor = debitTransactionExecutor;
+        this.processedCounter = recordCounter(meterRegistry, "processed");
+        this.failedCounter = recordCounter(meterRegistry, "failed");
+        this.rejectedCounter = recordCounter(meterRegistry, "rejected");
+        this.deadLetteredCounter = recordCounter(meterRegistry, "dead-lettered");
+    }
+
+    @PostConstruct
+    public void start() {
+        Map<String, Object> producerConfig = new HashMap<>();
+        producerConfig.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        producerConfig.put(ProducerConfig.CLIENT_ID_CONFIG, "hexagonal-debit-service-commands-dlt");
+        producerConfig.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        producerConfig.put(ProducerConfig.ACKS_CONFIG, "all");
+        deadLetterTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerConfig,
+                new StringSerializer(), new StringSerializer()));
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        ContainerProperties containerProperties = new ContainerProperties(topic);
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setMessageListener(this);
+
+        container = new ConcurrentMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), new StringDeserializer()),
+                containerProperties);
+        container.setConcurrency(concurrency);
+        container.setBeanName("kafkaCommandListener");
+        container.start();
+        log.info("Kafka command listener started on topic {} with {} consumers, dead-lettering to {} after {} attempts",
+                topic, concurrency, deadLetterTopic, maxAttempts);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
+        if (deadLetterTemplate != null) {
+            deadLetterTemplate.destroy();
+        }
+    }
+
+    // Records are split into runs per partition and key: runs execute in parallel, records
+    // inside a run execute in order and a failure stops the rest of its run. Each partition
+    // commits up to its first unprocessed record and is rewound there for redelivery.
+    // A record that fails max-attempts deliveries goes to the dead-letter topic and is skipped.
+    @Override
+    public void onMessage(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+        Map<TopicPartition, Map<String, List<ConsumerRecord<String, String>>>> runsByPartition = new LinkedHashMap<>();
+        Map<ConsumerRecord<String, String>, CommandEnvelope> envelopes = new HashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            CommandEnvelope envelope = read(record);
+            if (envelope != null) {
+                envelopes.put(record, envelope);
+            }
+            runsByPartition
+                    .computeIfAbsent(new TopicPartition(record.topic(), record.partition()), tp -> new LinkedHashMap<>())
+                    .computeIfAbsent(orderingKey(record, envelope), key -> new ArrayList<>())
+                    .add(record);
+        }
+
+        Map<TopicPartition, List<CompletableFuture<Long>>> outcomes = new LinkedHashMap<>();
+        runsByPartition.forEach((partition, runs) -> outcomes.put(partition, runs.values().stream()
+                .map(run -> submit(run, envelopes))
+                .toList()));
+
+        Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+        boolean rewound = false;
+        for (Map.Entry<TopicPartition, List<CompletableFuture<Long>>> entry : outcomes.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            long firstFailed = entry.getValue().stream()
+                    .mapToLong(CompletableFuture::join)
+                    .filter(offset -> offset != NOTHING_FAILED)
+                    .min()
+                    .orElse(NOTHING_FAILED);
+            if (firstFailed == NOTHING_FAILED) {
+                commits.put(partition, new OffsetAndMetadata(lastOffset(runsByPartition.get(partition)) + 1));
+            } else {
+                commits.put(partition, new OffsetAndMetadata(firstFailed));
+                consumer.seek(partition, firstFailed);
+                rewound = true;
+            }
+        }
+
+        consumer.commitSync(commits);
+        commits.forEach((partition, committed) -> attempts.computeIfPresent(partition, (tp, failures) -> {
+            failures.headMap(committed.offset()).clear();
+            return failures.isEmpty() ? null : failures;
+        }));
+        if (rewound) {
+            backOff();
+        }
+    }
+
+    private CompletableFuture<Long> submit(List<ConsumerRecord<String, String>> run,
+                                           Map<ConsumerRecord<String, String>, CommandEnvelope> envelopes) {
+        try {
+            return CompletableFuture.supplyAsync(() -> process(run, envelopes), debitTransactionExecutor);
+        } catch (RuntimeException e) {
+            log.warn("Command executor rejected {} records from offset {}, leaving them for redelivery",
+                    run.size(), run.get(0).offset());
+            failedCounter.increment(run.size());
+            return CompletableFuture.completedFuture(run.get(0).offset());
+        }
+    }
+
+    private long process(List<ConsumerRecord<String, String>> run,
+                         Map<ConsumerRecord<String, String>, CommandEnvelope> envelopes) {
+        for (int i = 0; i < run.size(); i++) {
+            ConsumerRecord<String, String> record = run.get(i);
+            CommandEnvelope envelope = envelopes.get(record);
+            if (envelope == null || failures(record) == DEAD_LETTERED) {
+                continue;
+            }
+            try {
+                commandDispatcher.dispatch(envelope);
+                processedCounter.increment();
+            } catch (Exception e) {
+                int attempt = recordFailure(record);
+                if (attempt >= maxAttempts && deadLetter(record, e)) {
+                    failuresOf(record).put(record.offset(), DEAD_LETTERED);
+                    log.error("Command from {}-{}@{} failed {} times, moved it to {}",
+                            record.topic(), record.partition(), record.offset(), attempt, deadLetterTopic, e);
+                    deadLetteredCounter.increment();
+                    continue;
+                }
+                log.error("Error processing command from {}-{}@{} (attempt {} of {}), leaving it and {} later records of its key for redelivery",
+                        record.topic(), record.partition(), record.offset(), attempt, maxAttempts, run.size() - i - 1, e);
+                failedCounter.increment(run.size() - i);
+                return record.offset();
+            }
+        }
+        return NOTHING_FAILED;
+    }
+
+    private int recordFailure(ConsumerRecord<String, String> record) {
+        return failuresOf(record).merge(record.offset(), 1, Integer::sum);
+    }
+
+    private int failures(ConsumerRecord<String, String> record) {
+        ConcurrentSkipListMap<Long, Integer> failures = attempts.get(new TopicPartition(record.topic(), record.partition()));
+        return failures == null ? 0 : failures.getOrDefault(record.offset(), 0);
+    }
+
+    private ConcurrentSkipListMap<Long, Integer> failuresOf(ConsumerRecord<String, String> record) {
+        return attempts.computeIfAbsent(new TopicPartition(record.topic(), record.partition()), tp -> new ConcurrentSkipListMap<>());
+    }
+
+    // Waits for the broker ack so the record is only skipped once the dead-letter copy is durable.
+    private boolean deadLetter(ConsumerRecord<String, String> record, Exception error) {
+        ProducerRecord<String, String> deadLetter = new ProducerRecord<>(deadLetterTopic, null, record.key(),
+                record.value(), record.headers());
+        deadLetter.headers()
+                .add(KafkaHeaders.DLT_ORIGINAL_TOPIC, record.topic().getBytes(StandardCharsets.UTF_8))
+                .add(KafkaHeaders.DLT_ORIGINAL_PARTITION, Integer.toString(record.partition()).getBytes(StandardCharsets.UTF_8))
+                .add(KafkaHeaders.DLT_ORIGINAL_OFFSET, Long.toString(record.offset()).getBytes(StandardCharsets.UTF_8))
+                .add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, String.valueOf(error.getMessage()).getBytes(StandardCharsets.UTF_8));
+        try {
+            deadLetterTemplate.send(deadLetter).get(DEAD_LETTER_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("Could not move command from {}-{}@{} to {}, leaving it for redelivery",
+                    record.topic(), record.partition(), record.offset(), deadLetterTopic, e);
+            return false;
+        }
+    }
+
+    private CommandEnvelope read(ConsumerRecord<String, String> record) {
+        try {
+            Header commandType = record.headers().lastHeader(CommandEnvelopeReader.COMMAND_TYPE_ATTRIBUTE);
+            return commandEnvelopeReader.read(record.value(),
+                    commandType == null ? null : new String(commandType.value(), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.error("Discarding unreadable command at {}-{}@{}: {}",
+                    record.topic(), record.partition(), record.offset(), record.value(), e);
+            rejectedCounter.increment();
+            return null;
+        }
+    }
+
+    private String orderingKey(ConsumerRecord<String, String> record, CommandEnvelope envelope) {
+        if (record.key() != null) {
+            return record.key();
+        }
+        if (envelope != null) {
+            String companyId = envelope.getPayload().path("companyId").asText(null);
+            if (companyId != null) {
+                return companyId;
+            }
+            String transactionId = envelope.getPayload().path("transactionId").asText(null);
+            if (transactionId != null) {
+                return transactionId;
+            }
+        }
+        return "offset-" + record.offset();
+    }
+
+    private long lastOffset(Map<String, List<ConsumerRecord<String, String>>> runs) {
+        return runs.values().stream()
+                .mapToLong(run -> run.get(run.size() - 1).offset())
+                .max()
+                .orElseThrow();
+    }
+
+    private void backOff() {
+        try {
+            Thread.sleep(retryBackoffMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Counter recordCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("debit.commands.kafka.records")
+                .description("Command records consumed from Kafka")
+                .tag("service", "hexagonal-debit-service")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.hexagonal.infrastructure.messaging.outbox;
+
+import com.example.hexagonal.domain.model.OutboxEntry;
+import com.example.hexagonal.domain.port.EventPublisher;
+import com.example.hexagonal.domain.port.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+@ConditionalOnProperty(name = "debit.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final EventPublisher eventPublisher;
+    private final Executor eventPublisherExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> publishTimers = new ConcurrentHashMap<>();
+    private final Timer publishLagTimer;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter leaseConflictCounter;
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+    private final AtomicBoolean relaying = new AtomicBoolean();
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${debit.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${debit.outbox.parallelism:4}")
+    private int parallelism;
+
+    @Value("${debit.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${debit.outbox.lease-seconds:30}")
+    private long leaseSeconds;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       EventPublisher eventPublisher,
+                       @Qualifier("eventPublisherExecutor") Executor eventPublisherExecutor,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.eventPublisherExecutor = eventPublisherExecutor;
+        this.meterRegistry = meterRegistry;
+        this.publishLagTimer = Timer.builder("debit.outbox.publish.lag")
+                .description("Time between an event being written to the outbox and being published")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("debit.outbox.published")
+                .description("Number of outbox events published")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("debit.outbox.failed")
+                .description("Number of outbox publish attempts that failed")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.leaseConflictCounter = Counter.builder("debit.outbox.lease.conflicts")
+                .description("Outbox events skipped because another relay holds their lease")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        Gauge.builder("debit.outbox.oldest.pending.age", oldestPendingAgeMillis, AtomicLong::get)
+                .description("Age in milliseconds of the oldest pending outbox event at the last poll")
+                .baseUnit("milliseconds")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+    }
+
+    // The shared scheduler thread only starts a run; the run itself, including every blocking
+    // repository call, continues on eventPublisherExecutor. A tick that finds the previous run
+    // still going does nothing.
+    @Scheduled(fixedDelayString = "${debit.outbox.poll-interval-ms:200}")
+    public void relayPendingEvents() {
+        startRelay();
+    }
+
+    CompletableFuture<Void> startRelay() {
+        if (!relaying.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> run;
+        try {
+            run = relayBatches(0);
+        } catch (RuntimeException e) {
+            relaying.set(false);
+            throw e;
+        }
+        return run.whenComplete((ignored, error) -> {
+            relaying.set(false);
+            if (error != null) {
+                log.error("Outbox relay run failed, will retry on next poll", error);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> relayBatches(int run) {
+        if (run >= maxBatchesPerRun) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> outboxRepository.findPending(batchSize), eventPublisherExecutor)
+                .thenCompose(pending -> {
+                    recordOldestPendingAge(pending);
+                    if (pending.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return relay(pending).thenComposeAsync(published -> {
+                        if (!published.isEmpty()) {
+                            outboxRepository.markPublished(published);
+                        }
+                        if (pending.size() < batchSize || published.size() < pending.size()) {
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        return relayBatches(run + 1);
+                    }, eventPublisherExecutor);
+                });
+    }
+
+    CompletableFuture<List<UUID>> relay(List<OutboxEntry> pending) {
+        Map<UUID, List<OutboxEntry>> byTransaction = new LinkedHashMap<>();
+        pending.stream()
+                .sorted(Comparator.comparingLong(OutboxEntry::getSequence))
+                .forEach(entry -> byTransaction
+                        .computeIfAbsent(entry.getTransactionId(), id -> new ArrayList<>())
+                        .add(entry));
+
+        int lanes = Math.max(1, Math.min(parallelism, byTransaction.size()));
+        List<List<List<OutboxEntry>>> laneChains = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            laneChains.add(new ArrayList<>());
+        }
+        byTransaction.forEach((transactionId, chain) ->
+                laneChains.get(Math.floorMod(transactionId.hashCode(), lanes)).add(chain));
+
+        Queue<UUID> published = new ConcurrentLinkedQueue<>();
+        CompletableFuture<?>[] laneFutures = laneChains.stream()
+                .map(chains -> CompletableFuture
+                        .supplyAsync(() -> publishLane(chains, published), eventPublisherExecutor)
+                        .thenCompose(Function.identity()))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(laneFutures)
+                .thenApply(ignored -> new ArrayList<>(published));
+    }
+
+    private CompletableFuture<Void> publishLane(List<List<OutboxEntry>> chains, Queue<UUID> published) {
+        return CompletableFuture.allOf(chains.stream()
+                .map(chain -> publishInOrder(chain, 0, published))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private CompletableFuture<Void> publishInOrder(List<OutboxEntry> chain, int index, Queue<UUID> published) {
+        if (index >= chain.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        OutboxEntry entry = chain.get(index);
+        if (!claim(entry)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return eventPublisher.publishAsync(entry.getEvent())
+                .handle((ignored, error) -> {
+                    publishTimer(entry.getEvent().getEventType()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    if (error != null) {
+                        failedCounter.increment();
+                        log.warn("Failed to relay outbox event {} for transaction {}, will retry on next poll",
+                                entry.getEventId(), entry.getTransactionId(), error);
+                        return false;
+                    }
+                    published.add(entry.getEventId());
+                    publishedCounter.increment();
+                    publishLagTimer.record(Duration.between(entry.getCreatedAt(), LocalDateTime.now()));
+                    return true;
+                })
+                // The publish future completes on the broker client's thread; the next claim is a
+                // blocking repository call, so it is moved back onto the publisher executor.
+                .thenComposeAsync(succeeded -> succeeded
+                        ? publishInOrder(chain, index + 1, published)
+                        : CompletableFuture.completedFuture(null), eventPublisherExecutor);
+    }
+
+    // Every replica polls the same pending rows. An event is published only under this relay's
+    // lease, and a transaction whose next event is leased elsewhere is left to that relay so
+    // its events stay in order.
+    private boolean claim(OutboxEntry entry) {
+        try {
+            if (outboxRepository.claim(entry.getEventId(), owner, Duration.ofSeconds(leaseSeconds))) {
+                return true;
+            }
+            leaseConflictCounter.increment();
+            log.debug("Outbox event {} for transaction {} is leased by another relay",
+                    entry.getEventId(), entry.getTransactionId());
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("Failed to lease outbox event {} for transaction {}, will retry on next poll",
+                    entry.getEventId(), entry.getTransactionId(), e);
+        }
+        return false;
+    }
+
+    private Timer publishTimer(String eventType) {
+        return publishTimers.computeIfAbsent(eventType != null ? eventType : "UNKNOWN",
+                type -> Timer.builder("debit.outbox.publish.time")
+                        .description("Time taken by the broker to accept an outbox event")
+                        .tag("service", "hexagonal-debit-service")
+                        .tag("event_type", type)
+                        .publishPercentiles(0.5, 0.95, 0.99, 0.999)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(meterRegistry));
+    }
+
+    private void recordOldestPendingAge(List<OutboxEntry> pending) {
+        long age = pending.stream()
+                .map(OutboxEntry::getCreatedAt)
+                .min(Comparator.naturalOrder())
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+                .orElse(0L);
+        oldestPendingAgeMillis.set(age);
+    }
+}
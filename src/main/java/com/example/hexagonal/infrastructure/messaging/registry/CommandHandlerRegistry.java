@@ -18,6 +18,7 @@ public class CommandHandlerRegistry {
     
     private final List<CommandHandler<?>> commandHandlers;
     private Map<String, CommandHandler<?>> handlerMap;
+    private List<String> supportedCommandTypes;
     
     @PostConstruct
     public void initializeHandlers() {
@@ -26,6 +27,7 @@ public class CommandHandlerRegistry {
                     CommandHandler::getCommandType,
                     Function.identity()
                 ));
+        supportedCommandTypes = List.copyOf(handlerMap.keySet());
         
         log.info("Initialized {} command handlers: {}", 
                 handlerMap.size(), 
@@ -45,6 +47,6 @@ public class CommandHandlerRegistry {
     }
     
     public List<String> getSupportedCommandTypes() {
-        return List.copyOf(handlerMap.keySet());
+        return supportedCommandTypes;
     }
 }
@@ -0,0 +1,119 @@
+package com.example.hexagonal.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentracing.Scope;
+import io.opentracing.Span;
+import io.opentracing.Tracer;
+import io.opentracing.tag.Tags;
+import io.opentracing.util.GlobalTracer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Per-command-type phase latencies and SQS queue lag. The timers keep HdrHistogram-based
+// percentiles plus histogram buckets, so they are scraped as quantiles and buckets from
+// /actuator/prometheus. Only a sample of the commands open a tracing span.
+@Component
+public class CommandMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99, 0.999};
+
+    private final MeterRegistry meterRegistry;
+    private final double spanSampleRate;
+    private final Map<String, CommandMeters> meters = new ConcurrentHashMap<>();
+
+    public CommandMetrics(MeterRegistry meterRegistry,
+                          @Value("${debit.observability.span-sample-rate:0.01}") double spanSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.spanSampleRate = spanSampleRate;
+    }
+
+    // Command types must come from the handler registry, they become a metric tag.
+    public <R> R trace(String commandType, Supplier<R> command) {
+        CommandTrace previous = CommandTrace.open(meters(commandType).trace);
+        try {
+            if (spanSampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= spanSampleRate) {
+                return command.get();
+            }
+            return traceWithSpan(commandType, command);
+        } finally {
+            CommandTrace.close(previous);
+        }
+    }
+
+    public void recordQueueLag(String commandType, long sentTimestampMillis) {
+        if (sentTimestampMillis <= 0) {
+            return;
+        }
+        long lag = Math.max(0, System.currentTimeMillis() - sentTimestampMillis);
+        meters(commandType).queueLag.record(lag, TimeUnit.MILLISECONDS);
+    }
+
+    // SentTimestamp system attribute (epoch millis) as delivered in the SQS message headers; 0 when absent.
+    public static long sentTimestamp(Object header) {
+        if (header == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(header.toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private <R> R traceWithSpan(String commandType, Supplier<R> command) {
+        Tracer tracer = GlobalTracer.get();
+        Span span = tracer.buildSpan("debit.command")
+                .withTag("command", commandType)
+                .start();
+        try (Scope ignored = tracer.scopeManager().activate(span)) {
+            return command.get();
+        } catch (RuntimeException e) {
+            Tags.ERROR.set(span, true);
+            throw e;
+        } finally {
+            span.finish();
+        }
+    }
+
+    private CommandMeters meters(String commandType) {
+        CommandMeters commandMeters = meters.get(commandType);
+        return commandMeters != null ? commandMeters : meters.computeIfAbsent(commandType, this::register);
+    }
+
+    private CommandMeters register(String commandType) {
+        Timer[] phaseTimers = new Timer[CommandPhase.values().length];
+        for (CommandPhase phase : CommandPhase.values()) {
+            phaseTimers[phase.ordinal()] = Timer.builder("debit.commands.phase")
+                    .description("Time spent in each phase of a command")
+                    .tag("service", "hexagonal-debit-service")
+                    .tag("command", commandType)
+                    .tag("phase", phase.tagValue())
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(10_000))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry);
+        }
+        Timer queueLag = Timer.builder("debit.commands.queue.lag")
+                .description("Time between SQS accepting a command and its dispatch")
+                .tag("service", "hexagonal-debit-service")
+                .tag("command", commandType)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(meterRegistry);
+        return new CommandMeters(new CommandTrace(phaseTimers), queueLag);
+    }
+
+    private record CommandMeters(CommandTrace trace, Timer queueLag) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.hexagonal.infrastructure.observability;
+
+public enum CommandPhase {
+    DESERIALIZE("deserialize"),
+    HANDLE("handle"),
+    PERSIST("persist");
+
+    private final String tagValue;
+
+    CommandPhase(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
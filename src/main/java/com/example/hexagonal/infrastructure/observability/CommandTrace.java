@@ -0,0 +1,46 @@
+package com.example.hexagonal.infrastructure.observability;
+
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Phase timers of the command running on the current thread, opened by CommandMetrics.trace.
+// Code below the handler (the service's repository writes) records into it without knowing
+// the command type; outside a command the calls only run the work.
+public final class CommandTrace {
+
+    private static final ThreadLocal<CommandTrace> CURRENT = new ThreadLocal<>();
+
+    private final Timer[] phaseTimers;
+
+    CommandTrace(Timer[] phaseTimers) {
+        this.phaseTimers = phaseTimers;
+    }
+
+    public static <R> R time(CommandPhase phase, Supplier<R> work) {
+        CommandTrace trace = CURRENT.get();
+        return trace == null ? work.get() : trace.phaseTimers[phase.ordinal()].record(work);
+    }
+
+    public static void record(CommandPhase phase, long startNanos) {
+        CommandTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.phaseTimers[phase.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static CommandTrace open(CommandTrace trace) {
+        CommandTrace previous = CURRENT.get();
+        CURRENT.set(trace);
+        return previous;
+    }
+
+    static void close(CommandTrace previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
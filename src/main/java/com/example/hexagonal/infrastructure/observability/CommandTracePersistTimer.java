@@ -0,0 +1,16 @@
+package com.example.hexagonal.infrastructure.observability;
+
+import com.example.hexagonal.domain.port.PersistTimer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+// Records the service's repository writes as the PERSIST phase of the command being traced.
+@Component
+public class CommandTracePersistTimer implements PersistTimer {
+
+    @Override
+    public <R> R time(Supplier<R> write) {
+        return CommandTrace.time(CommandPhase.PERSIST, write);
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.hexagonal.infrastructure.observability;
 
-import datadog.trace.api.Trace;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
@@ -14,44 +13,48 @@ public class DebitTransactionMetrics {
     private final Counter debitTransactionProcessedCounter;
     private final Counter debitTransactionFailedCounter;
     private final Counter debitTransactionRetryCounter;
+    private final Counter debitTransactionConflictRetriedCounter;
+    private final Counter debitTransactionConflictExhaustedCounter;
     private final Timer debitTransactionProcessingTimer;
     private final Timer debitTransactionCreationTimer;
     
-    @Trace("debit.transaction.created")
     public void recordDebitTransactionCreated() {
         debitTransactionCreatedCounter.increment();
     }
     
-    @Trace("debit.transaction.processed")
     public void recordDebitTransactionProcessed() {
         debitTransactionProcessedCounter.increment();
     }
     
-    @Trace("debit.transaction.failed")
     public void recordDebitTransactionFailed() {
         debitTransactionFailedCounter.increment();
     }
     
-    @Trace("debit.transaction.retry")
     public void recordDebitTransactionRetry() {
         debitTransactionRetryCounter.increment();
     }
     
-    @Trace("debit.transaction.processing.time")
+    public void recordVersionConflictRetried() {
+        debitTransactionConflictRetriedCounter.increment();
+    }
+    
+    public void recordVersionConflictExhausted() {
+        debitTransactionConflictExhaustedCounter.increment();
+    }
+    
     public Timer.Sample startDebitTransactionProcessingTimer() {
-        return Timer.start(debitTransactionProcessingTimer);
+        return Timer.start();
     }
     
-    @Trace("debit.transaction.creation.time")
     public Timer.Sample startDebitTransactionCreationTimer() {
-        return Timer.start(debitTransactionCreationTimer);
+        return Timer.start();
     }
     
     public void recordDebitTransactionProcessingTime(Timer.Sample sample) {
-        sample.stop();
+        sample.stop(debitTransactionProcessingTimer);
     }
     
     public void recordDebitTransactionCreationTime(Timer.Sample sample) {
-        sample.stop();
+        sample.stop(debitTransactionCreationTimer);
     }
 }
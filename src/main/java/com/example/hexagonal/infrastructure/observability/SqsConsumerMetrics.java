@@ -0,0 +1,64 @@
+package com.example.hexagonal.infrastructure.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SqsConsumerMetrics {
+
+    private final DistributionSummary batchSize;
+    private final Timer pollLatency;
+    private final Timer batchProcessingTimer;
+    private final Counter acknowledgedCounter;
+    private final Counter failedCounter;
+
+    public SqsConsumerMetrics(MeterRegistry meterRegistry) {
+        this.batchSize = DistributionSummary.builder("debit.sqs.batch.size")
+                .description("Number of messages received per SQS poll")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.pollLatency = Timer.builder("debit.sqs.poll.latency")
+                .description("Time between an SQS poll returning a batch and the listener starting to handle it")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.batchProcessingTimer = Timer.builder("debit.sqs.batch.processing.time")
+                .description("Time taken to handle an SQS batch")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.acknowledgedCounter = Counter.builder("debit.sqs.messages.acknowledged")
+                .description("Number of SQS messages acknowledged")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("debit.sqs.messages.failed")
+                .description("Number of SQS messages left for redelivery")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+    }
+
+    // polledAt is the Sqs_ReceivedAt header stamped by the container when that poll returned, so
+    // concurrent polls of the same or other containers are measured independently.
+    public long recordBatchReceived(int size, Instant polledAt) {
+        if (polledAt != null) {
+            Duration latency = Duration.between(polledAt, Instant.now());
+            if (!latency.isNegative()) {
+                pollLatency.record(latency);
+            }
+        }
+        batchSize.record(size);
+        return System.nanoTime();
+    }
+
+    public void recordBatchCompleted(long receivedAt, int acknowledged, int failed) {
+        long now = System.nanoTime();
+        batchProcessingTimer.record(now - receivedAt, TimeUnit.NANOSECONDS);
+        acknowledgedCounter.increment(acknowledged);
+        failedCounter.increment(failed);
+    }
+}
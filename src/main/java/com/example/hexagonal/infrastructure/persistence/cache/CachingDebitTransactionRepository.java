@@ -0,0 +1,255 @@
+package com.example.hexagonal.infrastructure.persistence.cache;
+
+import com.example.hexagonal.domain.exception.PartialBatchWriteException;
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionPage;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+@Primary
+@ConditionalOnProperty(name = "debit.persistence.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingDebitTransactionRepository implements DebitTransactionRepository {
+
+    static final String CACHE_NAME = "debitTransactions";
+
+    private final DebitTransactionRepository delegate;
+    private final Optional<SharedTransactionCache> sharedCache;
+    private final Cache<UUID, DebitTransaction> cache;
+
+    public CachingDebitTransactionRepository(@Qualifier("debitTransactionStore") DebitTransactionRepository delegate,
+                                             Optional<SharedTransactionCache> sharedCache,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${debit.persistence.cache.maximum-size:100000}") long maximumSize,
+                                             @Value("${debit.persistence.cache.expire-after-write-minutes:30}") long expireAfterWriteMinutes) {
+        this.delegate = delegate;
+        this.sharedCache = sharedCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, Tags.of("service", "hexagonal-debit-service"));
+        sharedCache.ifPresent(shared -> shared.onRemoteInvalidation(cache::invalidate));
+    }
+
+    @Override
+    public DebitTransaction save(DebitTransaction transaction) {
+        return writeThrough(transaction, () -> delegate.save(transaction));
+    }
+
+    @Override
+    public DebitTransaction saveWithEvent(DebitTransaction transaction, DebitEvent event) {
+        return writeThrough(transaction, () -> delegate.saveWithEvent(transaction, event));
+    }
+
+    @Override
+    public List<DebitTransaction> saveAll(List<DebitTransaction> transactions) {
+        List<DebitTransaction> saved;
+        try {
+            saved = delegate.saveAll(transactions);
+        } catch (RuntimeException e) {
+            transactions.forEach(transaction -> invalidate(transaction.getTransactionId()));
+            throw e;
+        }
+        saved.forEach(this::cacheLatest);
+        return saved;
+    }
+
+    @Override
+    public List<DebitTransaction> saveAllWithEvents(List<DebitTransaction> transactions, List<DebitEvent> events) {
+        List<DebitTransaction> saved;
+        try {
+            saved = delegate.saveAllWithEvents(transactions, events);
+        } catch (PartialBatchWriteException e) {
+            int persisted = e.getPersistedCount();
+            transactions.subList(0, persisted).forEach(this::cacheLatest);
+            transactions.subList(persisted, transactions.size()).forEach(transaction -> invalidate(transaction.getTransactionId()));
+            throw e;
+        } catch (RuntimeException e) {
+            transactions.forEach(transaction -> invalidate(transaction.getTransactionId()));
+            throw e;
+        }
+        saved.forEach(this::cacheLatest);
+        return saved;
+    }
+
+    // Loads run outside Caffeine's compute lock: a blocking read inside
+    // ConcurrentHashMap.compute would pin the carrier of a virtual thread.
+    @Override
+    public Optional<DebitTransaction> findById(UUID transactionId) {
+        DebitTransaction cached = cache.getIfPresent(transactionId);
+        if (cached == null) {
+            cached = load(transactionId);
+            if (cached != null) {
+                cached = cacheNewest(cached);
+            }
+        }
+        return Optional.ofNullable(cached).map(this::copy);
+    }
+
+    @Override
+    public List<DebitTransaction> findAllById(Collection<UUID> transactionIds) {
+        Map<UUID, DebitTransaction> found = new HashMap<>(cache.getAllPresent(transactionIds));
+        Set<UUID> missing = transactionIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            loadAll(missing).values().forEach(loaded -> found.put(loaded.getTransactionId(), cacheNewest(loaded)));
+        }
+        return transactionIds.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(this::copy)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DebitTransaction> findByCompanyId(String companyId) {
+        return delegate.findByCompanyId(companyId);
+    }
+
+    @Override
+    public List<DebitTransaction> findByStatus(TransactionStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public TransactionPage findByCompanyId(String companyId, int pageSize, String continuationToken) {
+        return delegate.findByCompanyId(companyId, pageSize, continuationToken);
+    }
+
+    @Override
+    public TransactionPage findByStatus(TransactionStatus status, int pageSize, String continuationToken) {
+        return delegate.findByStatus(status, pageSize, continuationToken);
+    }
+
+    @Override
+    public List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return delegate.findByScheduledDateBetween(startDate, endDate);
+    }
+
+    @Override
+    public List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        return delegate.findByScheduledDateBetween(startDate, endDate, limit);
+    }
+
+    @Override
+    public List<DebitTransaction> findFailedTransactionsForRetry() {
+        return delegate.findFailedTransactionsForRetry();
+    }
+
+    @Override
+    public List<DebitTransaction> findFailedTransactionsForRetry(int limit) {
+        return delegate.findFailedTransactionsForRetry(limit);
+    }
+
+    @Override
+    public void deleteById(UUID transactionId) {
+        try {
+            delegate.deleteById(transactionId);
+        } finally {
+            invalidate(transactionId);
+        }
+    }
+
+    @Override
+    public long countByCompanyIdAndStatus(String companyId, TransactionStatus status) {
+        return delegate.countByCompanyIdAndStatus(companyId, status);
+    }
+
+    private DebitTransaction writeThrough(DebitTransaction transaction, Supplier<DebitTransaction> write) {
+        DebitTransaction saved;
+        try {
+            saved = write.get();
+        } catch (RuntimeException e) {
+            invalidate(transaction.getTransactionId());
+            throw e;
+        }
+        cacheLatest(saved);
+        return saved;
+    }
+
+    private DebitTransaction load(UUID transactionId) {
+        Optional<DebitTransaction> fromShared = sharedCache.flatMap(shared -> shared.get(transactionId));
+        if (fromShared.isPresent()) {
+            return fromShared.get();
+        }
+
+        Optional<DebitTransaction> loaded = delegate.findById(transactionId).map(this::copy);
+        loaded.ifPresent(transaction -> sharedCache.ifPresent(shared -> shared.putIfAbsent(transaction)));
+        return loaded.orElse(null);
+    }
+
+    private Map<UUID, DebitTransaction> loadAll(Set<UUID> transactionIds) {
+        Map<UUID, DebitTransaction> loaded = new HashMap<>(sharedCache
+                .map(shared -> shared.getAll(List.copyOf(transactionIds)))
+                .orElse(Map.of()));
+
+        List<UUID> missing = transactionIds.stream()
+                .filter(id -> !loaded.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            delegate.findAllById(missing).stream()
+                    .map(this::copy)
+                    .forEach(transaction -> {
+                        loaded.put(transaction.getTransactionId(), transaction);
+                        sharedCache.ifPresent(shared -> shared.putIfAbsent(transaction));
+                    });
+        }
+        return loaded;
+    }
+
+    private void invalidate(UUID transactionId) {
+        cache.invalidate(transactionId);
+        sharedCache.ifPresent(shared -> shared.evict(transactionId));
+    }
+
+    private void cacheLatest(DebitTransaction saved) {
+        sharedCache.ifPresent(shared -> shared.put(saved));
+        cacheNewest(copy(saved));
+    }
+
+    private DebitTransaction cacheNewest(DebitTransaction transaction) {
+        return cache.asMap().merge(transaction.getTransactionId(), transaction,
+                (current, candidate) -> isOlder(candidate, current) ? current : candidate);
+    }
+
+    private boolean isOlder(DebitTransaction candidate, DebitTransaction current) {
+        if (candidate.getVersion() != null && current.getVersion() != null) {
+            return candidate.getVersion() < current.getVersion();
+        }
+        return candidate.getUpdatedAt() != null
+                && current.getUpdatedAt() != null
+                && candidate.getUpdatedAt().isBefore(current.getUpdatedAt());
+    }
+
+    private DebitTransaction copy(DebitTransaction transaction) {
+        return transaction.toBuilder().build();
+    }
+}
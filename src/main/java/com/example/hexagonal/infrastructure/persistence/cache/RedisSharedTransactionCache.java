@@ -0,0 +1,243 @@
+package com.example.hexagonal.infrastructure.persistence.cache;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.infrastructure.persistence.codec.DebitTransactionCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "debit.persistence.cache.redis.enabled", havingValue = "true")
+@Slf4j
+public class RedisSharedTransactionCache implements SharedTransactionCache, MessageListener {
+
+    static final String KEY_PREFIX = "debit:transaction:v2:";
+    private static final char SEPARATOR = '|';
+    private static final int VERSION_BYTES = Long.BYTES;
+    private static final byte[] OVERWRITE = "overwrite".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] IF_ABSENT = "if-absent".getBytes(StandardCharsets.UTF_8);
+
+    // Values are the transaction version (8 bytes, big-endian) followed by the encoded transaction.
+    // The write is skipped when the entry already holds a newer version, or the same version when
+    // only populating, so a late write from another replica cannot replace a newer row.
+    private static final RedisScript<Long> SET_IF_NEWER = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current and string.len(current) >= 8 then
+              local version = 0
+              for i = 1, 8 do
+                version = version * 256 + string.byte(current, i)
+              end
+              local incoming = tonumber(ARGV[1])
+              if version > incoming or (version == incoming and ARGV[4] == 'if-absent') then
+                return 0
+              end
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String invalidationChannel;
+    private final Duration timeToLive;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<Consumer<UUID>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+    private final Counter invalidationsPublished;
+    private final Counter invalidationsReceived;
+
+    public RedisSharedTransactionCache(RedisTemplate<String, byte[]> debitTransactionRedisTemplate,
+                                       RedisMessageListenerContainer listenerContainer,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${debit.persistence.cache.redis.invalidation-channel:debit-transactions-invalidation}") String invalidationChannel,
+                                       @Value("${debit.persistence.cache.redis.time-to-live-minutes:30}") long timeToLiveMinutes) {
+        this.redisTemplate = debitTransactionRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.invalidationChannel = invalidationChannel;
+        this.timeToLive = Duration.ofMinutes(timeToLiveMinutes);
+
+        this.hitCounter = l2Counter(meterRegistry, "hit");
+        this.missCounter = l2Counter(meterRegistry, "miss");
+        this.errorCounter = l2Counter(meterRegistry, "error");
+        this.invalidationsPublished = invalidationCounter(meterRegistry, "published");
+        this.invalidationsReceived = invalidationCounter(meterRegistry, "received");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+    }
+
+    @Override
+    public Optional<DebitTransaction> get(UUID transactionId) {
+        try {
+            byte[] data = redisTemplate.opsForValue().get(key(transactionId));
+            if (data == null) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            hitCounter.increment();
+            return Optional.of(decode(data));
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("Redis cache read failed for transaction {}: {}", transactionId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Map<UUID, DebitTransaction> getAll(Collection<UUID> transactionIds) {
+        List<UUID> ids = List.copyOf(transactionIds);
+        Map<UUID, DebitTransaction> found = new HashMap<>(ids.size());
+        try {
+            List<byte[]> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::key).toList());
+            for (int i = 0; i < ids.size(); i++) {
+                byte[] data = values == null ? null : values.get(i);
+                if (data != null) {
+                    found.put(ids.get(i), decode(data));
+                }
+            }
+            hitCounter.increment(found.size());
+            missCounter.increment(ids.size() - found.size());
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("Redis cache bulk read failed for {} transactions: {}", ids.size(), e.getMessage());
+        }
+        return found;
+    }
+
+    @Override
+    public void putIfAbsent(DebitTransaction transaction) {
+        try {
+            setIfNewer(transaction, IF_ABSENT);
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("Redis cache populate failed for transaction {}: {}", transaction.getTransactionId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void put(DebitTransaction transaction) {
+        try {
+            setIfNewer(transaction, OVERWRITE);
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("Redis cache write failed for transaction {}: {}", transaction.getTransactionId(), e.getMessage());
+            evictQuietly(transaction.getTransactionId());
+        }
+        publishInvalidation(transaction.getTransactionId());
+    }
+
+    @Override
+    public void evict(UUID transactionId) {
+        evictQuietly(transactionId);
+        publishInvalidation(transactionId);
+    }
+
+    @Override
+    public void onRemoteInvalidation(Consumer<UUID> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+
+        try {
+            UUID transactionId = UUID.fromString(body.substring(separator + 1));
+            invalidationsReceived.increment();
+            invalidationListeners.forEach(listener -> listener.accept(transactionId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", body);
+        }
+    }
+
+    private void setIfNewer(DebitTransaction transaction, byte[] mode) {
+        long version = transaction.getVersion() != null ? transaction.getVersion() : 0L;
+        byte[] encoded = DebitTransactionCodec.encode(transaction);
+        byte[] value = ByteBuffer.allocate(VERSION_BYTES + encoded.length)
+                .putLong(version)
+                .put(encoded)
+                .array();
+        redisTemplate.execute(SET_IF_NEWER, List.of(key(transaction.getTransactionId())),
+                Long.toString(version).getBytes(StandardCharsets.UTF_8),
+                value,
+                Long.toString(timeToLive.toMillis()).getBytes(StandardCharsets.UTF_8),
+                mode);
+    }
+
+    private static DebitTransaction decode(byte[] value) {
+        return DebitTransactionCodec.decode(Arrays.copyOfRange(value, VERSION_BYTES, value.length));
+    }
+
+    private void evictQuietly(UUID transactionId) {
+        try {
+            redisTemplate.delete(key(transactionId));
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("Redis cache evict failed for transaction {}: {}", transactionId, e.getMessage());
+        }
+    }
+
+    private void publishInvalidation(UUID transactionId) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel,
+                    (instanceId + SEPARATOR + transactionId).getBytes(StandardCharsets.UTF_8));
+            invalidationsPublished.increment();
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("Failed to publish cache invalidation for transaction {}: {}", transactionId, e.getMessage());
+        }
+    }
+
+    private String key(UUID transactionId) {
+        return KEY_PREFIX + transactionId;
+    }
+
+    private static Counter l2Counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("debit.cache.l2.requests")
+                .description("Redis (L2) transaction cache lookups")
+                .tag("service", "hexagonal-debit-service")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter invalidationCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("debit.cache.invalidations")
+                .description("Cross-replica cache invalidation messages")
+                .tag("service", "hexagonal-debit-service")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+}
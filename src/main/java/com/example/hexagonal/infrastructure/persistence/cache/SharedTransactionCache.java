@@ -0,0 +1,18 @@
+package com.example.hexagonal.infrastructure.persistence.cache;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface SharedTransactionCache {
+    Optional<DebitTransaction> get(UUID transactionId);
+    Map<UUID, DebitTransaction> getAll(Collection<UUID> transactionIds);
+    void putIfAbsent(DebitTransaction transaction);
+    void put(DebitTransaction transaction);
+    void evict(UUID transactionId);
+    void onRemoteInvalidation(Consumer<UUID> listener);
+}
@@ -0,0 +1,235 @@
+package com.example.hexagonal.infrastructure.persistence.codec;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.UUID;
+
+// Row layout for in-memory stores: primitives instead of boxed/temporal objects and
+// interned company strings. Amounts keep their unscaled value and scale, so
+// 10.0 and 10.00 survive the round trip; timestamps are epoch microseconds (UTC),
+// which covers roughly 290,000 years around 1970, with the sub-microsecond digits of
+// the four timestamps packed 10 bits each into one long. LocalDateTime.MIN and MAX,
+// common as open-ended bounds, are stored as Long.MIN_VALUE and Long.MAX_VALUE.
+public final class CompactDebitTransaction {
+
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int NANOS_PER_MICRO = 1_000;
+    private static final int NANO_OF_MICRO_BITS = 10;
+    private static final int NANO_OF_MICRO_MASK = (1 << NANO_OF_MICRO_BITS) - 1;
+
+    private static final int SCHEDULED_SLOT = 0;
+    private static final int PROCESSED_SLOT = 1;
+    private static final int CREATED_SLOT = 2;
+    private static final int UPDATED_SLOT = 3;
+
+    private static final int AMOUNT = 1;
+    private static final int SCHEDULED_DATE = 1 << 1;
+    private static final int PROCESSED_DATE = 1 << 2;
+    private static final int CREATED_AT = 1 << 3;
+    private static final int UPDATED_AT = 1 << 4;
+    private static final int RETRY_COUNT = 1 << 5;
+    private static final int VERSION = 1 << 6;
+
+    private final String companyId;
+    private final String companyDocument;
+    private final String companyName;
+    private final String bankAccountId;
+    private final String description;
+    private final String failureReason;
+    private final String correlationId;
+    private final BigDecimal wideAmount;
+    private final long amountUnscaled;
+    private final long scheduledDate;
+    private final long processedDate;
+    private final long createdAt;
+    private final long updatedAt;
+    private final long nanosOfMicro;
+    private final long version;
+    private final int retryCount;
+    private final byte amountScale;
+    private final byte status;
+    private final byte presence;
+
+    private CompactDebitTransaction(DebitTransaction transaction, StringInternTable strings) {
+        int flags = 0;
+        this.companyId = strings.intern(transaction.getCompanyId());
+        this.companyDocument = strings.intern(transaction.getCompanyDocument());
+        this.companyName = strings.intern(transaction.getCompanyName());
+        this.bankAccountId = transaction.getBankAccountId();
+        this.description = transaction.getDescription();
+        this.failureReason = transaction.getFailureReason();
+        this.correlationId = transaction.getCorrelationId();
+
+        BigDecimal amount = transaction.getAmount();
+        if (amount != null) {
+            flags |= AMOUNT;
+        }
+        if (amount != null && amount.scale() == (byte) amount.scale() && amount.unscaledValue().bitLength() < Long.SIZE) {
+            this.amountUnscaled = amount.unscaledValue().longValue();
+            this.amountScale = (byte) amount.scale();
+            this.wideAmount = null;
+        } else {
+            this.amountUnscaled = 0;
+            this.amountScale = 0;
+            this.wideAmount = amount;
+        }
+
+        this.scheduledDate = toEpochMicros(transaction.getScheduledDate());
+        this.processedDate = toEpochMicros(transaction.getProcessedDate());
+        this.createdAt = toEpochMicros(transaction.getCreatedAt());
+        this.updatedAt = toEpochMicros(transaction.getUpdatedAt());
+        this.nanosOfMicro = packNanoOfMicro(transaction.getScheduledDate(), SCHEDULED_SLOT)
+                | packNanoOfMicro(transaction.getProcessedDate(), PROCESSED_SLOT)
+                | packNanoOfMicro(transaction.getCreatedAt(), CREATED_SLOT)
+                | packNanoOfMicro(transaction.getUpdatedAt(), UPDATED_SLOT);
+        flags |= transaction.getScheduledDate() != null ? SCHEDULED_DATE : 0;
+        flags |= transaction.getProcessedDate() != null ? PROCESSED_DATE : 0;
+        flags |= transaction.getCreatedAt() != null ? CREATED_AT : 0;
+        flags |= transaction.getUpdatedAt() != null ? UPDATED_AT : 0;
+
+        this.retryCount = transaction.getRetryCount() != null ? transaction.getRetryCount() : 0;
+        flags |= transaction.getRetryCount() != null ? RETRY_COUNT : 0;
+        this.version = transaction.getVersion() != null ? transaction.getVersion() : 0;
+        flags |= transaction.getVersion() != null ? VERSION : 0;
+        this.status = transaction.getStatus() != null ? (byte) transaction.getStatus().ordinal() : -1;
+        this.presence = (byte) flags;
+    }
+
+    public static CompactDebitTransaction of(DebitTransaction transaction, StringInternTable strings) {
+        return new CompactDebitTransaction(transaction, strings);
+    }
+
+    public DebitTransaction toDebitTransaction(UUID transactionId) {
+        return DebitTransaction.builder()
+                .transactionId(transactionId)
+                .companyId(companyId)
+                .companyDocument(companyDocument)
+                .companyName(companyName)
+                .bankAccountId(bankAccountId)
+                .amount(amount())
+                .description(description)
+                .status(status())
+                .failureReason(failureReason)
+                .scheduledDate(has(SCHEDULED_DATE) ? fromEpochMicros(scheduledDate, nanoOfMicro(SCHEDULED_SLOT)) : null)
+                .processedDate(has(PROCESSED_DATE) ? fromEpochMicros(processedDate, nanoOfMicro(PROCESSED_SLOT)) : null)
+                .createdAt(has(CREATED_AT) ? fromEpochMicros(createdAt, nanoOfMicro(CREATED_SLOT)) : null)
+                .updatedAt(has(UPDATED_AT) ? fromEpochMicros(updatedAt, nanoOfMicro(UPDATED_SLOT)) : null)
+                .correlationId(correlationId)
+                .retryCount(has(RETRY_COUNT) ? retryCount : null)
+                .version(version())
+                .build();
+    }
+
+    public String companyId() {
+        return companyId;
+    }
+
+    public String bankAccountId() {
+        return bankAccountId;
+    }
+
+    public TransactionStatus status() {
+        return status < 0 ? null : STATUSES[status];
+    }
+
+    public Long version() {
+        return has(VERSION) ? version : null;
+    }
+
+    public boolean isScheduled() {
+        return has(SCHEDULED_DATE);
+    }
+
+    public long scheduledEpochMicros() {
+        return scheduledDate;
+    }
+
+    public int scheduledNanoOfMicro() {
+        return nanoOfMicro(SCHEDULED_SLOT);
+    }
+
+    public long updatedEpochMicros() {
+        return updatedAt;
+    }
+
+    public int updatedNanoOfMicro() {
+        return nanoOfMicro(UPDATED_SLOT);
+    }
+
+    public int retryCount() {
+        return retryCount;
+    }
+
+    public BigDecimal amount() {
+        if (!has(AMOUNT)) {
+            return null;
+        }
+        return wideAmount != null ? wideAmount : BigDecimal.valueOf(amountUnscaled, amountScale);
+    }
+
+    // For range bounds: dates beyond the microsecond range clamp to the MIN/MAX sentinels.
+    public static long epochMicros(LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+        try {
+            return toEpochMicros(dateTime);
+        } catch (IllegalArgumentException e) {
+            return dateTime.getYear() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    public static int nanoOfMicro(LocalDateTime dateTime) {
+        return dateTime.getNano() % NANOS_PER_MICRO;
+    }
+
+    private boolean has(int flag) {
+        return (presence & flag) != 0;
+    }
+
+    private int nanoOfMicro(int slot) {
+        return (int) (nanosOfMicro >>> (slot * NANO_OF_MICRO_BITS)) & NANO_OF_MICRO_MASK;
+    }
+
+    private static long packNanoOfMicro(LocalDateTime dateTime, int slot) {
+        return dateTime == null ? 0 : (long) nanoOfMicro(dateTime) << (slot * NANO_OF_MICRO_BITS);
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        if (dateTime.equals(LocalDateTime.MAX)) {
+            return Long.MAX_VALUE;
+        }
+        if (dateTime.equals(LocalDateTime.MIN)) {
+            return Long.MIN_VALUE;
+        }
+        long epochMicros;
+        try {
+            epochMicros = Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), MICROS_PER_SECOND),
+                    dateTime.getNano() / NANOS_PER_MICRO);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Date outside the supported range: " + dateTime, e);
+        }
+        if (epochMicros == Long.MAX_VALUE || epochMicros == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("Date outside the supported range: " + dateTime);
+        }
+        return epochMicros;
+    }
+
+    private static LocalDateTime fromEpochMicros(long epochMicros, int nanoOfMicro) {
+        if (epochMicros == Long.MAX_VALUE) {
+            return LocalDateTime.MAX;
+        }
+        if (epochMicros == Long.MIN_VALUE) {
+            return LocalDateTime.MIN;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+                (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * NANOS_PER_MICRO + nanoOfMicro, ZoneOffset.UTC);
+    }
+}
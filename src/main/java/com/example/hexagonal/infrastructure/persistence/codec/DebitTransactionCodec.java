@@ -0,0 +1,283 @@
+package com.example.hexagonal.infrastructure.persistence.codec;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+// Binary layout shared by the segment log and the Redis L2 cache, so records outlive the
+// process that wrote them. Version 2 stores the status as a fixed code (see statusCode) and the
+// amount scale and length as shorts; version 1 records, which used the enum ordinal and single
+// bytes, are still decoded.
+public final class DebitTransactionCodec {
+
+    static final byte FORMAT_VERSION = 2;
+    static final byte LEGACY_FORMAT_VERSION = 1;
+
+    // Enum order when version 1 was written; only used to read those records.
+    private static final TransactionStatus[] LEGACY_STATUSES = {
+            TransactionStatus.PENDING, TransactionStatus.SCHEDULED, TransactionStatus.PROCESSING,
+            TransactionStatus.PROCESSED, TransactionStatus.FAILED, TransactionStatus.CANCELLED,
+            TransactionStatus.RETRYING};
+
+    private static final int COMPANY_ID = 1;
+    private static final int COMPANY_DOCUMENT = 1 << 1;
+    private static final int COMPANY_NAME = 1 << 2;
+    private static final int BANK_ACCOUNT_ID = 1 << 3;
+    private static final int AMOUNT = 1 << 4;
+    private static final int DESCRIPTION = 1 << 5;
+    private static final int STATUS = 1 << 6;
+    private static final int FAILURE_REASON = 1 << 7;
+    private static final int SCHEDULED_DATE = 1 << 8;
+    private static final int PROCESSED_DATE = 1 << 9;
+    private static final int CREATED_AT = 1 << 10;
+    private static final int UPDATED_AT = 1 << 11;
+    private static final int CORRELATION_ID = 1 << 12;
+    private static final int RETRY_COUNT = 1 << 13;
+    private static final int VERSION = 1 << 14;
+
+    private DebitTransactionCodec() {
+    }
+
+    public static byte[] encode(DebitTransaction transaction) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            encode(transaction, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode transaction " + transaction.getTransactionId(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static DebitTransaction decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            return decode(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode transaction", e);
+        }
+    }
+
+    public static void encode(DebitTransaction transaction, DataOutputStream out) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        out.writeLong(transaction.getTransactionId().getMostSignificantBits());
+        out.writeLong(transaction.getTransactionId().getLeastSignificantBits());
+        out.writeShort(presence(transaction));
+
+        writeString(out, transaction.getCompanyId());
+        writeString(out, transaction.getCompanyDocument());
+        writeString(out, transaction.getCompanyName());
+        writeString(out, transaction.getBankAccountId());
+        if (transaction.getAmount() != null) {
+            BigDecimal amount = transaction.getAmount();
+            byte[] unscaled = amount.unscaledValue().toByteArray();
+            if (amount.scale() != (short) amount.scale() || unscaled.length > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Amount " + amount + " of transaction "
+                        + transaction.getTransactionId() + " is out of the encodable range");
+            }
+            out.writeShort(amount.scale());
+            out.writeShort(unscaled.length);
+            out.write(unscaled);
+        }
+        writeString(out, transaction.getDescription());
+        if (transaction.getStatus() != null) {
+            out.writeByte(statusCode(transaction.getStatus()));
+        }
+        writeString(out, transaction.getFailureReason());
+        writeDateTime(out, transaction.getScheduledDate());
+        writeDateTime(out, transaction.getProcessedDate());
+        writeDateTime(out, transaction.getCreatedAt());
+        writeDateTime(out, transaction.getUpdatedAt());
+        writeString(out, transaction.getCorrelationId());
+        if (transaction.getRetryCount() != null) {
+            out.writeInt(transaction.getRetryCount());
+        }
+        if (transaction.getVersion() != null) {
+            out.writeLong(transaction.getVersion());
+        }
+    }
+
+    public static DebitTransaction decode(DataInputStream in) throws IOException {
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION && version != LEGACY_FORMAT_VERSION) {
+            throw new IOException("Unsupported transaction format version: " + version);
+        }
+        boolean legacy = version == LEGACY_FORMAT_VERSION;
+
+        DebitTransaction.DebitTransactionBuilder builder = DebitTransaction.builder()
+                .transactionId(new UUID(in.readLong(), in.readLong()));
+        int presence = in.readUnsignedShort();
+
+        if ((presence & COMPANY_ID) != 0) {
+            builder.companyId(readString(in));
+        }
+        if ((presence & COMPANY_DOCUMENT) != 0) {
+            builder.companyDocument(readString(in));
+        }
+        if ((presence & COMPANY_NAME) != 0) {
+            builder.companyName(readString(in));
+        }
+        if ((presence & BANK_ACCOUNT_ID) != 0) {
+            builder.bankAccountId(readString(in));
+        }
+        if ((presence & AMOUNT) != 0) {
+            int scale = legacy ? in.readByte() : in.readShort();
+            byte[] unscaled = new byte[legacy ? in.readUnsignedByte() : in.readUnsignedShort()];
+            in.readFully(unscaled);
+            builder.amount(new BigDecimal(new BigInteger(unscaled), scale));
+        }
+        if ((presence & DESCRIPTION) != 0) {
+            builder.description(readString(in));
+        }
+        if ((presence & STATUS) != 0) {
+            int code = in.readUnsignedByte();
+            builder.status(legacy ? legacyStatus(code) : status(code));
+        }
+        if ((presence & FAILURE_REASON) != 0) {
+            builder.failureReason(readString(in));
+        }
+        if ((presence & SCHEDULED_DATE) != 0) {
+            builder.scheduledDate(readDateTime(in));
+        }
+        if ((presence & PROCESSED_DATE) != 0) {
+            builder.processedDate(readDateTime(in));
+        }
+        if ((presence & CREATED_AT) != 0) {
+            builder.createdAt(readDateTime(in));
+        }
+        if ((presence & UPDATED_AT) != 0) {
+            builder.updatedAt(readDateTime(in));
+        }
+        if ((presence & CORRELATION_ID) != 0) {
+            builder.correlationId(readString(in));
+        }
+        if ((presence & RETRY_COUNT) != 0) {
+            builder.retryCount(in.readInt());
+        }
+        if ((presence & VERSION) != 0) {
+            builder.version(in.readLong());
+        }
+
+        return builder.build();
+    }
+
+    // Codes are part of the stored format: never renumber them, give a new status the next one.
+    private static int statusCode(TransactionStatus status) {
+        return switch (status) {
+            case PENDING -> 1;
+            case SCHEDULED -> 2;
+            case PROCESSING -> 3;
+            case PROCESSED -> 4;
+            case FAILED -> 5;
+            case CANCELLED -> 6;
+            case RETRYING -> 7;
+        };
+    }
+
+    private static TransactionStatus status(int code) throws IOException {
+        return switch (code) {
+            case 1 -> TransactionStatus.PENDING;
+            case 2 -> TransactionStatus.SCHEDULED;
+            case 3 -> TransactionStatus.PROCESSING;
+            case 4 -> TransactionStatus.PROCESSED;
+            case 5 -> TransactionStatus.FAILED;
+            case 6 -> TransactionStatus.CANCELLED;
+            case 7 -> TransactionStatus.RETRYING;
+            default -> throw new IOException("Unknown transaction status code: " + code);
+        };
+    }
+
+    private static TransactionStatus legacyStatus(int ordinal) throws IOException {
+        if (ordinal >= LEGACY_STATUSES.length) {
+            throw new IOException("Unknown transaction status ordinal: " + ordinal);
+        }
+        return LEGACY_STATUSES[ordinal];
+    }
+
+    private static int presence(DebitTransaction transaction) {
+        int presence = 0;
+        if (transaction.getCompanyId() != null) {
+            presence |= COMPANY_ID;
+        }
+        if (transaction.getCompanyDocument() != null) {
+            presence |= COMPANY_DOCUMENT;
+        }
+        if (transaction.getCompanyName() != null) {
+            presence |= COMPANY_NAME;
+        }
+        if (transaction.getBankAccountId() != null) {
+            presence |= BANK_ACCOUNT_ID;
+        }
+        if (transaction.getAmount() != null) {
+            presence |= AMOUNT;
+        }
+        if (transaction.getDescription() != null) {
+            presence |= DESCRIPTION;
+        }
+        if (transaction.getStatus() != null) {
+            presence |= STATUS;
+        }
+        if (transaction.getFailureReason() != null) {
+            presence |= FAILURE_REASON;
+        }
+        if (transaction.getScheduledDate() != null) {
+            presence |= SCHEDULED_DATE;
+        }
+        if (transaction.getProcessedDate() != null) {
+            presence |= PROCESSED_DATE;
+        }
+        if (transaction.getCreatedAt() != null) {
+            presence |= CREATED_AT;
+        }
+        if (transaction.getUpdatedAt() != null) {
+            presence |= UPDATED_AT;
+        }
+        if (transaction.getCorrelationId() != null) {
+            presence |= CORRELATION_ID;
+        }
+        if (transaction.getRetryCount() != null) {
+            presence |= RETRY_COUNT;
+        }
+        if (transaction.getVersion() != null) {
+            presence |= VERSION;
+        }
+        return presence;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[in.readInt()];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.hexagonal.infrastructure.persistence.codec;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class StringInternTable {
+
+    private final ConcurrentHashMap<String, String> table = new ConcurrentHashMap<>();
+
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = table.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        canonical = table.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    public void clear() {
+        table.clear();
+    }
+}
@@ -0,0 +1,637 @@
+package com.example.hexagonal.infrastructure.persistence.dynamodb.adapter;
+
+import com.example.hexagonal.domain.exception.PartialBatchWriteException;
+import com.example.hexagonal.domain.exception.VersionConflictException;
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.OutboxEntry;
+import com.example.hexagonal.domain.model.TransactionPage;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.example.hexagonal.domain.port.OutboxRepository;
+import com.example.hexagonal.infrastructure.persistence.dynamodb.entity.DebitTransactionItem;
+import com.example.hexagonal.infrastructure.persistence.dynamodb.entity.OutboxItem;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.CreateTableEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.EnhancedGlobalSecondaryIndex;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactPutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Component("debitTransactionStore")
+@ConditionalOnProperty(name = "debit.persistence.type", havingValue = "dynamodb")
+@Slf4j
+public class DynamoDbDebitTransactionAdapter implements DebitTransactionRepository, OutboxRepository {
+
+    static final int MAX_BATCH_WRITE_ITEMS = 25;
+    static final int MAX_BATCH_GET_ITEMS = 100;
+    static final int MAX_TRANSACT_ITEMS = 100;
+    private static final int MAX_UNPROCESSED_RETRIES = 5;
+
+    private final DynamoDbEnhancedClient enhancedClient;
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbTable<DebitTransactionItem> transactionTable;
+    private final DynamoDbTable<OutboxItem> outboxTable;
+    private final int maxRetryAttempts;
+    private final boolean createTables;
+    private final int maxScheduledRangeDays;
+    private final int maxScheduledResults;
+
+    public DynamoDbDebitTransactionAdapter(DynamoDbEnhancedClient enhancedClient,
+                                           DynamoDbClient dynamoDbClient,
+                                           @Value("${spring.cloud.aws.dynamodb.table-name:debit-transactions}") String tableName,
+                                           @Value("${debit.outbox.table-name:debit-transactions-outbox}") String outboxTableName,
+                                           @Value("${debit.performance.max-retry-attempts:3}") int maxRetryAttempts,
+                                           @Value("${debit.persistence.dynamodb.create-tables:false}") boolean createTables,
+                                           @Value("${debit.persistence.dynamodb.max-scheduled-range-days:31}") int maxScheduledRangeDays,
+                                           @Value("${debit.persistence.dynamodb.max-scheduled-results:10000}") int maxScheduledResults) {
+        this.enhancedClient = enhancedClient;
+        this.dynamoDbClient = dynamoDbClient;
+        this.transactionTable = enhancedClient.table(tableName, TableSchema.fromBean(DebitTransactionItem.class));
+        this.outboxTable = enhancedClient.table(outboxTableName, TableSchema.fromBean(OutboxItem.class));
+        this.maxRetryAttempts = maxRetryAttempts;
+        this.createTables = createTables;
+        this.maxScheduledRangeDays = maxScheduledRangeDays;
+        this.maxScheduledResults = maxScheduledResults;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (createTables) {
+            createTablesIfMissing();
+        }
+    }
+
+    @Override
+    public DebitTransaction save(DebitTransaction transaction) {
+        Long expectedVersion = transaction.getVersion();
+        DebitTransactionItem item = nextVersionItem(transaction);
+        try {
+            transactionTable.putItem(PutItemEnhancedRequest.builder(DebitTransactionItem.class)
+                    .item(item)
+                    .conditionExpression(versionCondition(expectedVersion))
+                    .build());
+        } catch (ConditionalCheckFailedException e) {
+            throw new VersionConflictException(transaction.getTransactionId(), expectedVersion, e);
+        }
+        transaction.setVersion(item.getVersion());
+        log.debug("DynamoDB: Transaction {} saved at version {}", transaction.getTransactionId(), item.getVersion());
+        return transaction;
+    }
+
+    @Override
+    public DebitTransaction saveWithEvent(DebitTransaction transaction, DebitEvent event) {
+        Long expectedVersion = transaction.getVersion();
+        DebitTransactionItem item = nextVersionItem(transaction);
+        try {
+            enhancedClient.transactWriteItems(TransactWriteItemsEnhancedRequest.builder()
+                    .addPutItem(transactionTable, TransactPutItemEnhancedRequest.builder(DebitTransactionItem.class)
+                            .item(item)
+                            .conditionExpression(versionCondition(expectedVersion))
+                            .build())
+                    .addPutItem(outboxTable, OutboxItem.from(event, item.getVersion()))
+                    .build());
+        } catch (TransactionCanceledException e) {
+            if (e.hasCancellationReasons() && e.cancellationReasons().stream()
+                    .anyMatch(reason -> "ConditionalCheckFailed".equals(reason.code()))) {
+                throw new VersionConflictException(transaction.getTransactionId(), expectedVersion, e);
+            }
+            throw e;
+        }
+        transaction.setVersion(item.getVersion());
+        log.debug("DynamoDB: Transaction {} saved with event {} at version {}",
+                transaction.getTransactionId(), event.getEventType(), item.getVersion());
+        return transaction;
+    }
+
+    // BatchWriteItem cannot carry condition expressions, so only new transactions go
+    // through the batch path; already-versioned ones fall back to a conditional put.
+    @Override
+    public List<DebitTransaction> saveAll(List<DebitTransaction> transactions) {
+        List<DebitTransaction> created = new ArrayList<>(transactions.size());
+        for (DebitTransaction transaction : transactions) {
+            if (transaction.getVersion() == null) {
+                created.add(transaction);
+            } else {
+                save(transaction);
+            }
+        }
+
+        for (int from = 0; from < created.size(); from += MAX_BATCH_WRITE_ITEMS) {
+            List<DebitTransactionItem> chunk = created.subList(from, Math.min(from + MAX_BATCH_WRITE_ITEMS, created.size()))
+                    .stream()
+                    .map(this::nextVersionItem)
+                    .toList();
+            writeBatch(chunk);
+        }
+        created.forEach(transaction -> transaction.setVersion(1L));
+        log.debug("DynamoDB: Saved {} transactions in batches", transactions.size());
+        return transactions;
+    }
+
+    // Each chunk of transactions and their outbox rows is one TransactWriteItems call (50 pairs),
+    // so a chunk is stored completely or not at all. The first failed chunk stops the write and
+    // PartialBatchWriteException tells the caller how many pairs the earlier chunks stored.
+    @Override
+    public List<DebitTransaction> saveAllWithEvents(List<DebitTransaction> transactions, List<DebitEvent> events) {
+        if (transactions.size() != events.size()) {
+            throw new IllegalArgumentException("Each transaction needs exactly one event");
+        }
+        if (transactions.stream().anyMatch(transaction -> transaction.getVersion() != null)) {
+            throw new IllegalArgumentException("saveAllWithEvents only accepts new transactions");
+        }
+        int pairsPerTransaction = MAX_TRANSACT_ITEMS / 2;
+        for (int from = 0; from < transactions.size(); from += pairsPerTransaction) {
+            int to = Math.min(from + pairsPerTransaction, transactions.size());
+            // The token makes an SDK retry of a chunk that was already committed succeed
+            // instead of failing its attribute_not_exists conditions.
+            TransactWriteItemsEnhancedRequest.Builder request = TransactWriteItemsEnhancedRequest.builder()
+                    .clientRequestToken(transactions.get(from).getTransactionId().toString());
+            for (int i = from; i < to; i++) {
+                DebitTransactionItem item = nextVersionItem(transactions.get(i));
+                request.addPutItem(transactionTable, TransactPutItemEnhancedRequest.builder(DebitTransactionItem.class)
+                                .item(item)
+                                .conditionExpression(versionCondition(null))
+                                .build())
+                        .addPutItem(outboxTable, OutboxItem.from(events.get(i), item.getVersion()));
+            }
+            try {
+                enhancedClient.transactWriteItems(request.build());
+            } catch (RuntimeException e) {
+                throw new PartialBatchWriteException(from, e);
+            }
+            transactions.subList(from, to).forEach(transaction -> transaction.setVersion(1L));
+        }
+        log.debug("DynamoDB: Saved {} transactions with events in transactional chunks", transactions.size());
+        return transactions;
+    }
+
+    @Override
+    public Optional<DebitTransaction> findById(UUID transactionId) {
+        return Optional.ofNullable(transactionTable.getItem(key(transactionId.toString())))
+                .map(DebitTransactionItem::toDomain);
+    }
+
+    @Override
+    public List<DebitTransaction> findAllById(Collection<UUID> transactionIds) {
+        List<String> ids = transactionIds.stream().map(UUID::toString).distinct().toList();
+        return batchGet(ids);
+    }
+
+    @Override
+    public List<DebitTransaction> findByCompanyId(String companyId) {
+        return batchGet(queryIds(transactionTable.index(DebitTransactionItem.COMPANY_STATUS_INDEX),
+                QueryConditional.keyEqualTo(Key.builder().partitionValue(companyId).build())));
+    }
+
+    @Override
+    public List<DebitTransaction> findByStatus(TransactionStatus status) {
+        List<String> ids = IntStream.range(0, DebitTransactionItem.STATUS_SHARDS)
+                .mapToObj(shard -> queryIds(transactionTable.index(DebitTransactionItem.STATUS_INDEX),
+                        QueryConditional.keyEqualTo(Key.builder()
+                                .partitionValue(DebitTransactionItem.statusShard(status, shard))
+                                .build())))
+                .flatMap(List::stream)
+                .toList();
+        return batchGet(ids).stream()
+                .filter(transaction -> transaction.getStatus() == status)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public TransactionPage findByCompanyId(String companyId, int pageSize, String continuationToken) {
+        DynamoDbPageToken position = continuationToken == null
+                ? DynamoDbPageToken.start()
+                : DynamoDbPageToken.decode(continuationToken, 1);
+        Page<DebitTransactionItem> page = queryPage(transactionTable.index(DebitTransactionItem.COMPANY_STATUS_INDEX),
+                QueryConditional.keyEqualTo(Key.builder().partitionValue(companyId).build()),
+                pageSize, position.startKey());
+
+        Map<String, AttributeValue> lastKey = lastEvaluatedKey(page);
+        return TransactionPage.of(batchGet(pageIds(page)),
+                lastKey == null ? null : new DynamoDbPageToken(0, lastKey).encode());
+    }
+
+    // Walks the status shards in order; the token carries the shard and its LastEvaluatedKey.
+    @Override
+    public TransactionPage findByStatus(TransactionStatus status, int pageSize, String continuationToken) {
+        DynamoDbPageToken position = continuationToken == null
+                ? DynamoDbPageToken.start()
+                : DynamoDbPageToken.decode(continuationToken, DebitTransactionItem.STATUS_SHARDS);
+        int shard = position.shard();
+        Map<String, AttributeValue> startKey = position.startKey();
+        List<String> ids = new ArrayList<>(pageSize);
+
+        while (shard < DebitTransactionItem.STATUS_SHARDS && ids.size() < pageSize) {
+            Page<DebitTransactionItem> page = queryPage(transactionTable.index(DebitTransactionItem.STATUS_INDEX),
+                    QueryConditional.keyEqualTo(Key.builder()
+                            .partitionValue(DebitTransactionItem.statusShard(status, shard))
+                            .build()),
+                    pageSize - ids.size(), startKey);
+            ids.addAll(pageIds(page));
+            startKey = lastEvaluatedKey(page);
+            if (startKey == null) {
+                shard++;
+            }
+        }
+
+        List<DebitTransaction> items = batchGet(ids).stream()
+                .filter(transaction -> transaction.getStatus() == status)
+                .collect(Collectors.toList());
+        return TransactionPage.of(items,
+                shard < DebitTransactionItem.STATUS_SHARDS ? new DynamoDbPageToken(shard, startKey).encode() : null);
+    }
+
+    // The unbounded form is capped at max-scheduled-results; callers that need more page
+    // through the range with the limited overload.
+    @Override
+    public List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        List<DebitTransaction> transactions = findByScheduledDateBetween(startDate, endDate, maxScheduledResults);
+        if (transactions.size() == maxScheduledResults) {
+            log.warn("DynamoDB: Scheduled query between {} and {} truncated at {} transactions",
+                    startDate, endDate, maxScheduledResults);
+        }
+        return transactions;
+    }
+
+    // Day buckets are read in order and each bucket is sorted by scheduledAt, so the first
+    // limit ids are the earliest ones and the remaining buckets are not queried. Each day is
+    // one Query even when empty, so ranges wider than max-scheduled-range-days are rejected.
+    @Override
+    public List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        if (startDate.isAfter(endDate)) {
+            return List.of();
+        }
+        long days = ChronoUnit.DAYS.between(startDate.toLocalDate(), endDate.toLocalDate()) + 1;
+        if (days > maxScheduledRangeDays) {
+            throw new IllegalArgumentException("Scheduled date range spans " + days
+                    + " days, more than the " + maxScheduledRangeDays + " allowed");
+        }
+        List<String> ids = new ArrayList<>();
+        String lower = DebitTransactionItem.sortable(startDate);
+        String upper = DebitTransactionItem.sortable(endDate) + "#~";
+
+        for (LocalDate day = startDate.toLocalDate(); !day.isAfter(endDate.toLocalDate()) && ids.size() < limit; day = day.plusDays(1)) {
+            String bucket = DebitTransactionItem.scheduledBucket(day.atStartOfDay());
+            ids.addAll(queryIds(transactionTable.index(DebitTransactionItem.SCHEDULED_INDEX),
+                    QueryConditional.sortBetween(
+                            Key.builder().partitionValue(bucket).sortValue(lower).build(),
+                            Key.builder().partitionValue(bucket).sortValue(upper).build()),
+                    limit - ids.size()));
+        }
+        return batchGet(ids);
+    }
+
+    @Override
+    public List<DebitTransaction> findFailedTransactionsForRetry() {
+        return findByStatus(TransactionStatus.FAILED).stream()
+                .filter(this::isRetryCandidate)
+                .collect(Collectors.toList());
+    }
+
+    // Collects up to limit retryable rows from every FAILED shard, each read in updatedAt order,
+    // and keeps the least recently updated limit overall.
+    @Override
+    public List<DebitTransaction> findFailedTransactionsForRetry(int limit) {
+        return IntStream.range(0, DebitTransactionItem.STATUS_SHARDS)
+                .mapToObj(shard -> retryCandidates(shard, limit))
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(DebitTransaction::getUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteById(UUID transactionId) {
+        transactionTable.deleteItem(key(transactionId.toString()));
+        log.debug("DynamoDB: Transaction {} deleted", transactionId);
+    }
+
+    @Override
+    public long countByCompanyIdAndStatus(String companyId, TransactionStatus status) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(transactionTable.tableName())
+                .indexName(DebitTransactionItem.COMPANY_STATUS_INDEX)
+                .keyConditionExpression("companyId = :companyId AND begins_with(statusCreatedAt, :status)")
+                .expressionAttributeValues(Map.of(
+                        ":companyId", AttributeValue.fromS(companyId),
+                        ":status", AttributeValue.fromS(status.name() + "#")))
+                .select(Select.COUNT)
+                .build();
+        return dynamoDbClient.queryPaginator(request).stream()
+                .mapToLong(QueryResponse::count)
+                .sum();
+    }
+
+    // Reads up to limit rows from every pending shard and keeps the oldest limit overall.
+    @Override
+    public List<OutboxEntry> findPending(int limit) {
+        return IntStream.range(0, OutboxItem.PENDING_SHARDS)
+                .mapToObj(shard -> outboxTable.index(OutboxItem.PENDING_INDEX)
+                        .query(QueryEnhancedRequest.builder()
+                                .queryConditional(QueryConditional.keyEqualTo(Key.builder()
+                                        .partitionValue(OutboxItem.pendingShard(shard))
+                                        .build()))
+                                .limit(limit)
+                                .build())
+                        .stream()
+                        .flatMap(page -> page.items().stream())
+                        .limit(limit))
+                .flatMap(items -> items)
+                .sorted(Comparator.comparing(OutboxItem::getPendingSince))
+                .limit(limit)
+                .map(OutboxItem::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    // A relay may publish an event only while it holds the lease on it. An expired lease, or one
+    // already held by the same owner, can be taken over.
+    @Override
+    public boolean claim(UUID eventId, String owner, Duration lease) {
+        long now = System.currentTimeMillis();
+        try {
+            dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                    .tableName(outboxTable.tableName())
+                    .key(Map.of("eventId", AttributeValue.fromS(eventId.toString())))
+                    .updateExpression("SET claimedBy = :owner, leaseExpiresAt = :expiresAt")
+                    .conditionExpression("attribute_exists(eventId) AND (attribute_not_exists(leaseExpiresAt)"
+                            + " OR leaseExpiresAt < :now OR claimedBy = :owner)")
+                    .expressionAttributeValues(Map.of(
+                            ":owner", AttributeValue.fromS(owner),
+                            ":expiresAt", AttributeValue.fromN(Long.toString(now + lease.toMillis())),
+                            ":now", AttributeValue.fromN(Long.toString(now))))
+                    .build());
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void markPublished(Collection<UUID> eventIds) {
+        List<String> ids = eventIds.stream().map(UUID::toString).toList();
+        for (int from = 0; from < ids.size(); from += MAX_BATCH_WRITE_ITEMS) {
+            List<String> chunk = ids.subList(from, Math.min(from + MAX_BATCH_WRITE_ITEMS, ids.size()));
+            WriteBatch.Builder<OutboxItem> batch = WriteBatch.builder(OutboxItem.class).mappedTableResource(outboxTable);
+            chunk.forEach(id -> batch.addDeleteItem(key(id)));
+
+            BatchWriteResult result = enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+                    .writeBatches(batch.build())
+                    .build());
+            for (int attempt = 1; !result.unprocessedDeleteItemsForTable(outboxTable).isEmpty(); attempt++) {
+                List<Key> unprocessed = result.unprocessedDeleteItemsForTable(outboxTable);
+                if (attempt > MAX_UNPROCESSED_RETRIES) {
+                    throw new RuntimeException("Failed to delete " + unprocessed.size() + " published outbox items");
+                }
+                backoff(attempt);
+                WriteBatch.Builder<OutboxItem> retry = WriteBatch.builder(OutboxItem.class).mappedTableResource(outboxTable);
+                unprocessed.forEach(retry::addDeleteItem);
+                result = enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+                        .writeBatches(retry.build())
+                        .build());
+            }
+        }
+    }
+
+    @Override
+    public long countPending() {
+        return IntStream.range(0, OutboxItem.PENDING_SHARDS)
+                .mapToLong(shard -> dynamoDbClient.queryPaginator(QueryRequest.builder()
+                                .tableName(outboxTable.tableName())
+                                .indexName(OutboxItem.PENDING_INDEX)
+                                .keyConditionExpression("pendingShard = :pending")
+                                .expressionAttributeValues(Map.of(":pending",
+                                        AttributeValue.fromS(OutboxItem.pendingShard(shard))))
+                                .select(Select.COUNT)
+                                .build())
+                        .stream()
+                        .mapToLong(QueryResponse::count)
+                        .sum())
+                .sum();
+    }
+
+    public void createTablesIfMissing() {
+        createTableIfMissing(transactionTable, List.of(
+                keysOnlyIndex(DebitTransactionItem.COMPANY_STATUS_INDEX),
+                keysOnlyIndex(DebitTransactionItem.STATUS_INDEX),
+                keysOnlyIndex(DebitTransactionItem.SCHEDULED_INDEX)));
+        createTableIfMissing(outboxTable, List.of(EnhancedGlobalSecondaryIndex.builder()
+                .indexName(OutboxItem.PENDING_INDEX)
+                .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                .build()));
+    }
+
+    private List<String> queryIds(DynamoDbIndex<DebitTransactionItem> index,
+                                  QueryConditional condition) {
+        return index.query(QueryEnhancedRequest.builder().queryConditional(condition).build())
+                .stream()
+                .flatMap(page -> page.items().stream())
+                .map(DebitTransactionItem::getTransactionId)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> queryIds(DynamoDbIndex<DebitTransactionItem> index,
+                                  QueryConditional condition,
+                                  int limit) {
+        return index.query(QueryEnhancedRequest.builder().queryConditional(condition).limit(limit).build())
+                .stream()
+                .flatMap(page -> page.items().stream())
+                .limit(limit)
+                .map(DebitTransactionItem::getTransactionId)
+                .collect(Collectors.toList());
+    }
+
+    private List<DebitTransaction> retryCandidates(int shard, int limit) {
+        List<DebitTransaction> candidates = new ArrayList<>();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            Page<DebitTransactionItem> page = queryPage(transactionTable.index(DebitTransactionItem.STATUS_INDEX),
+                    QueryConditional.keyEqualTo(Key.builder()
+                            .partitionValue(DebitTransactionItem.statusShard(TransactionStatus.FAILED, shard))
+                            .build()),
+                    limit, startKey);
+            batchGet(pageIds(page)).stream()
+                    .filter(transaction -> transaction.getStatus() == TransactionStatus.FAILED && isRetryCandidate(transaction))
+                    .limit(limit - candidates.size())
+                    .forEach(candidates::add);
+            startKey = lastEvaluatedKey(page);
+        } while (startKey != null && candidates.size() < limit);
+        return candidates;
+    }
+
+    private boolean isRetryCandidate(DebitTransaction transaction) {
+        return transaction.getRetryCount() == null || transaction.getRetryCount() < maxRetryAttempts;
+    }
+
+    private Page<DebitTransactionItem> queryPage(DynamoDbIndex<DebitTransactionItem> index,
+                                                 QueryConditional condition,
+                                                 int limit,
+                                                 Map<String, AttributeValue> startKey) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + limit);
+        }
+        return index.query(QueryEnhancedRequest.builder()
+                        .queryConditional(condition)
+                        .limit(limit)
+                        .exclusiveStartKey(startKey)
+                        .build())
+                .iterator()
+                .next();
+    }
+
+    private List<String> pageIds(Page<DebitTransactionItem> page) {
+        return page.items().stream()
+                .map(DebitTransactionItem::getTransactionId)
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, AttributeValue> lastEvaluatedKey(Page<DebitTransactionItem> page) {
+        Map<String, AttributeValue> lastKey = page.lastEvaluatedKey();
+        return lastKey == null || lastKey.isEmpty() ? null : lastKey;
+    }
+
+    private List<DebitTransaction> batchGet(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, DebitTransaction> found = new HashMap<>(ids.size());
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        for (int from = 0; from < distinct.size(); from += MAX_BATCH_GET_ITEMS) {
+            ReadBatch.Builder<DebitTransactionItem> batch = ReadBatch.builder(DebitTransactionItem.class)
+                    .mappedTableResource(transactionTable);
+            distinct.subList(from, Math.min(from + MAX_BATCH_GET_ITEMS, distinct.size()))
+                    .forEach(id -> batch.addGetItem(key(id)));
+
+            enhancedClient.batchGetItem(BatchGetItemEnhancedRequest.builder().readBatches(batch.build()).build())
+                    .resultsForTable(transactionTable)
+                    .stream()
+                    .forEach(item -> found.put(item.getTransactionId(), item.toDomain()));
+        }
+
+        return distinct.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private void writeBatch(List<DebitTransactionItem> items) {
+        List<DebitTransactionItem> pending = items;
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            if (attempt > MAX_UNPROCESSED_RETRIES) {
+                throw new RuntimeException("Failed to write " + pending.size() + " transactions after retries");
+            }
+            if (attempt > 0) {
+                backoff(attempt);
+            }
+
+            WriteBatch.Builder<DebitTransactionItem> batch = WriteBatch.builder(DebitTransactionItem.class)
+                    .mappedTableResource(transactionTable);
+            pending.forEach(batch::addPutItem);
+
+            BatchWriteResult result = enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+                    .writeBatches(batch.build())
+                    .build());
+            pending = result.unprocessedPutItemsForTable(transactionTable);
+        }
+    }
+
+    private <T> void createTableIfMissing(DynamoDbTable<T> table, List<EnhancedGlobalSecondaryIndex> indexes) {
+        try {
+            dynamoDbClient.describeTable(request -> request.tableName(table.tableName()));
+        } catch (ResourceNotFoundException e) {
+            log.info("DynamoDB: Creating table {}", table.tableName());
+            table.createTable(CreateTableEnhancedRequest.builder().globalSecondaryIndices(indexes).build());
+            dynamoDbClient.waiter().waitUntilTableExists(request -> request.tableName(table.tableName()));
+        }
+    }
+
+    private EnhancedGlobalSecondaryIndex keysOnlyIndex(String indexName) {
+        return EnhancedGlobalSecondaryIndex.builder()
+                .indexName(indexName)
+                .projection(Projection.builder().projectionType(ProjectionType.KEYS_ONLY).build())
+                .build();
+    }
+
+    private DebitTransactionItem nextVersionItem(DebitTransaction transaction) {
+        DebitTransactionItem item = DebitTransactionItem.from(transaction);
+        item.setVersion(transaction.getVersion() == null ? 1L : transaction.getVersion() + 1);
+        return item;
+    }
+
+    private static Expression versionCondition(Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Expression.builder()
+                    .expression("attribute_not_exists(transactionId)")
+                    .build();
+        }
+        // Items written before versioning was introduced have no version attribute and read back as 0.
+        String condition = expectedVersion == 0
+                ? "attribute_exists(transactionId) AND (attribute_not_exists(#version) OR #version = :expected)"
+                : "#version = :expected";
+        return Expression.builder()
+                .expression(condition)
+                .putExpressionName("#version", "version")
+                .putExpressionValue(":expected", AttributeValue.fromN(Long.toString(expectedVersion)))
+                .build();
+    }
+
+    private static Key key(String partitionValue) {
+        return Key.builder().partitionValue(partitionValue).build();
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(Math.min(1000L, 25L << attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while retrying unprocessed DynamoDB items", e);
+        }
+    }
+}
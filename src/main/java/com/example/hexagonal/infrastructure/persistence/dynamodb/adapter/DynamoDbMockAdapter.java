@@ -1,32 +1,124 @@
 package com.example.hexagonal.infrastructure.persistence.dynamodb.adapter;
 
+import com.example.hexagonal.domain.exception.PartialBatchWriteException;
+import com.example.hexagonal.domain.exception.VersionConflictException;
+import com.example.hexagonal.domain.model.DebitEvent;
 import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.OutboxEntry;
+import com.example.hexagonal.domain.model.TransactionPage;
 import com.example.hexagonal.domain.model.TransactionStatus;
-import com.example.hexagonal.domain.port.DynamoDbRepository;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.example.hexagonal.domain.port.OutboxRepository;
+import com.example.hexagonal.infrastructure.persistence.codec.CompactDebitTransaction;
+import com.example.hexagonal.infrastructure.persistence.codec.StringInternTable;
+import com.example.hexagonal.infrastructure.persistence.index.IdCursorPager;
+import com.example.hexagonal.infrastructure.persistence.index.TimeOrderedKey;
+import com.example.hexagonal.infrastructure.persistence.index.TransactionSecondaryIndex;
+import com.example.hexagonal.infrastructure.persistence.outbox.InMemoryOutbox;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-@Component
+// In-memory store for local runs and tests. It backs every debit.persistence.type other than
+// dynamodb and segment-log (memory, or the property left unset), so the service always has a
+// DebitTransactionRepository. Nothing survives a restart, including events still in the outbox.
+@Component("debitTransactionStore")
+@ConditionalOnExpression("!'${debit.persistence.type:memory}'.equals('dynamodb') and !'${debit.persistence.type:memory}'.equals('segment-log')")
 @Slf4j
-public class DynamoDbMockAdapter implements DynamoDbRepository {
+public class DynamoDbMockAdapter implements DebitTransactionRepository, OutboxRepository {
     
-    private final Map<UUID, DebitTransaction> mockDatabase = new ConcurrentHashMap<>();
+    private final Map<UUID, CompactDebitTransaction> mockDatabase = new ConcurrentHashMap<>();
+    private final StringInternTable strings = new StringInternTable();
+    private final TransactionSecondaryIndex index = new TransactionSecondaryIndex();
+    private final ConcurrentSkipListMap<TimeOrderedKey, CompactDebitTransaction> scheduledIndex = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<TimeOrderedKey, CompactDebitTransaction> retryIndex = new ConcurrentSkipListMap<>();
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final int maxRetryAttempts;
+    
+    public DynamoDbMockAdapter() {
+        this(3);
+    }
+    
+    @Autowired
+    public DynamoDbMockAdapter(@Value("${debit.performance.max-retry-attempts:3}") int maxRetryAttempts) {
+        this.maxRetryAttempts = maxRetryAttempts;
+    }
     
     @Override
     public DebitTransaction save(DebitTransaction transaction) {
+        return store(transaction, null);
+    }
+    
+    @Override
+    public DebitTransaction saveWithEvent(DebitTransaction transaction, DebitEvent event) {
+        return store(transaction, event);
+    }
+    
+    @Override
+    public List<DebitTransaction> saveAll(List<DebitTransaction> transactions) {
+        transactions.forEach(this::save);
+        return transactions;
+    }
+    
+    // Same contract as the DynamoDB adapter: new transactions only, and on the first failure
+    // PartialBatchWriteException reports how many pairs were stored before it.
+    @Override
+    public List<DebitTransaction> saveAllWithEvents(List<DebitTransaction> transactions, List<DebitEvent> events) {
+        if (transactions.size() != events.size()) {
+            throw new IllegalArgumentException("Each transaction needs exactly one event");
+        }
+        if (transactions.stream().anyMatch(transaction -> transaction.getVersion() != null)) {
+            throw new IllegalArgumentException("saveAllWithEvents only accepts new transactions");
+        }
+        for (int i = 0; i < transactions.size(); i++) {
+            try {
+                store(transactions.get(i), events.get(i));
+            } catch (RuntimeException e) {
+                throw new PartialBatchWriteException(i, e);
+            }
+        }
+        return transactions;
+    }
+    
+    private DebitTransaction store(DebitTransaction transaction, DebitEvent event) {
         log.info("DynamoDB Mock: Saving transaction {} for company {}", 
                 transaction.getTransactionId(), transaction.getCompanyId());
         
-        mockDatabase.put(transaction.getTransactionId(), transaction);
+        Long expectedVersion = transaction.getVersion();
+        long nextVersion = expectedVersion == null ? 1 : expectedVersion + 1;
+        CompactDebitTransaction stored = CompactDebitTransaction.of(transaction.toBuilder().version(nextVersion).build(), strings);
+        
+        mockDatabase.compute(transaction.getTransactionId(), (transactionId, previous) -> {
+            Long currentVersion = previous != null ? previous.version() : null;
+            if (!Objects.equals(currentVersion, expectedVersion)) {
+                throw new VersionConflictException(transactionId, expectedVersion);
+            }
+            index.update(transactionId, stored.companyId(), stored.status());
+            reindexOrdered(transactionId, previous, stored);
+            if (event != null) {
+                outbox.add(event, nextVersion);
+            }
+            return stored;
+        });
+        transaction.setVersion(nextVersion);
         
-        log.info("DynamoDB Mock: Transaction {} saved successfully", transaction.getTransactionId());
+        log.info("DynamoDB Mock: Transaction {} saved successfully at version {}", transaction.getTransactionId(), nextVersion);
         return transaction;
     }
     
@@ -34,7 +126,7 @@ public class DynamoDbMockAdapter implements DynamoDbRepository {
     public Optional<DebitTransaction> findById(UUID transactionId) {
         log.info("DynamoDB Mock: Finding transaction by ID: {}", transactionId);
         
-        DebitTransaction transaction = mockDatabase.get(transactionId);
+        DebitTransaction transaction = materialize(transactionId, mockDatabase.get(transactionId));
         
         if (transaction != null) {
             log.info("DynamoDB Mock: Transaction {} found", transactionId);
@@ -45,13 +137,21 @@ public class DynamoDbMockAdapter implements DynamoDbRepository {
         return Optional.ofNullable(transaction);
     }
     
+    @Override
+    public List<DebitTransaction> findAllById(Collection<UUID> transactionIds) {
+        return transactionIds.stream()
+                .distinct()
+                .map(id -> materialize(id, mockDatabase.get(id)))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     public List<DebitTransaction> findByCompanyId(String companyId) {
         log.info("DynamoDB Mock: Finding transactions by company ID: {}", companyId);
         
-        List<DebitTransaction> transactions = mockDatabase.values().stream()
-                .filter(t -> companyId.equals(t.getCompanyId()))
-                .collect(Collectors.toList());
+        List<DebitTransaction> transactions = resolve(index.idsByCompany(companyId),
+                stored -> companyId.equals(stored.companyId()));
         
         log.info("DynamoDB Mock: Found {} transactions for company {}", transactions.size(), companyId);
         return transactions;
@@ -61,19 +161,76 @@ public class DynamoDbMockAdapter implements DynamoDbRepository {
     public List<DebitTransaction> findByStatus(TransactionStatus status) {
         log.info("DynamoDB Mock: Finding transactions by status: {}", status);
         
-        List<DebitTransaction> transactions = mockDatabase.values().stream()
-                .filter(t -> status.equals(t.getStatus()))
-                .collect(Collectors.toList());
+        List<DebitTransaction> transactions = resolve(index.idsByStatus(status), stored -> status == stored.status());
         
         log.info("DynamoDB Mock: Found {} transactions with status {}", transactions.size(), status);
         return transactions;
     }
     
+    @Override
+    public TransactionPage findByCompanyId(String companyId, int pageSize, String continuationToken) {
+        log.info("DynamoDB Mock: Finding page of {} transactions for company {}", pageSize, companyId);
+        
+        return IdCursorPager.page(index.idsByCompany(companyId), pageSize, continuationToken,
+                id -> load(id, stored -> companyId.equals(stored.companyId())));
+    }
+    
+    @Override
+    public TransactionPage findByStatus(TransactionStatus status, int pageSize, String continuationToken) {
+        log.info("DynamoDB Mock: Finding page of {} transactions with status {}", pageSize, status);
+        
+        return IdCursorPager.page(index.idsByStatus(status), pageSize, continuationToken,
+                id -> load(id, stored -> status == stored.status()));
+    }
+    
+    @Override
+    public List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return findByScheduledDateBetween(startDate, endDate, Integer.MAX_VALUE);
+    }
+    
+    // Walks the (scheduledDate, transactionId) skip list from startDate and stops after
+    // limit entries, so a scheduler tick costs O(log N + k) instead of a scan.
+    @Override
+    public List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        log.info("DynamoDB Mock: Finding up to {} transactions scheduled between {} and {}", limit, startDate, endDate);
+        
+        if (startDate.isAfter(endDate)) {
+            return List.of();
+        }
+        List<DebitTransaction> transactions = materialize(scheduledIndex.subMap(
+                TimeOrderedKey.lowest(startDate), true,
+                TimeOrderedKey.highest(endDate), true), limit);
+        
+        log.info("DynamoDB Mock: Found {} scheduled transactions", transactions.size());
+        return transactions;
+    }
+    
+    @Override
+    public List<DebitTransaction> findFailedTransactionsForRetry() {
+        return findFailedTransactionsForRetry(Integer.MAX_VALUE);
+    }
+    
+    // FAILED transactions with retries remaining, least recently updated first.
+    @Override
+    public List<DebitTransaction> findFailedTransactionsForRetry(int limit) {
+        log.info("DynamoDB Mock: Finding up to {} failed transactions for retry", limit);
+        
+        List<DebitTransaction> transactions = materialize(retryIndex, limit);
+        
+        log.info("DynamoDB Mock: Found {} failed transactions for retry", transactions.size());
+        return transactions;
+    }
+    
     @Override
     public void deleteById(UUID transactionId) {
         log.info("DynamoDB Mock: Deleting transaction: {}", transactionId);
         
-        DebitTransaction removed = mockDatabase.remove(transactionId);
+        CompactDebitTransaction removed = mockDatabase.get(transactionId);
+        mockDatabase.computeIfPresent(transactionId, (id, existing) -> {
+            index.remove(id);
+            reindexOrdered(id, existing, null);
+            return null;
+        });
         
         if (removed != null) {
             log.info("DynamoDB Mock: Transaction {} deleted successfully", transactionId);
@@ -82,7 +239,6 @@ public class DynamoDbMockAdapter implements DynamoDbRepository {
         }
     }
     
-    @Override
     public boolean existsById(UUID transactionId) {
         log.info("DynamoDB Mock: Checking if transaction exists: {}", transactionId);
         
@@ -92,24 +248,104 @@ public class DynamoDbMockAdapter implements DynamoDbRepository {
         return exists;
     }
     
-    @Override
     public long countByCompanyId(String companyId) {
         log.info("DynamoDB Mock: Counting transactions for company: {}", companyId);
         
-        long count = mockDatabase.values().stream()
-                .filter(t -> companyId.equals(t.getCompanyId()))
-                .count();
+        long count = index.countByCompany(companyId);
         
         log.info("DynamoDB Mock: Company {} has {} transactions", companyId, count);
         return count;
     }
     
+    @Override
+    public long countByCompanyIdAndStatus(String companyId, TransactionStatus status) {
+        return index.idsByCompany(companyId).stream()
+                .map(mockDatabase::get)
+                .filter(stored -> stored != null && status == stored.status() && companyId.equals(stored.companyId()))
+                .count();
+    }
+    
+    @Override
+    public List<OutboxEntry> findPending(int limit) {
+        return outbox.findPending(limit);
+    }
+    
+    @Override
+    public boolean claim(UUID eventId, String owner, Duration lease) {
+        return outbox.claim(eventId, owner, lease);
+    }
+    
+    @Override
+    public void markPublished(Collection<UUID> eventIds) {
+        outbox.markPublished(eventIds);
+    }
+    
+    @Override
+    public long countPending() {
+        return outbox.countPending();
+    }
+    
     public void clearMockData() {
         log.info("DynamoDB Mock: Clearing all mock data");
         mockDatabase.clear();
+        index.clear();
+        scheduledIndex.clear();
+        retryIndex.clear();
+        outbox.clear();
+        strings.clear();
     }
     
     public int getMockDataSize() {
         return mockDatabase.size();
     }
+    
+    public long countByStatus(TransactionStatus status) {
+        return index.countByStatus(status);
+    }
+    
+    private void reindexOrdered(UUID transactionId, CompactDebitTransaction previous, CompactDebitTransaction current) {
+        if (previous != null) {
+            if (previous.isScheduled()) {
+                scheduledIndex.remove(new TimeOrderedKey(previous.scheduledEpochMicros(), previous.scheduledNanoOfMicro(), transactionId));
+            }
+            if (isRetryCandidate(previous)) {
+                retryIndex.remove(new TimeOrderedKey(previous.updatedEpochMicros(), previous.updatedNanoOfMicro(), transactionId));
+            }
+        }
+        if (current != null) {
+            if (current.isScheduled()) {
+                scheduledIndex.put(new TimeOrderedKey(current.scheduledEpochMicros(), current.scheduledNanoOfMicro(), transactionId), current);
+            }
+            if (isRetryCandidate(current)) {
+                retryIndex.put(new TimeOrderedKey(current.updatedEpochMicros(), current.updatedNanoOfMicro(), transactionId), current);
+            }
+        }
+    }
+    
+    private boolean isRetryCandidate(CompactDebitTransaction stored) {
+        return stored.status() == TransactionStatus.FAILED && stored.retryCount() < maxRetryAttempts;
+    }
+    
+    private List<DebitTransaction> materialize(ConcurrentNavigableMap<TimeOrderedKey, CompactDebitTransaction> range, int limit) {
+        return range.entrySet().stream()
+                .limit(limit)
+                .map(entry -> entry.getValue().toDebitTransaction(entry.getKey().transactionId()))
+                .collect(Collectors.toList());
+    }
+    
+    private List<DebitTransaction> resolve(Collection<UUID> ids, Predicate<CompactDebitTransaction> filter) {
+        return ids.stream()
+                .map(id -> load(id, filter))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    private DebitTransaction load(UUID transactionId, Predicate<CompactDebitTransaction> filter) {
+        CompactDebitTransaction stored = mockDatabase.get(transactionId);
+        return stored != null && filter.test(stored) ? stored.toDebitTransaction(transactionId) : null;
+    }
+    
+    private DebitTransaction materialize(UUID transactionId, CompactDebitTransaction stored) {
+        return stored != null ? stored.toDebitTransaction(transactionId) : null;
+    }
 }
@@ -0,0 +1,66 @@
+package com.example.hexagonal.infrastructure.persistence.dynamodb.adapter;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Continuation token for GSI queries: the shard being read plus the LastEvaluatedKey to
+// resume from (null to start the shard). GSI key attributes are all strings.
+record DynamoDbPageToken(int shard, Map<String, AttributeValue> startKey) {
+
+    static DynamoDbPageToken start() {
+        return new DynamoDbPageToken(0, null);
+    }
+
+    String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(shard);
+            out.writeInt(startKey == null ? -1 : startKey.size());
+            if (startKey != null) {
+                for (Map.Entry<String, AttributeValue> attribute : startKey.entrySet()) {
+                    if (attribute.getValue().s() == null) {
+                        throw new IllegalStateException("Unsupported key attribute type for " + attribute.getKey());
+                    }
+                    out.writeUTF(attribute.getKey());
+                    out.writeUTF(attribute.getValue().s());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    static DynamoDbPageToken decode(String continuationToken, int shards) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(continuationToken);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + continuationToken, e);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int shard = in.readInt();
+            int attributes = in.readInt();
+            if (shard < 0 || shard >= shards || attributes < -1) {
+                throw new IllegalArgumentException("Invalid continuation token: " + continuationToken);
+            }
+            Map<String, AttributeValue> startKey = attributes < 0 ? null : new LinkedHashMap<>();
+            for (int i = 0; i < attributes; i++) {
+                startKey.put(in.readUTF(), AttributeValue.fromS(in.readUTF()));
+            }
+            return new DynamoDbPageToken(shard, startKey);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + continuationToken, e);
+        }
+    }
+}
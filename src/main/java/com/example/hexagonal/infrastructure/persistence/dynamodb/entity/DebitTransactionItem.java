@@ -0,0 +1,158 @@
+package com.example.hexagonal.infrastructure.persistence.dynamodb.entity;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@DynamoDbBean
+public class DebitTransactionItem {
+
+    public static final String COMPANY_STATUS_INDEX = "companyId-statusCreatedAt-index";
+    public static final String STATUS_INDEX = "statusShard-updatedAt-index";
+    public static final String SCHEDULED_INDEX = "scheduledBucket-scheduledAt-index";
+    public static final int STATUS_SHARDS = 8;
+
+    private static final DateTimeFormatter SORTABLE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+    private static final DateTimeFormatter BUCKET = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private String transactionId;
+    private String companyId;
+    private String statusCreatedAt;
+    private String statusShard;
+    private String updatedAtKey;
+    private String scheduledBucket;
+    private String scheduledAt;
+
+    private String companyDocument;
+    private String companyName;
+    private String bankAccountId;
+    private BigDecimal amount;
+    private String description;
+    private String status;
+    private String failureReason;
+    private LocalDateTime scheduledDate;
+    private LocalDateTime processedDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String correlationId;
+    private Integer retryCount;
+    private Long version;
+
+    @DynamoDbPartitionKey
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = COMPANY_STATUS_INDEX)
+    public String getCompanyId() {
+        return companyId;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = COMPANY_STATUS_INDEX)
+    public String getStatusCreatedAt() {
+        return statusCreatedAt;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = STATUS_INDEX)
+    public String getStatusShard() {
+        return statusShard;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = STATUS_INDEX)
+    public String getUpdatedAtKey() {
+        return updatedAtKey;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = SCHEDULED_INDEX)
+    public String getScheduledBucket() {
+        return scheduledBucket;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = SCHEDULED_INDEX)
+    public String getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public static DebitTransactionItem from(DebitTransaction transaction) {
+        DebitTransactionItem item = new DebitTransactionItem();
+        String id = transaction.getTransactionId().toString();
+        String status = transaction.getStatus() != null ? transaction.getStatus().name() : null;
+
+        item.setTransactionId(id);
+        item.setCompanyId(transaction.getCompanyId());
+        item.setCompanyDocument(transaction.getCompanyDocument());
+        item.setCompanyName(transaction.getCompanyName());
+        item.setBankAccountId(transaction.getBankAccountId());
+        item.setAmount(transaction.getAmount());
+        item.setDescription(transaction.getDescription());
+        item.setStatus(status);
+        item.setFailureReason(transaction.getFailureReason());
+        item.setScheduledDate(transaction.getScheduledDate());
+        item.setProcessedDate(transaction.getProcessedDate());
+        item.setCreatedAt(transaction.getCreatedAt());
+        item.setUpdatedAt(transaction.getUpdatedAt());
+        item.setCorrelationId(transaction.getCorrelationId());
+        item.setRetryCount(transaction.getRetryCount());
+        item.setVersion(transaction.getVersion());
+
+        if (status != null) {
+            item.setStatusCreatedAt(status + "#" + sortable(transaction.getCreatedAt()) + "#" + id);
+            item.setStatusShard(statusShard(transaction.getStatus(), transaction.getTransactionId()));
+            item.setUpdatedAtKey(sortable(transaction.getUpdatedAt()) + "#" + id);
+        }
+        if (transaction.getScheduledDate() != null) {
+            item.setScheduledBucket(scheduledBucket(transaction.getScheduledDate()));
+            item.setScheduledAt(sortable(transaction.getScheduledDate()) + "#" + id);
+        }
+        return item;
+    }
+
+    public DebitTransaction toDomain() {
+        return DebitTransaction.builder()
+                .transactionId(UUID.fromString(transactionId))
+                .companyId(companyId)
+                .companyDocument(companyDocument)
+                .companyName(companyName)
+                .bankAccountId(bankAccountId)
+                .amount(amount)
+                .description(description)
+                .status(status != null ? TransactionStatus.valueOf(status) : null)
+                .failureReason(failureReason)
+                .scheduledDate(scheduledDate)
+                .processedDate(processedDate)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .correlationId(correlationId)
+                .retryCount(retryCount)
+                .version(version != null ? version : 0L)
+                .build();
+    }
+
+    public static String statusShard(TransactionStatus status, UUID transactionId) {
+        return statusShard(status, Math.floorMod(transactionId.hashCode(), STATUS_SHARDS));
+    }
+
+    public static String statusShard(TransactionStatus status, int shard) {
+        return status.name() + "#" + shard;
+    }
+
+    public static String scheduledBucket(LocalDateTime scheduledDate) {
+        return BUCKET.format(scheduledDate);
+    }
+
+    public static String sortable(LocalDateTime timestamp) {
+        return timestamp != null ? SORTABLE_TIMESTAMP.format(timestamp) : "";
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.hexagonal.infrastructure.persistence.dynamodb.entity;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.OutboxEntry;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@DynamoDbBean
+public class OutboxItem {
+
+    public static final String PENDING_INDEX = "pendingShard-pendingSince-index";
+    public static final String PENDING = "PENDING";
+    public static final int PENDING_SHARDS = 8;
+
+    private String eventId;
+    private String pendingShard;
+    private Long pendingSince;
+    private Long sequence;
+    private String transactionId;
+    private String eventType;
+    private String payload;
+    private LocalDateTime timestamp;
+    private String correlationId;
+    private String companyId;
+    private String status;
+    private String previousStatus;
+    private BigDecimal amount;
+    private LocalDateTime createdAt;
+    private String claimedBy;
+    private Long leaseExpiresAt;
+
+    @DynamoDbPartitionKey
+    public String getEventId() {
+        return eventId;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = PENDING_INDEX)
+    public String getPendingShard() {
+        return pendingShard;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = PENDING_INDEX)
+    public Long getPendingSince() {
+        return pendingSince;
+    }
+
+    // sequence is the version the transaction was written at, so it orders the events of one
+    // transaction regardless of which replica wrote them.
+    public static OutboxItem from(DebitEvent event, long transactionVersion) {
+        OutboxItem item = new OutboxItem();
+        item.setEventId(event.getEventId().toString());
+        item.setPendingShard(pendingShard(event.getTransactionId()));
+        item.setPendingSince(System.currentTimeMillis());
+        item.setSequence(transactionVersion);
+        item.setTransactionId(event.getTransactionId().toString());
+        item.setEventType(event.getEventType());
+        item.setPayload(event.getPayload());
+        item.setTimestamp(event.getTimestamp());
+        item.setCorrelationId(event.getCorrelationId());
+        item.setCompanyId(event.getCompanyId());
+        item.setStatus(event.getStatus() != null ? event.getStatus().name() : null);
+        item.setPreviousStatus(event.getPreviousStatus() != null ? event.getPreviousStatus().name() : null);
+        item.setAmount(event.getAmount());
+        item.setCreatedAt(LocalDateTime.now());
+        return item;
+    }
+
+    // All events of one transaction share a shard, so a shard query returns them in order.
+    public static String pendingShard(UUID transactionId) {
+        return pendingShard(Math.floorMod(transactionId.hashCode(), PENDING_SHARDS));
+    }
+
+    public static String pendingShard(int shard) {
+        return PENDING + "#" + shard;
+    }
+
+    public OutboxEntry toDomain() {
+        DebitEvent event = DebitEvent.builder()
+                .eventId(UUID.fromString(eventId))
+                .transactionId(UUID.fromString(transactionId))
+                .eventType(eventType)
+                .payload(payload)
+                .timestamp(timestamp)
+                .correlationId(correlationId)
+                .companyId(companyId)
+                .status(status != null ? TransactionStatus.valueOf(status) : null)
+                .previousStatus(previousStatus != null ? TransactionStatus.valueOf(previousStatus) : null)
+                .amount(amount)
+                .build();
+
+        return OutboxEntry.builder()
+                .eventId(event.getEventId())
+                .transactionId(event.getTransactionId())
+                .sequence(sequence)
+                .createdAt(createdAt)
+                .event(event)
+                .build();
+    }
+}
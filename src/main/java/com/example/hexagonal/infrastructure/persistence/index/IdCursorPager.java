@@ -0,0 +1,65 @@
+package com.example.hexagonal.infrastructure.persistence.index;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionPage;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Cursor pages over an id-ordered posting set: the token is the last id examined, so a
+// page costs O(log N + pageSize) and stays stable while other ids are added or removed.
+public final class IdCursorPager {
+
+    private IdCursorPager() {
+    }
+
+    // The loader returns null for ids that no longer match the query.
+    public static TransactionPage page(NavigableSet<UUID> ids, int pageSize, String continuationToken,
+                                       Function<UUID, DebitTransaction> loader) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+
+        NavigableSet<UUID> remaining = continuationToken == null ? ids : ids.tailSet(decode(continuationToken), false);
+        List<DebitTransaction> items = new ArrayList<>(Math.min(pageSize, 256));
+        UUID last = null;
+        for (UUID id : remaining) {
+            if (items.size() == pageSize) {
+                return TransactionPage.of(items, encode(last));
+            }
+            last = id;
+            DebitTransaction transaction = loader.apply(id);
+            if (transaction != null) {
+                items.add(transaction);
+            }
+        }
+        return TransactionPage.of(items, null);
+    }
+
+    static String encode(UUID transactionId) {
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(transactionId.getMostSignificantBits())
+                .putLong(transactionId.getLeastSignificantBits())
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static UUID decode(String continuationToken) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(continuationToken);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + continuationToken, e);
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("Invalid continuation token: " + continuationToken);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
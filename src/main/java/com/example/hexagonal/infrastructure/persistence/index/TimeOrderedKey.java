@@ -0,0 +1,38 @@
+package com.example.hexagonal.infrastructure.persistence.index;
+
+import com.example.hexagonal.infrastructure.persistence.codec.CompactDebitTransaction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Sort key of the (time, transactionId) skip lists the local stores keep for scheduled and
+// retryable transactions. Time is split into epoch microseconds and the remaining nanos so
+// far-future dates keep their full precision; a missing time sorts first.
+public record TimeOrderedKey(long epochMicros, int nanoOfMicro, UUID transactionId) implements Comparable<TimeOrderedKey> {
+
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID MAX_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public static TimeOrderedKey of(LocalDateTime dateTime, UUID transactionId) {
+        return dateTime == null
+                ? new TimeOrderedKey(0, 0, transactionId)
+                : new TimeOrderedKey(CompactDebitTransaction.epochMicros(dateTime), CompactDebitTransaction.nanoOfMicro(dateTime), transactionId);
+    }
+
+    public static TimeOrderedKey lowest(LocalDateTime dateTime) {
+        return of(dateTime, MIN_ID);
+    }
+
+    public static TimeOrderedKey highest(LocalDateTime dateTime) {
+        return of(dateTime, MAX_ID);
+    }
+
+    @Override
+    public int compareTo(TimeOrderedKey other) {
+        int byTime = Long.compare(epochMicros, other.epochMicros);
+        if (byTime == 0) {
+            byTime = Integer.compare(nanoOfMicro, other.nanoOfMicro);
+        }
+        return byTime != 0 ? byTime : transactionId.compareTo(other.transactionId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.hexagonal.infrastructure.persistence.index;
+
+import com.example.hexagonal.domain.model.TransactionStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Company and status postings for the local stores. Callers update it from inside the
+// primary map's compute for the same id, so postings of one id never interleave. Postings
+// are ordered by id so cursor pages can resume after the last id returned; sizes are kept
+// next to them because ConcurrentSkipListSet.size() walks the whole set.
+public final class TransactionSecondaryIndex {
+
+    private final Map<UUID, IndexKey> indexedKeys = new ConcurrentHashMap<>();
+    private final Map<String, Postings> companyIndex = new ConcurrentHashMap<>();
+    private final Map<TransactionStatus, Postings> statusIndex = new EnumMap<>(TransactionStatus.class);
+
+    public TransactionSecondaryIndex() {
+        for (TransactionStatus status : TransactionStatus.values()) {
+            statusIndex.put(status, new Postings());
+        }
+    }
+
+    public void update(UUID transactionId, String companyId, TransactionStatus status) {
+        reindex(transactionId, new IndexKey(companyId, status));
+    }
+
+    public void remove(UUID transactionId) {
+        reindex(transactionId, null);
+    }
+
+    public NavigableSet<UUID> idsByCompany(String companyId) {
+        Postings postings = companyIndex.get(companyId);
+        return postings == null ? Collections.emptyNavigableSet() : postings.ids;
+    }
+
+    public NavigableSet<UUID> idsByStatus(TransactionStatus status) {
+        return statusIndex.get(status).ids;
+    }
+
+    public long countByCompany(String companyId) {
+        Postings postings = companyIndex.get(companyId);
+        return postings == null ? 0 : postings.size.get();
+    }
+
+    public long countByStatus(TransactionStatus status) {
+        return statusIndex.get(status).size.get();
+    }
+
+    public void clear() {
+        indexedKeys.clear();
+        companyIndex.clear();
+        statusIndex.values().forEach(Postings::clear);
+    }
+
+    private void reindex(UUID transactionId, IndexKey current) {
+        IndexKey previous = current == null ? indexedKeys.remove(transactionId) : indexedKeys.put(transactionId, current);
+
+        if (previous != null) {
+            if (previous.companyId() != null
+                    && (current == null || !previous.companyId().equals(current.companyId()))) {
+                companyIndex.computeIfPresent(previous.companyId(), (companyId, postings) -> {
+                    postings.remove(transactionId);
+                    return postings.ids.isEmpty() ? null : postings;
+                });
+            }
+            if (previous.status() != null && (current == null || previous.status() != current.status())) {
+                statusIndex.get(previous.status()).remove(transactionId);
+            }
+        }
+
+        if (current != null) {
+            if (current.companyId() != null) {
+                companyIndex.compute(current.companyId(), (companyId, postings) -> {
+                    Postings target = postings != null ? postings : new Postings();
+                    target.add(transactionId);
+                    return target;
+                });
+            }
+            if (current.status() != null) {
+                statusIndex.get(current.status()).add(transactionId);
+            }
+        }
+    }
+
+    private static final class Postings {
+        private final ConcurrentSkipListSet<UUID> ids = new ConcurrentSkipListSet<>();
+        private final AtomicLong size = new AtomicLong();
+
+        private void add(UUID transactionId) {
+            if (ids.add(transactionId)) {
+                size.incrementAndGet();
+            }
+        }
+
+        private void remove(UUID transactionId) {
+            if (ids.remove(transactionId)) {
+                size.decrementAndGet();
+            }
+        }
+
+        private void clear() {
+            ids.clear();
+            size.set(0);
+        }
+    }
+
+    private record IndexKey(String companyId, TransactionStatus status) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.hexagonal.infrastructure.persistence.outbox;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.OutboxEntry;
+import com.example.hexagonal.domain.port.OutboxRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Outbox kept by the local stores next to their transactions. Events are handed out in the
+// order they were added and claims are owner leases, as in the DynamoDB outbox, so OutboxRelay
+// drives both the same way. Pending events only live as long as the process does.
+public class InMemoryOutbox implements OutboxRepository {
+
+    private final ConcurrentSkipListMap<Long, OutboxEntry> pending = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Long> positions = new ConcurrentHashMap<>();
+    private final Map<UUID, Lease> leases = new ConcurrentHashMap<>();
+    private final AtomicLong nextPosition = new AtomicLong();
+
+    // sequence is the version the transaction was written at, like OutboxItem.from.
+    public void add(DebitEvent event, long transactionVersion) {
+        OutboxEntry entry = OutboxEntry.builder()
+                .eventId(event.getEventId())
+                .transactionId(event.getTransactionId())
+                .sequence(transactionVersion)
+                .createdAt(LocalDateTime.now())
+                .event(event)
+                .build();
+        long position = nextPosition.getAndIncrement();
+        positions.put(entry.getEventId(), position);
+        pending.put(position, entry);
+    }
+
+    @Override
+    public List<OutboxEntry> findPending(int limit) {
+        return pending.values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public boolean claim(UUID eventId, String owner, Duration lease) {
+        if (!positions.containsKey(eventId)) {
+            return false;
+        }
+        Instant now = Instant.now();
+        Lease claimed = leases.compute(eventId, (id, current) ->
+                current == null || current.expiresAt().isBefore(now) || current.owner().equals(owner)
+                        ? new Lease(owner, now.plus(lease))
+                        : current);
+        return claimed.owner().equals(owner);
+    }
+
+    @Override
+    public void markPublished(Collection<UUID> eventIds) {
+        for (UUID eventId : eventIds) {
+            Long position = positions.remove(eventId);
+            if (position != null) {
+                pending.remove(position);
+            }
+            leases.remove(eventId);
+        }
+    }
+
+    @Override
+    public long countPending() {
+        return pending.size();
+    }
+
+    public void clear() {
+        pending.clear();
+        positions.clear();
+        leases.clear();
+    }
+
+    private record Lease(String owner, Instant expiresAt) {
+    }
+}
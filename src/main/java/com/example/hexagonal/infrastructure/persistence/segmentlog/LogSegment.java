@@ -0,0 +1,193 @@
+package com.example.hexagonal.infrastructure.persistence.segmentlog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+// One memory-mapped file of the log. Records are [length][crc32c][type][payload]; the
+// length is written last, so a record torn by a crash reads as end-of-segment or fails
+// its checksum. Appends are serialized by the owning store.
+@Slf4j
+final class LogSegment {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+    static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+
+    private final int id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final AtomicLong liveBytes = new AtomicLong();
+    private int writePosition;
+    private int forcedPosition;
+
+    private LogSegment(int id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static LogSegment create(Path directory, int id, int capacity) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new LogSegment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+    }
+
+    static LogSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new LogSegment(parseId(path), path, channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+    }
+
+    static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    static int parseId(Path path) {
+        String name = path.getFileName().toString();
+        return Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    static String fileName(int id) {
+        return String.format("%s%010d%s", PREFIX, id, SUFFIX);
+    }
+
+    static int recordSize(byte[] payload) {
+        return HEADER_SIZE + payload.length;
+    }
+
+    static byte[] tombstone(UUID transactionId) {
+        return ByteBuffer.allocate(16)
+                .putLong(transactionId.getMostSignificantBits())
+                .putLong(transactionId.getLeastSignificantBits())
+                .array();
+    }
+
+    static UUID tombstoneId(byte[] payload) {
+        ByteBuffer bytes = ByteBuffer.wrap(payload);
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+
+    // Encoded transactions start with a format byte followed by the id.
+    static UUID transactionId(byte[] payload) {
+        ByteBuffer bytes = ByteBuffer.wrap(payload, 1, 16);
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+
+    int append(byte type, byte[] payload) {
+        int size = recordSize(payload);
+        if (writePosition + size > buffer.capacity()) {
+            return -1;
+        }
+
+        int offset = writePosition;
+        buffer.putInt(offset + Integer.BYTES, checksum(type, payload));
+        buffer.put(offset + 2 * Integer.BYTES, type);
+        buffer.put(offset + HEADER_SIZE, payload);
+        buffer.putInt(offset, payload.length);
+        writePosition += size;
+        return offset;
+    }
+
+    Record read(int offset) {
+        if (offset + HEADER_SIZE > buffer.capacity()) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || offset + HEADER_SIZE + length > buffer.capacity()) {
+            return null;
+        }
+
+        byte type = buffer.get(offset + 2 * Integer.BYTES);
+        byte[] payload = new byte[length];
+        buffer.get(offset + HEADER_SIZE, payload);
+        if (checksum(type, payload) != buffer.getInt(offset + Integer.BYTES)) {
+            return null;
+        }
+        return new Record(type, payload, HEADER_SIZE + length);
+    }
+
+    // Positions the segment after its last valid record. The tail segment's torn record is
+    // zeroed so new appends can never be followed by stale bytes that happen to parse; a
+    // sealed segment is left untouched for inspection.
+    void recoverTo(int position, boolean tail) {
+        writePosition = position;
+        forcedPosition = position;
+        if (position + Integer.BYTES <= buffer.capacity() && buffer.getInt(position) != 0) {
+            if (!tail) {
+                log.warn("Segment log: {} is damaged after offset {}", path.getFileName(), position);
+                return;
+            }
+            log.warn("Segment log: discarding torn record at {} of {}", position, path.getFileName());
+            for (int index = position; index < buffer.capacity(); index++) {
+                buffer.put(index, (byte) 0);
+            }
+            buffer.force(position, buffer.capacity() - position);
+        }
+    }
+
+    void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    void markForced(int position) {
+        forcedPosition = Math.max(forcedPosition, position);
+    }
+
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    void addLiveBytes(long delta) {
+        liveBytes.addAndGet(delta);
+    }
+
+    long liveBytes() {
+        return liveBytes.get();
+    }
+
+    int id() {
+        return id;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    int forcedPosition() {
+        return forcedPosition;
+    }
+
+    private static int checksum(byte type, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    record Record(byte type, byte[] payload, int size) {
+    }
+}
@@ -0,0 +1,693 @@
+package com.example.hexagonal.infrastructure.persistence.segmentlog;
+
+import com.example.hexagonal.domain.exception.PartialBatchWriteException;
+import com.example.hexagonal.domain.exception.VersionConflictException;
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.OutboxEntry;
+import com.example.hexagonal.domain.model.TransactionPage;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.example.hexagonal.domain.port.OutboxRepository;
+import com.example.hexagonal.infrastructure.persistence.codec.DebitTransactionCodec;
+import com.example.hexagonal.infrastructure.persistence.index.IdCursorPager;
+import com.example.hexagonal.infrastructure.persistence.index.TimeOrderedKey;
+import com.example.hexagonal.infrastructure.persistence.index.TransactionSecondaryIndex;
+import com.example.hexagonal.infrastructure.persistence.outbox.InMemoryOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Durable local store: every write is appended to a memory-mapped segment log and the
+// in-memory index points at the latest record of each transaction. Writers append under
+// one lock, then wait for a single flusher thread whose fsync covers every record
+// appended since the previous one (group commit). On start the log is replayed in
+// segment order; sealed segments mostly holding superseded versions are rewritten.
+// Selected with debit.persistence.type=segment-log. Its outbox is kept in memory, so events
+// not yet relayed when the process stops are not replayed from the log.
+@Component("debitTransactionStore")
+@ConditionalOnProperty(name = "debit.persistence.type", havingValue = "segment-log")
+@Slf4j
+public class SegmentLogDynamoDbAdapter implements DebitTransactionRepository, OutboxRepository {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsync;
+    private final double compactionLiveRatio;
+    private final int maxRetryAttempts;
+
+    private final Map<UUID, Location> primaryIndex = new ConcurrentHashMap<>();
+    private final TransactionSecondaryIndex secondaryIndex = new TransactionSecondaryIndex();
+    private final ConcurrentSkipListMap<Integer, LogSegment> segments = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Ordering> orderings = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<TimeOrderedKey> scheduledIndex = new ConcurrentSkipListSet<>();
+    private final ConcurrentSkipListSet<TimeOrderedKey> retryIndex = new ConcurrentSkipListSet<>();
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock durabilityLock = new ReentrantLock();
+    private final Condition flushRequested = durabilityLock.newCondition();
+    private final Condition flushed = durabilityLock.newCondition();
+    private volatile LogSegment active;
+    private volatile long appendedRecords;
+    private volatile long durableRecords;
+    private volatile boolean running;
+    private Thread flusher;
+
+    private final Timer fsyncTimer;
+    private final DistributionSummary groupCommitSize;
+    private final Counter compactionCounter;
+
+    public SegmentLogDynamoDbAdapter(MeterRegistry meterRegistry,
+                                     @Value("${debit.persistence.segment-log.directory:./data/segment-log}") String directory,
+                                     @Value("${debit.persistence.segment-log.segment-size-mb:64}") int segmentSizeMb,
+                                     @Value("${debit.persistence.segment-log.fsync:true}") boolean fsync,
+                                     @Value("${debit.persistence.segment-log.compaction-live-ratio:0.5}") double compactionLiveRatio,
+                                     @Value("${debit.performance.max-retry-attempts:3}") int maxRetryAttempts) {
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.fsync = fsync;
+        this.compactionLiveRatio = compactionLiveRatio;
+        this.maxRetryAttempts = maxRetryAttempts;
+
+        this.fsyncTimer = Timer.builder("debit.persistence.segment.log.fsync")
+                .description("Time to force appended segment log records to disk")
+                .tag("service", "hexagonal-debit-service")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.groupCommitSize = DistributionSummary.builder("debit.persistence.segment.log.group.commit.records")
+                .description("Records made durable by a single fsync")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.compactionCounter = Counter.builder("debit.persistence.segment.log.compactions")
+                .description("Sealed segments rewritten and deleted by compaction")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        Gauge.builder("debit.persistence.segment.log.segments", segments, Map::size)
+                .description("Segment files currently backing the log")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open segment log at " + directory, e);
+        }
+
+        running = true;
+        if (fsync) {
+            flusher = Thread.ofPlatform().name("SegmentLog-flusher").daemon().start(this::flushLoop);
+        }
+        log.info("Segment log opened at {} with {} transactions in {} segments",
+                directory, primaryIndex.size(), segments.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (active == null) {
+            return;
+        }
+        durabilityLock.lock();
+        try {
+            running = false;
+            flushRequested.signalAll();
+        } finally {
+            durabilityLock.unlock();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        appendLock.lock();
+        try {
+            LogSegment current = active;
+            current.force(current.forcedPosition(), current.writePosition());
+            for (LogSegment segment : segments.values()) {
+                segment.close();
+            }
+        } catch (IOException e) {
+            log.warn("Segment log: error closing segments: {}", e.getMessage());
+        } finally {
+            appendLock.unlock();
+        }
+        markDurable(appendedRecords);
+    }
+
+    @Override
+    public DebitTransaction save(DebitTransaction transaction) {
+        put(transaction);
+        awaitDurable(appendedRecords);
+        return transaction;
+    }
+
+    @Override
+    public DebitTransaction saveWithEvent(DebitTransaction transaction, DebitEvent event) {
+        long version = put(transaction);
+        awaitDurable(appendedRecords);
+        outbox.add(event, version);
+        return transaction;
+    }
+
+    // Every record is appended first and one wait covers them all, so a batch shares an fsync.
+    @Override
+    public List<DebitTransaction> saveAll(List<DebitTransaction> transactions) {
+        try {
+            transactions.forEach(this::put);
+        } finally {
+            awaitDurable(appendedRecords);
+        }
+        return transactions;
+    }
+
+    // Same contract as the DynamoDB adapter: new transactions only, and on the first failure
+    // PartialBatchWriteException reports how many pairs were stored before it.
+    @Override
+    public List<DebitTransaction> saveAllWithEvents(List<DebitTransaction> transactions, List<DebitEvent> events) {
+        if (transactions.size() != events.size()) {
+            throw new IllegalArgumentException("Each transaction needs exactly one event");
+        }
+        if (transactions.stream().anyMatch(transaction -> transaction.getVersion() != null)) {
+            throw new IllegalArgumentException("saveAllWithEvents only accepts new transactions");
+        }
+        int stored = 0;
+        try {
+            for (DebitTransaction transaction : transactions) {
+                put(transaction);
+                stored++;
+            }
+        } catch (RuntimeException e) {
+            awaitDurable(appendedRecords);
+            events.subList(0, stored).forEach(event -> outbox.add(event, 1));
+            throw new PartialBatchWriteException(stored, e);
+        }
+        awaitDurable(appendedRecords);
+        events.forEach(event -> outbox.add(event, 1));
+        return transactions;
+    }
+
+    private long put(DebitTransaction transaction) {
+        Long expectedVersion = transaction.getVersion();
+        long nextVersion = expectedVersion == null ? 1 : expectedVersion + 1;
+        DebitTransaction stored = transaction.toBuilder().version(nextVersion).build();
+        byte[] payload = DebitTransactionCodec.encode(stored);
+
+        primaryIndex.compute(transaction.getTransactionId(), (transactionId, previous) -> {
+            Long currentVersion = previous != null ? previous.version() : null;
+            if (!Objects.equals(currentVersion, expectedVersion)) {
+                throw new VersionConflictException(transactionId, expectedVersion);
+            }
+            Location location = append(LogSegment.PUT, payload, nextVersion);
+            supersede(previous);
+            secondaryIndex.update(transactionId, stored.getCompanyId(), stored.getStatus());
+            reindexOrdered(transactionId, stored);
+            return location;
+        });
+
+        transaction.setVersion(nextVersion);
+        return nextVersion;
+    }
+
+    @Override
+    public Optional<DebitTransaction> findById(UUID transactionId) {
+        return Optional.ofNullable(read(transactionId));
+    }
+
+    @Override
+    public List<DebitTransaction> findAllById(Collection<UUID> transactionIds) {
+        return transactionIds.stream()
+                .distinct()
+                .map(this::read)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DebitTransaction> findByCompanyId(String companyId) {
+        return resolve(secondaryIndex.idsByCompany(companyId), transaction -> companyId.equals(transaction.getCompanyId()));
+    }
+
+    @Override
+    public List<DebitTransaction> findByStatus(TransactionStatus status) {
+        return resolve(secondaryIndex.idsByStatus(status), transaction -> status == transaction.getStatus());
+    }
+
+    @Override
+    public TransactionPage findByCompanyId(String companyId, int pageSize, String continuationToken) {
+        return IdCursorPager.page(secondaryIndex.idsByCompany(companyId), pageSize, continuationToken,
+                id -> matching(read(id), transaction -> companyId.equals(transaction.getCompanyId())));
+    }
+
+    @Override
+    public TransactionPage findByStatus(TransactionStatus status, int pageSize, String continuationToken) {
+        return IdCursorPager.page(secondaryIndex.idsByStatus(status), pageSize, continuationToken,
+                id -> matching(read(id), transaction -> status == transaction.getStatus()));
+    }
+
+    @Override
+    public List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return findByScheduledDateBetween(startDate, endDate, Integer.MAX_VALUE);
+    }
+
+    // Walks the (scheduledDate, transactionId) skip list from startDate and stops after limit
+    // matches; the filter drops entries whose transaction was rescheduled while walking.
+    @Override
+    public List<DebitTransaction> findByScheduledDateBetween(LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        if (startDate.isAfter(endDate)) {
+            return List.of();
+        }
+        return walk(scheduledIndex.subSet(TimeOrderedKey.lowest(startDate), true, TimeOrderedKey.highest(endDate), true), limit,
+                transaction -> transaction.getScheduledDate() != null
+                        && !transaction.getScheduledDate().isBefore(startDate)
+                        && !transaction.getScheduledDate().isAfter(endDate));
+    }
+
+    @Override
+    public List<DebitTransaction> findFailedTransactionsForRetry() {
+        return findFailedTransactionsForRetry(Integer.MAX_VALUE);
+    }
+
+    // FAILED transactions with retries remaining, least recently updated first.
+    @Override
+    public List<DebitTransaction> findFailedTransactionsForRetry(int limit) {
+        return walk(retryIndex, limit, this::isRetryCandidate);
+    }
+
+    @Override
+    public void deleteById(UUID transactionId) {
+        boolean[] deleted = new boolean[1];
+        primaryIndex.computeIfPresent(transactionId, (id, previous) -> {
+            append(LogSegment.DELETE, LogSegment.tombstone(id), 0);
+            supersede(previous);
+            secondaryIndex.remove(id);
+            reindexOrdered(id, null);
+            deleted[0] = true;
+            return null;
+        });
+        if (deleted[0]) {
+            awaitDurable(appendedRecords);
+        }
+    }
+
+    public boolean existsById(UUID transactionId) {
+        return primaryIndex.containsKey(transactionId);
+    }
+
+    public long countByCompanyId(String companyId) {
+        return secondaryIndex.countByCompany(companyId);
+    }
+
+    @Override
+    public long countByCompanyIdAndStatus(String companyId, TransactionStatus status) {
+        return findByCompanyId(companyId).stream()
+                .filter(transaction -> transaction.getStatus() == status)
+                .count();
+    }
+
+    @Override
+    public List<OutboxEntry> findPending(int limit) {
+        return outbox.findPending(limit);
+    }
+
+    @Override
+    public boolean claim(UUID eventId, String owner, Duration lease) {
+        return outbox.claim(eventId, owner, lease);
+    }
+
+    @Override
+    public void markPublished(Collection<UUID> eventIds) {
+        outbox.markPublished(eventIds);
+    }
+
+    @Override
+    public long countPending() {
+        return outbox.countPending();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    // Only sealed segments are candidates; live records are re-appended inside the index
+    // compute of their id, so a concurrent save or delete of the same id is never undone.
+    @Scheduled(fixedDelayString = "${debit.persistence.segment-log.compaction-interval-ms:60000}")
+    public void compact() {
+        if (!running) {
+            return;
+        }
+        for (LogSegment segment : List.copyOf(segments.values())) {
+            if (segment.id() >= active.id()) {
+                break;
+            }
+            if (segment.liveBytes() > segment.writePosition() * compactionLiveRatio) {
+                continue;
+            }
+            try {
+                compact(segment);
+            } catch (IOException | RuntimeException e) {
+                log.error("Segment log: failed to compact {}", LogSegment.fileName(segment.id()), e);
+                return;
+            }
+        }
+    }
+
+    private void compact(LogSegment segment) throws IOException {
+        boolean oldest = segment.id() == segments.firstKey();
+        int relocated = 0;
+        int offset = 0;
+        LogSegment.Record record;
+        while ((record = segment.read(offset)) != null) {
+            int recordOffset = offset;
+            byte[] payload = record.payload();
+            if (record.type() == LogSegment.PUT) {
+                Location moved = primaryIndex.computeIfPresent(LogSegment.transactionId(payload), (id, location) ->
+                        location.segmentId() == segment.id() && location.offset() == recordOffset
+                                ? append(LogSegment.PUT, payload, location.version())
+                                : location);
+                relocated += moved != null && moved.segmentId() != segment.id() ? 1 : 0;
+            } else if (!oldest) {
+                // An older segment may still hold a version this tombstone deleted.
+                primaryIndex.compute(LogSegment.tombstoneId(payload), (id, location) -> {
+                    if (location == null) {
+                        append(LogSegment.DELETE, payload, 0);
+                    }
+                    return location;
+                });
+            }
+            offset += record.size();
+        }
+
+        awaitDurable(appendedRecords);
+        segments.remove(segment.id());
+        segment.delete();
+        compactionCounter.increment();
+        log.info("Segment log: compacted {}, relocated {} live transactions",
+                LogSegment.fileName(segment.id()), relocated);
+    }
+
+    private Location append(byte type, byte[] payload, long version) {
+        int size = LogSegment.recordSize(payload);
+        if (size > segmentSize) {
+            throw new IllegalArgumentException("Record of " + size + " bytes exceeds segment size " + segmentSize);
+        }
+
+        appendLock.lock();
+        try {
+            int offset = active.append(type, payload);
+            if (offset < 0) {
+                roll();
+                offset = active.append(type, payload);
+            }
+            if (type == LogSegment.PUT) {
+                active.addLiveBytes(size);
+            }
+            appendedRecords++;
+            return new Location(active.id(), offset, size, version);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll segment log at " + directory, e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        LogSegment sealed = active;
+        if (fsync) {
+            sealed.force(sealed.forcedPosition(), sealed.writePosition());
+            sealed.markForced(sealed.writePosition());
+        }
+        LogSegment next = LogSegment.create(directory, sealed.id() + 1, segmentSize);
+        if (fsync) {
+            forceDirectory();
+        }
+        segments.put(next.id(), next);
+        active = next;
+    }
+
+    private void supersede(Location previous) {
+        if (previous != null) {
+            LogSegment segment = segments.get(previous.segmentId());
+            if (segment != null) {
+                segment.addLiveBytes(-previous.size());
+            }
+        }
+    }
+
+    private DebitTransaction read(UUID transactionId) {
+        Location location = primaryIndex.get(transactionId);
+        while (location != null) {
+            LogSegment segment = segments.get(location.segmentId());
+            if (segment != null) {
+                LogSegment.Record record = segment.read(location.offset());
+                if (record == null) {
+                    throw new IllegalStateException("Corrupted segment log record for transaction " + transactionId);
+                }
+                return DebitTransactionCodec.decode(record.payload());
+            }
+            Location relocated = primaryIndex.get(transactionId);
+            if (location.equals(relocated)) {
+                throw new IllegalStateException("Segment " + location.segmentId() + " of transaction " + transactionId + " is missing");
+            }
+            location = relocated;
+        }
+        return null;
+    }
+
+    private List<DebitTransaction> resolve(Collection<UUID> ids, Predicate<DebitTransaction> filter) {
+        return ids.stream()
+                .map(this::read)
+                .filter(transaction -> transaction != null && filter.test(transaction))
+                .collect(Collectors.toList());
+    }
+
+    private List<DebitTransaction> walk(Collection<TimeOrderedKey> keys, int limit, Predicate<DebitTransaction> filter) {
+        return keys.stream()
+                .map(key -> read(key.transactionId()))
+                .filter(transaction -> transaction != null && filter.test(transaction))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    // Called inside the primary index compute of the id (or during replay), so the previous
+    // keys of a transaction are always the ones its last write added.
+    private void reindexOrdered(UUID transactionId, DebitTransaction current) {
+        Ordering next = current != null ? ordering(current) : null;
+        Ordering previous = next != null ? orderings.put(transactionId, next) : orderings.remove(transactionId);
+        if (previous != null) {
+            if (previous.scheduled() != null) {
+                scheduledIndex.remove(previous.scheduled());
+            }
+            if (previous.retry() != null) {
+                retryIndex.remove(previous.retry());
+            }
+        }
+        if (next != null) {
+            if (next.scheduled() != null) {
+                scheduledIndex.add(next.scheduled());
+            }
+            if (next.retry() != null) {
+                retryIndex.add(next.retry());
+            }
+        }
+    }
+
+    private Ordering ordering(DebitTransaction transaction) {
+        UUID transactionId = transaction.getTransactionId();
+        return new Ordering(
+                transaction.getScheduledDate() != null ? TimeOrderedKey.of(transaction.getScheduledDate(), transactionId) : null,
+                isRetryCandidate(transaction) ? TimeOrderedKey.of(transaction.getUpdatedAt(), transactionId) : null);
+    }
+
+    private boolean isRetryCandidate(DebitTransaction transaction) {
+        int retryCount = transaction.getRetryCount() != null ? transaction.getRetryCount() : 0;
+        return transaction.getStatus() == TransactionStatus.FAILED && retryCount < maxRetryAttempts;
+    }
+
+    private DebitTransaction matching(DebitTransaction transaction, Predicate<DebitTransaction> filter) {
+        return transaction != null && filter.test(transaction) ? transaction : null;
+    }
+
+    private void awaitDurable(long records) {
+        if (!fsync) {
+            return;
+        }
+
+        durabilityLock.lock();
+        try {
+            while (durableRecords < records) {
+                if (!running) {
+                    throw new IllegalStateException("Segment log at " + directory + " is closed");
+                }
+                flushRequested.signal();
+                flushed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for segment log fsync", e);
+        } finally {
+            durabilityLock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            durabilityLock.lock();
+            try {
+                while (running && durableRecords == appendedRecords) {
+                    flushRequested.await();
+                }
+                if (!running) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                durabilityLock.unlock();
+            }
+
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Segment log: fsync failed", e);
+            }
+        }
+    }
+
+    private void flush() {
+        LogSegment segment;
+        int from;
+        int to;
+        long records;
+        appendLock.lock();
+        try {
+            segment = active;
+            from = segment.forcedPosition();
+            to = segment.writePosition();
+            records = appendedRecords;
+        } finally {
+            appendLock.unlock();
+        }
+
+        long started = System.nanoTime();
+        segment.force(from, to);
+        fsyncTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        appendLock.lock();
+        try {
+            segment.markForced(to);
+        } finally {
+            appendLock.unlock();
+        }
+        groupCommitSize.record(records - durableRecords);
+        markDurable(records);
+    }
+
+    private void markDurable(long records) {
+        durabilityLock.lock();
+        try {
+            durableRecords = Math.max(durableRecords, records);
+            flushed.signalAll();
+        } finally {
+            durabilityLock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(LogSegment::isSegmentFile)
+                    .sorted()
+                    .toList();
+        }
+
+        for (Path file : files) {
+            LogSegment segment = LogSegment.open(file);
+            segments.put(segment.id(), segment);
+            segment.recoverTo(replay(segment), file.equals(files.get(files.size() - 1)));
+        }
+
+        if (segments.isEmpty()) {
+            LogSegment first = LogSegment.create(directory, 1, segmentSize);
+            segments.put(first.id(), first);
+        }
+        active = segments.lastEntry().getValue();
+    }
+
+    private int replay(LogSegment segment) {
+        int offset = 0;
+        LogSegment.Record record;
+        while ((record = segment.read(offset)) != null) {
+            if (record.type() == LogSegment.PUT) {
+                DebitTransaction transaction = DebitTransactionCodec.decode(record.payload());
+                supersede(primaryIndex.put(transaction.getTransactionId(),
+                        new Location(segment.id(), offset, record.size(), transaction.getVersion())));
+                segment.addLiveBytes(record.size());
+                secondaryIndex.update(transaction.getTransactionId(), transaction.getCompanyId(), transaction.getStatus());
+                reindexOrdered(transaction.getTransactionId(), transaction);
+            } else {
+                UUID transactionId = LogSegment.tombstoneId(record.payload());
+                supersede(primaryIndex.remove(transactionId));
+                secondaryIndex.remove(transactionId);
+                reindexOrdered(transactionId, null);
+            }
+            offset += record.size();
+        }
+        return offset;
+    }
+
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Segment log: directory fsync not supported: {}", e.getMessage());
+        }
+    }
+
+    private record Location(int segmentId, int offset, int size, long version) {
+    }
+
+    private record Ordering(TimeOrderedKey scheduled, TimeOrderedKey retry) {
+    }
+}
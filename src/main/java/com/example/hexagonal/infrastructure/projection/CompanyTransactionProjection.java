@@ -0,0 +1,214 @@
+package com.example.hexagonal.infrastructure.projection;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.CompanyTransactionTotals;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Per-company, per-status transaction counts and amounts maintained from the DebitEvent
+// stream. Every event is a delta (-1 from previousStatus, +1 to status), so events commute
+// and are applied without locks; duplicates are dropped by eventId within the retention
+// window. The projection only reflects the events it was fed, so it is not ready until a
+// rebuild from the event log completes (see KafkaProjectionFeeder) and readers fall back to
+// the store until then. A transition seen before its creation leaves a cell briefly
+// negative; reads clamp it at zero.
+@Component
+@Slf4j
+public class CompanyTransactionProjection implements CompanyTransactionTotals {
+
+    private static final int AMOUNT_SCALE = 2;
+
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+    private final boolean enabled;
+    private final long retentionMinutes;
+    private final long maximumSize;
+
+    private volatile State state;
+    private volatile State rebuilding;
+    private volatile boolean ready;
+
+    // Serializes rebuilds; a lock rather than synchronized so a replay running on a virtual
+    // thread does not pin its carrier while it polls the event log.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final Counter appliedCounter;
+    private final Counter duplicateCounter;
+    private final Counter skippedCounter;
+
+    public CompanyTransactionProjection(MeterRegistry meterRegistry,
+                                        @Value("${debit.projection.enabled:false}") boolean enabled,
+                                        @Value("${debit.projection.dedup-retention-minutes:1440}") long retentionMinutes,
+                                        @Value("${debit.projection.dedup-maximum-size:1000000}") long maximumSize) {
+        this.enabled = enabled;
+        this.retentionMinutes = retentionMinutes;
+        this.maximumSize = maximumSize;
+        this.state = newState();
+
+        this.appliedCounter = counter(meterRegistry, "applied");
+        this.duplicateCounter = counter(meterRegistry, "duplicate");
+        this.skippedCounter = counter(meterRegistry, "skipped");
+        Gauge.builder("debit.projection.companies", this, projection -> projection.state.companies.size())
+                .description("Companies tracked by the transaction projection")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // Called when the event feed stops: the counts no longer follow the store.
+    public void markStale() {
+        if (ready) {
+            ready = false;
+            log.warn("Transaction projection marked stale, reads fall back to the store until it is rebuilt");
+        }
+    }
+
+    // Returns false for duplicates and for events without the status and amount of the transition.
+    public boolean apply(DebitEvent event) {
+        if (!isProjectable(event)) {
+            skippedCounter.increment();
+            log.debug("Event {} of type {} skipped by projection", event.getEventId(), event.getEventType());
+            return false;
+        }
+
+        State shadow = rebuilding;
+        State current = state;
+        boolean applied = current.apply(event);
+        if (shadow != null && shadow != current) {
+            shadow.apply(event);
+        }
+        (applied ? appliedCounter : duplicateCounter).increment();
+        return applied;
+    }
+
+    // The replay must cover every event applied before this call; events applied while the
+    // replay runs go to both the live and the rebuilt state, so nothing is lost on the swap.
+    public void rebuild(Stream<DebitEvent> replay) {
+        State next = newState();
+        rebuildLock.lock();
+        try {
+            rebuilding = next;
+            replay.filter(CompanyTransactionProjection::isProjectable).forEach(next::apply);
+            state = next;
+            ready = true;
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+        log.info("Transaction projection rebuilt for {} companies", next.companies.size());
+    }
+
+    @Override
+    public long count(String companyId, TransactionStatus status) {
+        Cells cells = state.companies.get(companyId);
+        return cells == null ? 0 : Math.max(0, cells.counts[status.ordinal()].sum());
+    }
+
+    public long count(String companyId) {
+        Cells cells = state.companies.get(companyId);
+        if (cells == null) {
+            return 0;
+        }
+        long total = 0;
+        for (LongAdder count : cells.counts) {
+            total += Math.max(0, count.sum());
+        }
+        return total;
+    }
+
+    @Override
+    public BigDecimal totalAmount(String companyId, TransactionStatus status) {
+        Cells cells = state.companies.get(companyId);
+        return BigDecimal.valueOf(cells == null ? 0 : Math.max(0, cells.amounts[status.ordinal()].sum()), AMOUNT_SCALE);
+    }
+
+    private static boolean isProjectable(DebitEvent event) {
+        return event.getEventId() != null && event.getCompanyId() != null
+                && event.getStatus() != null && event.getAmount() != null;
+    }
+
+    private static long minorUnits(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    private State newState() {
+        return new State(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .build());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("debit.projection.events")
+                .description("Debit events consumed by the transaction projection by outcome")
+                .tag("service", "hexagonal-debit-service")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class State {
+        private final Map<String, Cells> companies = new ConcurrentHashMap<>();
+        private final Cache<UUID, Boolean> appliedEvents;
+
+        private State(Cache<UUID, Boolean> appliedEvents) {
+            this.appliedEvents = appliedEvents;
+        }
+
+        private boolean apply(DebitEvent event) {
+            if (appliedEvents.asMap().putIfAbsent(event.getEventId(), Boolean.TRUE) != null) {
+                return false;
+            }
+            if (event.getPreviousStatus() == event.getStatus()) {
+                return true;
+            }
+
+            Cells cells = companies.computeIfAbsent(event.getCompanyId(), companyId -> new Cells());
+            long amount = minorUnits(event.getAmount());
+            if (event.getPreviousStatus() != null) {
+                cells.counts[event.getPreviousStatus().ordinal()].decrement();
+                cells.amounts[event.getPreviousStatus().ordinal()].add(-amount);
+            }
+            cells.counts[event.getStatus().ordinal()].increment();
+            cells.amounts[event.getStatus().ordinal()].add(amount);
+            return true;
+        }
+    }
+
+    private static final class Cells {
+        private final LongAdder[] counts = adders();
+        private final LongAdder[] amounts = adders();
+
+        private static LongAdder[] adders() {
+            LongAdder[] adders = new LongAdder[STATUSES.length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
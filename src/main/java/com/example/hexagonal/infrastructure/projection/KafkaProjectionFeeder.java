@@ -0,0 +1,142 @@
+package com.example.hexagonal.infrastructure.projection;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Feeds CompanyTransactionProjection from the Kafka event topic. The consumer is assigned every
+// partition without a consumer group, so each replica reads the whole stream instead of a share
+// of it. On start it replays the topic from the beginning up to the end offsets seen at that
+// moment into rebuild(), then keeps applying new events. The topic must retain every event
+// (retention.ms=-1) for the replay to be complete.
+@Component
+@ConditionalOnProperty(name = "debit.projection.enabled", havingValue = "true")
+@Slf4j
+public class KafkaProjectionFeeder {
+
+    private final CompanyTransactionProjection projection;
+    private final ObjectMapper objectMapper;
+
+    @Value("${debit.events.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${debit.events.kafka.topic:debit-events}")
+    private String topic;
+
+    @Value("${debit.projection.poll-timeout-ms:1000}")
+    private long pollTimeoutMs;
+
+    private volatile boolean running;
+    private volatile Consumer<String, String> consumer;
+    private Thread worker;
+
+    public KafkaProjectionFeeder(CompanyTransactionProjection projection, ObjectMapper objectMapper) {
+        this.projection = projection;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.CLIENT_ID_CONFIG, "hexagonal-debit-service-projection");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        consumer = new KafkaConsumer<>(config, new StringDeserializer(), new StringDeserializer());
+
+        running = true;
+        worker = Thread.ofPlatform().name("projection-feeder").daemon().start(this::run);
+        log.info("Projection feeder started on topic {}", topic);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (consumer != null) {
+            consumer.wakeup();
+        }
+        if (worker != null) {
+            worker.join(Duration.ofSeconds(10));
+        }
+    }
+
+    private void run() {
+        try (Consumer<String, String> feed = consumer) {
+            List<TopicPartition> partitions = feed.partitionsFor(topic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            feed.assign(partitions);
+            feed.seekToBeginning(partitions);
+            Map<TopicPartition, Long> endOffsets = feed.endOffsets(partitions);
+
+            projection.rebuild(replay(feed, endOffsets));
+            while (running) {
+                events(feed.poll(Duration.ofMillis(pollTimeoutMs))).forEach(projection::apply);
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                log.error("Projection feeder woken up unexpectedly", e);
+            }
+        } catch (RuntimeException e) {
+            log.error("Projection feeder stopped on topic {}: {}", topic, e.getMessage(), e);
+        } finally {
+            projection.markStale();
+        }
+    }
+
+    // Polls until every partition is positioned at or past the end offset read before the replay.
+    private Stream<DebitEvent> replay(Consumer<String, String> feed, Map<TopicPartition, Long> endOffsets) {
+        return Stream.iterate(poll(feed), batch -> batch != null,
+                        batch -> caughtUp(feed, endOffsets) ? null : poll(feed))
+                .flatMap(this::events);
+    }
+
+    private ConsumerRecords<String, String> poll(Consumer<String, String> feed) {
+        if (!running) {
+            throw new WakeupException();
+        }
+        return feed.poll(Duration.ofMillis(pollTimeoutMs));
+    }
+
+    private boolean caughtUp(Consumer<String, String> feed, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream().allMatch(end -> feed.position(end.getKey()) >= end.getValue());
+    }
+
+    private Stream<DebitEvent> events(ConsumerRecords<String, String> records) {
+        return StreamSupport.stream(records.spliterator(), false)
+                .map(this::read)
+                .filter(Objects::nonNull);
+    }
+
+    private DebitEvent read(ConsumerRecord<String, String> record) {
+        try {
+            return objectMapper.readValue(record.value(), DebitEvent.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Projection feeder skipped unreadable event at {}-{}@{}: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.hexagonal.infrastructure.retry;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.example.hexagonal.domain.port.DebitTransactionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@ConditionalOnProperty(name = "debit.retry.engine.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class FailedTransactionRetryEngine {
+
+    private final DebitTransactionRepository transactionRepository;
+    private final DebitTransactionService debitTransactionService;
+    private final RetryBackoffPolicy backoffPolicy;
+    private final Executor debitTransactionExecutor;
+    private final int maxRetriesPerAccount;
+    private final Duration accountWindow;
+    private final int loadLimit;
+
+    private final DelayQueue<RetryTask> delayQueue = new DelayQueue<>();
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final Cache<String, AtomicInteger> accountWindows;
+
+    private final DistributionSummary retriedAttempts;
+    private final DistributionSummary failedAttempts;
+    private final Counter throttledCounter;
+
+    public FailedTransactionRetryEngine(DebitTransactionRepository transactionRepository,
+                                        DebitTransactionService debitTransactionService,
+                                        RetryBackoffPolicy backoffPolicy,
+                                        @Qualifier("debitTransactionExecutor") Executor debitTransactionExecutor,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${debit.retry.max-per-account-per-window:10}") int maxRetriesPerAccount,
+                                        @Value("${debit.retry.account-window-seconds:60}") long accountWindowSeconds,
+                                        @Value("${debit.retry.load-limit:1000}") int loadLimit) {
+        this.transactionRepository = transactionRepository;
+        this.debitTransactionService = debitTransactionService;
+        this.backoffPolicy = backoffPolicy;
+        this.debitTransactionExecutor = debitTransactionExecutor;
+        this.maxRetriesPerAccount = maxRetriesPerAccount;
+        this.accountWindow = Duration.ofSeconds(accountWindowSeconds);
+        this.loadLimit = loadLimit;
+        this.accountWindows = Caffeine.newBuilder()
+                .expireAfterWrite(accountWindow)
+                .build();
+
+        this.retriedAttempts = attemptSummary(meterRegistry, "retried");
+        this.failedAttempts = attemptSummary(meterRegistry, "failed");
+        this.throttledCounter = Counter.builder("debit.retry.throttled")
+                .description("Retries postponed because the bank account exceeded its retry budget")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        Gauge.builder("debit.retry.queue.size", delayQueue, DelayQueue::size)
+                .description("Failed transactions waiting for their backoff to elapse")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+    }
+
+    // Each poll reads at most loadLimit of the least recently updated failures; the rest are
+    // picked up by later polls as retried rows leave the FAILED status or move to the back.
+    @Scheduled(fixedDelayString = "${debit.retry.poll-interval-ms:30000}")
+    public void enqueueFailedTransactions() {
+        int enqueued = 0;
+        for (DebitTransaction transaction : transactionRepository.findFailedTransactionsForRetry(loadLimit)) {
+            if (backoffPolicy.canRetry(transaction.getRetryCount()) && queued.add(transaction.getTransactionId())) {
+                delayQueue.put(new RetryTask(transaction.getTransactionId(), transaction.getBankAccountId(),
+                        transaction.getRetryCount(), dueAt(transaction)));
+                enqueued++;
+            }
+        }
+        if (enqueued > 0) {
+            log.debug("Retry engine: enqueued {} failed transactions", enqueued);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${debit.retry.dispatch-interval-ms:1000}")
+    public void dispatchDueRetries() {
+        for (RetryTask task = delayQueue.poll(); task != null; task = delayQueue.poll()) {
+            if (!acquireAccountBudget(task.bankAccountId())) {
+                throttledCounter.increment();
+                delayQueue.put(task.postponedBy(accountWindow));
+                continue;
+            }
+
+            RetryTask due = task;
+            try {
+                debitTransactionExecutor.execute(() -> retry(due));
+            } catch (RuntimeException e) {
+                log.warn("Retry engine: could not submit retry of {}: {}", due.transactionId(), e.getMessage());
+                delayQueue.put(due.postponedBy(backoffPolicy.backoff(0)));
+            }
+        }
+    }
+
+    int queuedCount() {
+        return delayQueue.size();
+    }
+
+    private void retry(RetryTask task) {
+        try {
+            debitTransactionService.retryFailedTransaction(task.transactionId());
+            retriedAttempts.record(attemptNumber(task.attempt()));
+        } catch (RuntimeException e) {
+            failedAttempts.record(attemptNumber(task.attempt()));
+            log.warn("Retry engine: retry of {} failed: {}", task.transactionId(), e.getMessage());
+        } finally {
+            queued.remove(task.transactionId());
+        }
+    }
+
+    private boolean acquireAccountBudget(String bankAccountId) {
+        if (bankAccountId == null) {
+            return true;
+        }
+        AtomicInteger used = accountWindows.get(bankAccountId, account -> new AtomicInteger());
+        return used.incrementAndGet() <= maxRetriesPerAccount;
+    }
+
+    private long dueAt(DebitTransaction transaction) {
+        long failedAt = transaction.getUpdatedAt() != null
+                ? transaction.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        return failedAt + backoffPolicy.backoff(transaction.getRetryCount()).toMillis();
+    }
+
+    private static int attemptNumber(Integer retryCount) {
+        return retryCount == null ? 1 : retryCount + 1;
+    }
+
+    private static DistributionSummary attemptSummary(MeterRegistry meterRegistry, String outcome) {
+        return DistributionSummary.builder("debit.retry.attempts")
+                .description("Attempt number of automatic retries, per outcome")
+                .tag("service", "hexagonal-debit-service")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record RetryTask(UUID transactionId, String bankAccountId, Integer attempt, long dueAtMillis) implements Delayed {
+
+        RetryTask postponedBy(Duration delay) {
+            return new RetryTask(transactionId, bankAccountId, attempt, System.currentTimeMillis() + delay.toMillis());
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((RetryTask) other).dueAtMillis);
+        }
+    }
+}
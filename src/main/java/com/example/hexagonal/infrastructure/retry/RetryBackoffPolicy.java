@@ -0,0 +1,45 @@
+package com.example.hexagonal.infrastructure.retry;
+
+import com.example.hexagonal.domain.port.RetryPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class RetryBackoffPolicy implements RetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public RetryBackoffPolicy(@Value("${debit.performance.max-retry-attempts:3}") int maxAttempts,
+                              @Value("${debit.performance.retry-delay-seconds:60}") long retryDelaySeconds,
+                              @Value("${debit.retry.max-delay-seconds:3600}") long maxDelaySeconds) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = Duration.ofSeconds(retryDelaySeconds).toMillis();
+        this.maxDelayMillis = Duration.ofSeconds(maxDelaySeconds).toMillis();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public boolean canRetry(Integer retryCount) {
+        return retryCount == null || retryCount < maxAttempts;
+    }
+
+    // Exponential backoff with "equal jitter": half of the capped delay is fixed, the other half
+    // random, so retries of transactions that failed together spread out without collapsing to zero.
+    public Duration backoff(Integer retryCount) {
+        int attempt = retryCount == null ? 0 : Math.min(retryCount, 30);
+        long exponential = Math.min(maxDelayMillis, baseDelayMillis << attempt);
+        if (exponential < 0) {
+            exponential = maxDelayMillis;
+        }
+        long half = exponential / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.hexagonal.infrastructure.scheduling;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.example.hexagonal.domain.port.DebitTransactionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "debit.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ScheduledDebitReleaser {
+
+    private final DebitTransactionRepository transactionRepository;
+    private final DebitTransactionService debitTransactionService;
+    private final Executor debitTransactionExecutor;
+    private final Clock clock;
+    private final Duration lookahead;
+    private final Duration catchUp;
+    private final long retryDelayMillis;
+    private final int loadLimit;
+    private final int shardIndex;
+    private final int shardCount;
+    private final Semaphore permits;
+    private final TimingWheel wheel;
+
+    private final Counter loadedCounter;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter deferredCounter;
+    private final Counter retriedCounter;
+
+    // Upper bound (inclusive) of scheduledDate already loaded into the wheel; null until the first load.
+    private volatile LocalDateTime loadedUntil;
+
+    public ScheduledDebitReleaser(DebitTransactionRepository transactionRepository,
+                                  DebitTransactionService debitTransactionService,
+                                  @Qualifier("debitTransactionExecutor") Executor debitTransactionExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${debit.scheduler.tick-ms:1000}") long tickMillis,
+                                  @Value("${debit.scheduler.lookahead-minutes:10}") long lookaheadMinutes,
+                                  @Value("${debit.scheduler.load-interval-ms:60000}") long loadIntervalMillis,
+                                  @Value("${debit.scheduler.catch-up-hours:24}") long catchUpHours,
+                                  @Value("${debit.scheduler.retry-delay-ms:30000}") long retryDelayMillis,
+                                  @Value("${debit.scheduler.load-limit:5000}") int loadLimit,
+                                  @Value("${debit.scheduler.max-concurrency:32}") int maxConcurrency,
+                                  @Value("${debit.scheduler.shard-index:0}") int shardIndex,
+                                  @Value("${debit.scheduler.shard-count:1}") int shardCount) {
+        this(transactionRepository, debitTransactionService, debitTransactionExecutor, meterRegistry, Clock.systemDefaultZone(),
+                tickMillis, lookaheadMinutes, loadIntervalMillis, catchUpHours, retryDelayMillis, loadLimit,
+                maxConcurrency, shardIndex, shardCount);
+    }
+
+    ScheduledDebitReleaser(DebitTransactionRepository transactionRepository,
+                           DebitTransactionService debitTransactionService,
+                           Executor debitTransactionExecutor,
+                           MeterRegistry meterRegistry,
+                           Clock clock,
+                           long tickMillis,
+                           long lookaheadMinutes,
+                           long loadIntervalMillis,
+                           long catchUpHours,
+                           long retryDelayMillis,
+                           int loadLimit,
+                           int maxConcurrency,
+                           int shardIndex,
+                           int shardCount) {
+        this.transactionRepository = transactionRepository;
+        this.debitTransactionService = debitTransactionService;
+        this.debitTransactionExecutor = debitTransactionExecutor;
+        this.clock = clock;
+        this.lookahead = Duration.ofMinutes(lookaheadMinutes);
+        this.catchUp = Duration.ofHours(catchUpHours);
+        this.retryDelayMillis = retryDelayMillis;
+        this.loadLimit = loadLimit;
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        this.permits = new Semaphore(maxConcurrency);
+
+        long spanMillis = lookahead.toMillis() + 2 * loadIntervalMillis;
+        this.wheel = new TimingWheel(tickMillis, (int) Math.min(1 << 20, spanMillis / tickMillis + 1), clock.millis());
+
+        this.loadedCounter = Counter.builder("debit.scheduler.loaded")
+                .description("Scheduled debits loaded into the timing wheel")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        this.processedCounter = releaseCounter(meterRegistry, "processed");
+        this.failedCounter = releaseCounter(meterRegistry, "failed");
+        this.deferredCounter = rescheduledCounter(meterRegistry, "deferred");
+        this.retriedCounter = rescheduledCounter(meterRegistry, "retried");
+        Gauge.builder("debit.scheduler.pending", wheel, TimingWheel::size)
+                .description("Scheduled debits waiting in the timing wheel")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+        Gauge.builder("debit.scheduler.in.flight", permits, semaphore -> maxConcurrency - semaphore.availablePermits())
+                .description("Scheduled debits currently being processed")
+                .tag("service", "hexagonal-debit-service")
+                .register(meterRegistry);
+    }
+
+    // The first run rehydrates everything still PENDING/SCHEDULED within the catch-up window,
+    // so debits due while the service was down are released right away. The window is read in
+    // pages of loadLimit rows ordered by scheduledDate, so a backlog never lands in one response.
+    @Scheduled(fixedDelayString = "${debit.scheduler.load-interval-ms:60000}")
+    public void loadUpcoming() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime from = loadedUntil != null ? loadedUntil : now.minus(catchUp);
+        LocalDateTime until = min(now.plus(lookahead), toLocalDateTime(wheel.horizonMillis()));
+        if (!until.isAfter(from)) {
+            return;
+        }
+
+        boolean includeFrom = loadedUntil == null;
+        Set<UUID> loadedAtFrom = Set.of();
+        int scheduled = 0;
+        while (true) {
+            // Advance the watermark before querying so a debit created meanwhile is caught by
+            // track() or by the query; a debit caught by both fails the status check once.
+            // A failed query restores the watermark so the rest of the window is loaded next time.
+            LocalDateTime previous = loadedUntil;
+            loadedUntil = until;
+            List<DebitTransaction> page;
+            try {
+                page = transactionRepository.findByScheduledDateBetween(from, until, loadLimit);
+            } catch (RuntimeException e) {
+                loadedUntil = previous;
+                throw e;
+            }
+            for (DebitTransaction transaction : page) {
+                LocalDateTime scheduledDate = transaction.getScheduledDate();
+                if (scheduledDate.equals(from) && (!includeFrom || loadedAtFrom.contains(transaction.getTransactionId()))) {
+                    continue;
+                }
+                if (schedule(transaction)) {
+                    scheduled++;
+                }
+            }
+            if (page.size() < loadLimit) {
+                break;
+            }
+
+            // The next page starts at the last date read. Rows sharing that date are re-read
+            // and skipped by id; the watermark stays just below it so a failed page reloads it.
+            LocalDateTime last = page.get(page.size() - 1).getScheduledDate();
+            if (last.equals(from)) {
+                log.warn("Scheduler: more than {} debits scheduled at {}, skipping the rest of that instant", loadLimit, from);
+                from = from.plusNanos(1);
+                loadedAtFrom = Set.of();
+            } else {
+                LocalDateTime next = last;
+                from = next;
+                loadedAtFrom = page.stream()
+                        .filter(transaction -> transaction.getScheduledDate().equals(next))
+                        .map(DebitTransaction::getTransactionId)
+                        .collect(Collectors.toSet());
+            }
+            if (from.isAfter(until)) {
+                loadedUntil = until;
+                break;
+            }
+            includeFrom = true;
+            loadedUntil = from.minusNanos(1);
+        }
+        loadedCounter.increment(scheduled);
+        log.debug("Scheduler: loaded {} debits scheduled up to {}", scheduled, until);
+    }
+
+    public void track(DebitTransaction transaction) {
+        LocalDateTime watermark = loadedUntil;
+        if (watermark != null && transaction.getScheduledDate() != null
+                && !transaction.getScheduledDate().isAfter(watermark)) {
+            schedule(transaction);
+        }
+    }
+
+    // Runs on the shared scheduler thread, so it never waits for a permit: debits beyond the
+    // free permits go back into the wheel for the next tick.
+    @Scheduled(fixedDelayString = "${debit.scheduler.tick-ms:1000}")
+    public void releaseDue() {
+        List<UUID> due = wheel.advance(clock.millis());
+        for (int i = 0; i < due.size(); i++) {
+            UUID transactionId = due.get(i);
+            if (!permits.tryAcquire()) {
+                deferRemaining(due.subList(i, due.size()));
+                return;
+            }
+            try {
+                debitTransactionExecutor.execute(() -> release(transactionId));
+            } catch (RuntimeException e) {
+                permits.release();
+                failedCounter.increment();
+                log.warn("Scheduler: could not submit debit {}: {}", transactionId, e.getMessage());
+                retryLater(transactionId);
+            }
+        }
+    }
+
+    int pending() {
+        return wheel.size();
+    }
+
+    private boolean schedule(DebitTransaction transaction) {
+        if (transaction.getScheduledDate() == null || !isReleasable(transaction.getStatus()) || !owns(transaction.getTransactionId())) {
+            return false;
+        }
+        return wheel.add(transaction.getTransactionId(), toEpochMillis(transaction.getScheduledDate()));
+    }
+
+    private void release(UUID transactionId) {
+        try {
+            debitTransactionService.processDebitTransaction(transactionId);
+            processedCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("Scheduler: debit {} was not released: {}", transactionId, e.getMessage());
+            if (stillReleasable(transactionId)) {
+                retryLater(transactionId);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void deferRemaining(List<UUID> transactionIds) {
+        long now = clock.millis();
+        transactionIds.forEach(transactionId -> wheel.add(transactionId, now));
+        deferredCounter.increment(transactionIds.size());
+        log.debug("Scheduler: {} due debits deferred to the next tick, no free permits", transactionIds.size());
+    }
+
+    // The debit has already left the wheel and its window is behind the watermark, so it is
+    // put back with a delay instead of waiting for a restart to reload it.
+    private void retryLater(UUID transactionId) {
+        if (wheel.add(transactionId, clock.millis() + retryDelayMillis)) {
+            retriedCounter.increment();
+        } else {
+            log.warn("Scheduler: debit {} could not be rescheduled, retry delay exceeds the wheel span", transactionId);
+        }
+    }
+
+    private boolean stillReleasable(UUID transactionId) {
+        try {
+            return transactionRepository.findById(transactionId)
+                    .map(transaction -> isReleasable(transaction.getStatus()))
+                    .orElse(false);
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    private boolean isReleasable(TransactionStatus status) {
+        return status == TransactionStatus.PENDING || status == TransactionStatus.SCHEDULED;
+    }
+
+    private boolean owns(UUID transactionId) {
+        return shardCount <= 1 || Math.floorMod(transactionId.hashCode(), shardCount) == shardIndex;
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), clock.getZone());
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static Counter rescheduledCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("debit.scheduler.rescheduled")
+                .description("Due scheduled debits put back into the timing wheel")
+                .tag("service", "hexagonal-debit-service")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Counter releaseCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("debit.scheduler.released")
+                .description("Scheduled debits released for processing by the timing-wheel scheduler")
+                .tag("service", "hexagonal-debit-service")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
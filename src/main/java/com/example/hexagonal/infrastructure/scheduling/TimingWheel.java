@@ -0,0 +1,113 @@
+package com.example.hexagonal.infrastructure.scheduling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Single-level hashed wheel: one slot per tick, each slot a flat array of UUID bits,
+// so a scheduled debit costs 16 bytes instead of a timer object. Callers only add
+// deadlines within the wheel span; later ones are picked up by a future window load.
+public class TimingWheel {
+
+    private final long tickMillis;
+    private final Slot[] slots;
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long lastTick;
+    private int size;
+
+    public TimingWheel(long tickMillis, int minimumSlots, long startMillis) {
+        int wheelSize = minimumSlots <= 1 ? 1 : Integer.highestOneBit(minimumSlots - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.slots = new Slot[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.slots[i] = new Slot();
+        }
+        this.mask = wheelSize - 1;
+        this.lastTick = startMillis / tickMillis;
+    }
+
+    public boolean add(UUID id, long deadlineMillis) {
+        lock.lock();
+        try {
+            long tick = Math.max(deadlineMillis / tickMillis, lastTick + 1);
+            if (tick > lastTick + slots.length) {
+                return false;
+            }
+            slots[(int) (tick & mask)].add(id);
+            size++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<UUID> advance(long nowMillis) {
+        List<UUID> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            long nowTick = nowMillis / tickMillis;
+            long from = Math.max(lastTick + 1, nowTick - slots.length + 1);
+            for (long tick = from; tick <= nowTick; tick++) {
+                Slot slot = slots[(int) (tick & mask)];
+                size -= slot.drainTo(expired);
+            }
+            lastTick = Math.max(lastTick, nowTick);
+        } finally {
+            lock.unlock();
+        }
+        return expired;
+    }
+
+    public long horizonMillis() {
+        lock.lock();
+        try {
+            return (lastTick + slots.length + 1) * tickMillis - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int slotCount() {
+        return slots.length;
+    }
+
+    private static final class Slot {
+
+        private static final long[] EMPTY = new long[0];
+
+        private long[] bits = EMPTY;
+        private int count;
+
+        void add(UUID id) {
+            if ((count + 1) * 2 > bits.length) {
+                bits = Arrays.copyOf(bits, Math.max(8, bits.length * 2));
+            }
+            bits[count * 2] = id.getMostSignificantBits();
+            bits[count * 2 + 1] = id.getLeastSignificantBits();
+            count++;
+        }
+
+        int drainTo(List<UUID> target) {
+            int drained = count;
+            for (int i = 0; i < count; i++) {
+                target.add(new UUID(bits[i * 2], bits[i * 2 + 1]));
+            }
+            bits = EMPTY;
+            count = 0;
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.hexagonal.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionPageTest {
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    void stream_ShouldFetchNextPageOnlyWhenConsumed() {
+        Function<String, TransactionPage> fetchPage = pages(3, 2);
+
+        List<DebitTransaction> firstTwo = TransactionPage.stream(fetchPage).limit(2).toList();
+
+        assertThat(firstTwo).hasSize(2);
+        assertThat(fetches).hasValue(1);
+        assertThat(TransactionPage.stream(pages(3, 2)).count()).isEqualTo(6);
+    }
+
+    @Test
+    void stream_WhenPagesAreShort_ShouldContinueUntilTokenIsNull() {
+        List<TransactionPage> pages = List.of(
+                TransactionPage.of(List.of(), "1"),
+                TransactionPage.of(List.of(transaction()), "2"),
+                TransactionPage.of(List.of(), null));
+
+        assertThat(TransactionPage.stream(token -> pages.get(token == null ? 0 : Integer.parseInt(token))))
+                .hasSize(1);
+    }
+
+    @Test
+    void publisher_ShouldEmitOnlyRequestedItemsAndFetchPagesOnDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        TransactionPage.publisher(pages(3, 2), Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(fetches).hasValue(1);
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.items).hasSize(3);
+        assertThat(fetches).hasValue(2);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).hasSize(6);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void publisher_WhenCancelled_ShouldStopFetching() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        TransactionPage.publisher(pages(3, 2), Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(fetches).hasValue(1);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void publisher_WhenRequestIsNotPositive_ShouldSignalError() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        TransactionPage.publisher(pages(1, 1), Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(fetches).hasValue(0);
+    }
+
+    @Test
+    void publisher_WhenFetchFails_ShouldSignalError() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        TransactionPage.publisher(token -> {
+            throw new IllegalStateException("store unavailable");
+        }, Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+        assertThat(subscriber.items).isEmpty();
+    }
+
+    @Test
+    void publisher_WhenResultIsEmpty_ShouldCompleteWithoutItems() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        TransactionPage.publisher(token -> TransactionPage.of(List.of(), null), Runnable::run).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items).isEmpty();
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    private Function<String, TransactionPage> pages(int pageCount, int pageSize) {
+        return token -> {
+            int index = token == null ? 0 : Integer.parseInt(token);
+            fetches.incrementAndGet();
+            List<DebitTransaction> items = new ArrayList<>();
+            for (int i = 0; i < pageSize; i++) {
+                items.add(transaction());
+            }
+            return TransactionPage.of(items, index + 1 < pageCount ? String.valueOf(index + 1) : null);
+        };
+    }
+
+    private static DebitTransaction transaction() {
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId("company1")
+                .status(TransactionStatus.PENDING)
+                .build();
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<DebitTransaction> {
+        private final List<DebitTransaction> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(DebitTransaction item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
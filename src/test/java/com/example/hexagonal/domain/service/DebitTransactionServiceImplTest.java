@@ -0,0 +1,239 @@
+package com.example.hexagonal.domain.service;
+
+import com.example.hexagonal.domain.exception.PartialBatchWriteException;
+import com.example.hexagonal.domain.exception.VersionConflictException;
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.DebitTransactionBatchItemResult;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.example.hexagonal.infrastructure.concurrency.StripedTransactionLocks;
+import com.example.hexagonal.infrastructure.observability.CommandTracePersistTimer;
+import com.example.hexagonal.infrastructure.observability.DebitTransactionMetrics;
+import com.example.hexagonal.infrastructure.projection.CompanyTransactionProjection;
+import com.example.hexagonal.infrastructure.retry.RetryBackoffPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DebitTransactionServiceImplTest {
+
+    @Mock
+    private DebitTransactionRepository transactionRepository;
+
+    @Mock
+    private DebitTransactionMetrics debitTransactionMetrics;
+
+    private DebitTransactionServiceImpl service;
+    private UUID transactionId;
+
+    @BeforeEach
+    void setUp() {
+        service = new DebitTransactionServiceImpl(transactionRepository, debitTransactionMetrics,
+                new StripedTransactionLocks(new SimpleMeterRegistry(), 16, 1000), new RetryBackoffPolicy(3, 60, 3600),
+                new CompanyTransactionProjection(new SimpleMeterRegistry(), false, 1440, 1000), new CommandTracePersistTimer());
+        transactionId = UUID.randomUUID();
+    }
+
+    @Test
+    void cancelTransaction_WhenVersionConflicts_ShouldRetryAgainstFreshState() {
+        when(transactionRepository.findById(transactionId))
+                .thenReturn(Optional.of(transaction(TransactionStatus.PENDING, 1L)))
+                .thenReturn(Optional.of(transaction(TransactionStatus.PROCESSING, 2L)));
+        when(transactionRepository.saveWithEvent(any(), any()))
+                .thenThrow(new VersionConflictException(transactionId, 1L))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        DebitTransaction cancelled = service.cancelTransaction(transactionId, "Solicitado pelo cliente");
+
+        assertThat(cancelled.getStatus()).isEqualTo(TransactionStatus.CANCELLED);
+        assertThat(cancelled.getVersion()).isEqualTo(2L);
+        verify(debitTransactionMetrics).recordVersionConflictRetried();
+        verify(debitTransactionMetrics, never()).recordVersionConflictExhausted();
+    }
+
+    @Test
+    void processDebitTransaction_WhenConflictsPersist_ShouldGiveUpAfterMaxAttempts() {
+        when(transactionRepository.findById(transactionId))
+                .thenAnswer(invocation -> Optional.of(transaction(TransactionStatus.PENDING, 1L)));
+        when(transactionRepository.saveWithEvent(any(), any()))
+                .thenThrow(new VersionConflictException(transactionId, 1L));
+
+        assertThatThrownBy(() -> service.processDebitTransaction(transactionId))
+                .isInstanceOf(VersionConflictException.class);
+
+        verify(transactionRepository, times(3)).saveWithEvent(any(), any());
+        verify(debitTransactionMetrics, times(2)).recordVersionConflictRetried();
+        verify(debitTransactionMetrics).recordVersionConflictExhausted();
+    }
+
+    @Test
+    void processDebitTransaction_WhenRetryFindsTerminalStatus_ShouldFailWithoutSaving() {
+        when(transactionRepository.findById(transactionId))
+                .thenReturn(Optional.of(transaction(TransactionStatus.PENDING, 1L)))
+                .thenReturn(Optional.of(transaction(TransactionStatus.CANCELLED, 2L)));
+        when(transactionRepository.saveWithEvent(any(), any()))
+                .thenThrow(new VersionConflictException(transactionId, 1L));
+
+        assertThatThrownBy(() -> service.processDebitTransaction(transactionId))
+                .hasMessageContaining("CANCELLED");
+
+        verify(transactionRepository, times(1)).saveWithEvent(any(), any());
+    }
+
+    @Test
+    void createDebitTransactions_ShouldPersistEachChunkWithItsEvents() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        when(transactionRepository.saveAllWithEvents(anyList(), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<DebitTransactionBatchItemResult> results = service.createDebitTransactions(List.of(draft(), draft(), draft()));
+
+        assertThat(results).extracting(DebitTransactionBatchItemResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getTransactionId()).isNotNull();
+        });
+        verify(transactionRepository, times(2)).saveAllWithEvents(anyList(), anyList());
+        verify(debitTransactionMetrics, times(3)).recordDebitTransactionCreated();
+    }
+
+    @Test
+    void createDebitTransactions_WhenChunkFails_ShouldReportOnlyThatChunkAsFailed() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        when(transactionRepository.saveAllWithEvents(anyList(), anyList()))
+                .thenThrow(new RuntimeException("Throughput exceeded"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<DebitTransactionBatchItemResult> results = service.createDebitTransactions(List.of(draft(), draft(), draft()));
+
+        assertThat(results).extracting(DebitTransactionBatchItemResult::isSuccess).containsExactly(false, false, true);
+        assertThat(results.get(0).getError()).isEqualTo("Throughput exceeded");
+        verify(debitTransactionMetrics, times(1)).recordDebitTransactionCreated();
+    }
+
+    @Test
+    void createDebitTransactions_WhenChunkIsPartiallyPersisted_ShouldReportOnlyUnwrittenItemsAsFailed() {
+        when(transactionRepository.saveAllWithEvents(anyList(), anyList()))
+                .thenThrow(new PartialBatchWriteException(2, new RuntimeException("Transaction cancelled")));
+
+        List<DebitTransactionBatchItemResult> results = service.createDebitTransactions(List.of(draft(), draft(), draft()));
+
+        assertThat(results).extracting(DebitTransactionBatchItemResult::isSuccess).containsExactly(true, true, false);
+        assertThat(results.get(0).getTransactionId()).isNotNull();
+        assertThat(results.get(1).getError()).isNull();
+        assertThat(results.get(2).getTransactionId()).isNull();
+        assertThat(results.get(2).getError()).isEqualTo("Transaction cancelled");
+        verify(debitTransactionMetrics, times(2)).recordDebitTransactionCreated();
+    }
+
+    @Test
+    void getTransactionsByCompanyId_WhenPageSizeIsOutOfRange_ShouldRejectWithoutQuerying() {
+        ReflectionTestUtils.setField(service, "maxPageSize", 50);
+
+        assertThatThrownBy(() -> service.getTransactionsByCompanyId("company1", 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getTransactionsByCompanyId("company1", 51, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(transactionRepository, never()).findByCompanyId(any(), anyInt(), any());
+    }
+
+    @Test
+    void getTransactionCountByCompanyAndStatus_WhenProjectionIsRebuilt_ShouldReadProjectionInsteadOfStore() {
+        CompanyTransactionProjection projection = new CompanyTransactionProjection(new SimpleMeterRegistry(), true, 1440, 1000);
+        service = new DebitTransactionServiceImpl(transactionRepository, debitTransactionMetrics,
+                new StripedTransactionLocks(new SimpleMeterRegistry(), 16, 1000), new RetryBackoffPolicy(3, 60, 3600), projection,
+                new CommandTracePersistTimer());
+        projection.rebuild(Stream.of(DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transactionId)
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .companyId("company1")
+                .status(TransactionStatus.PENDING)
+                .amount(new BigDecimal("10.00"))
+                .build()));
+
+        assertThat(service.getTransactionCountByCompanyAndStatus("company1", TransactionStatus.PENDING)).isEqualTo(1);
+        assertThat(service.getTransactionAmountByCompanyAndStatus("company1", TransactionStatus.PENDING))
+                .isEqualByComparingTo("10.00");
+        verify(transactionRepository, never()).countByCompanyIdAndStatus(any(), any());
+    }
+
+    @Test
+    void getTransactionCountByCompanyAndStatus_WhenProjectionIsNotRebuilt_ShouldReadStore() {
+        CompanyTransactionProjection projection = new CompanyTransactionProjection(new SimpleMeterRegistry(), true, 1440, 1000);
+        service = new DebitTransactionServiceImpl(transactionRepository, debitTransactionMetrics,
+                new StripedTransactionLocks(new SimpleMeterRegistry(), 16, 1000), new RetryBackoffPolicy(3, 60, 3600), projection,
+                new CommandTracePersistTimer());
+        projection.apply(DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transactionId)
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .companyId("company1")
+                .status(TransactionStatus.PENDING)
+                .amount(new BigDecimal("10.00"))
+                .build());
+        when(transactionRepository.countByCompanyIdAndStatus("company1", TransactionStatus.PENDING)).thenReturn(7L);
+
+        assertThat(service.getTransactionCountByCompanyAndStatus("company1", TransactionStatus.PENDING)).isEqualTo(7);
+    }
+
+    @Test
+    void cancelTransaction_ShouldPublishTransitionWithPreviousStatusAndAmount() {
+        when(transactionRepository.findById(transactionId))
+                .thenReturn(Optional.of(transaction(TransactionStatus.PENDING, 1L)));
+        when(transactionRepository.saveWithEvent(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.cancelTransaction(transactionId, "Solicitado pelo cliente");
+
+        ArgumentCaptor<DebitEvent> event = ArgumentCaptor.forClass(DebitEvent.class);
+        verify(transactionRepository).saveWithEvent(any(), event.capture());
+        assertThat(event.getValue().getPreviousStatus()).isEqualTo(TransactionStatus.PENDING);
+        assertThat(event.getValue().getStatus()).isEqualTo(TransactionStatus.CANCELLED);
+        assertThat(event.getValue().getAmount()).isEqualByComparingTo("10.00");
+    }
+
+    private DebitTransaction draft() {
+        return DebitTransaction.builder()
+                .companyId("company1")
+                .bankAccountId("account1")
+                .amount(new BigDecimal("10.00"))
+                .build();
+    }
+
+    private DebitTransaction transaction(TransactionStatus status, Long version) {
+        return DebitTransaction.builder()
+                .transactionId(transactionId)
+                .companyId("company1")
+                .amount(new BigDecimal("10.00"))
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .retryCount(0)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.hexagonal.infrastructure.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedVirtualThreadExecutorTest {
+
+    @Test
+    void execute_ShouldRunTaskOnNamedVirtualThread() throws InterruptedException {
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        try (BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("Test-", 4, 5)) {
+            executor.execute(() -> {
+                virtual.set(Thread.currentThread().isVirtual() && Thread.currentThread().getName().startsWith("Test-"));
+                done.countDown();
+            });
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(virtual).isTrue();
+    }
+
+    @Test
+    void execute_ShouldNeverExceedMaxConcurrency() throws InterruptedException {
+        int maxConcurrency = 3;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(50);
+
+        try (BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("Test-", maxConcurrency, 5)) {
+            for (int i = 0; i < 50; i++) {
+                executor.execute(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(peak.get()).isBetween(1, maxConcurrency);
+    }
+
+    @Test
+    void execute_WhenClosed_ShouldRejectTask() {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("Test-", 1, 1);
+        executor.close();
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+}
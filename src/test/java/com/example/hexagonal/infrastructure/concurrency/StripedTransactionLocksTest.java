@@ -0,0 +1,96 @@
+package com.example.hexagonal.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedTransactionLocksTest {
+
+    private MeterRegistry meterRegistry;
+    private StripedTransactionLocks locks;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        locks = new StripedTransactionLocks(meterRegistry, 1000, 200);
+    }
+
+    @Test
+    void constructor_ShouldRoundStripesUpToPowerOfTwo() {
+        assertThat(locks.stripeCount()).isEqualTo(1024);
+    }
+
+    @Test
+    void withLock_ForSameTransaction_ShouldSerializeWork() {
+        UUID transactionId = UUID.randomUUID();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[20];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(() -> locks.withLock(transactionId, () -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                return running.decrementAndGet();
+            }));
+        }
+        CompletableFuture.allOf(futures).join();
+
+        assertThat(peak.get()).isEqualTo(1);
+    }
+
+    @Test
+    void withLock_WhenUncontended_ShouldNotRecordLockWait() {
+        locks.withLock(UUID.randomUUID(), () -> "done");
+
+        assertThat(meterRegistry.get("debit.transaction.lock.wait").timer().count()).isZero();
+    }
+
+    @Test
+    void withLock_WhenLockHeldBeyondTimeout_ShouldFailAndCountTimeout() throws InterruptedException {
+        UUID transactionId = UUID.randomUUID();
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> holder = CompletableFuture.supplyAsync(() -> locks.withLock(transactionId, () -> {
+            held.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> locks.withLock(transactionId, () -> "never"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining(transactionId.toString());
+
+        release.countDown();
+        holder.join();
+        assertThat(meterRegistry.get("debit.transaction.lock.acquisitions").tag("outcome", "timeout")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.hexagonal.infrastructure.messaging.adapter;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingSqsEventPublisherAdapterTest {
+
+    @Mock
+    private SqsAsyncClient sqsAsyncClient;
+
+    private BatchingSqsEventPublisherAdapter adapter;
+    private final List<SendMessageBatchRequest> sentBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        adapter = new BatchingSqsEventPublisherAdapter(sqsAsyncClient, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(adapter, "queueName", "test-debit-events");
+        ReflectionTestUtils.setField(adapter, "bufferCapacity", 100);
+        ReflectionTestUtils.setField(adapter, "lingerMs", 50L);
+        ReflectionTestUtils.setField(adapter, "offerTimeoutMs", 10L);
+        ReflectionTestUtils.setField(adapter, "maxInFlightBatches", 4);
+        ReflectionTestUtils.setField(adapter, "shutdownTimeoutSeconds", 5L);
+
+        adapter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    void publishAsync_ShouldCoalesceEventsIntoBatchesOfTen() throws Exception {
+        stubQueueUrl();
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            SendMessageBatchRequest request = invocation.getArgument(0);
+            synchronized (sentBatches) {
+                sentBatches.add(request);
+            }
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                    .successful(request.entries().stream()
+                            .map(entry -> SendMessageBatchResultEntry.builder().id(entry.id()).build())
+                            .toList())
+                    .build());
+        });
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            futures.add(adapter.publishAsync(event()));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(sentBatches).allSatisfy(batch -> assertThat(batch.entries()).hasSizeLessThanOrEqualTo(10));
+        assertThat(sentBatches.stream().mapToInt(batch -> batch.entries().size()).sum()).isEqualTo(25);
+        assertThat(sentBatches.size()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void publishAsync_WhenEntryFails_ShouldFailOnlyThatEvent() throws Exception {
+        stubQueueUrl();
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            SendMessageBatchRequest request = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                    .successful(request.entries().stream()
+                            .filter(entry -> !entry.id().equals("0"))
+                            .map(entry -> SendMessageBatchResultEntry.builder().id(entry.id()).build())
+                            .toList())
+                    .failed(BatchResultErrorEntry.builder().id("0").code("InternalError").message("boom").build())
+                    .build());
+        });
+
+        CompletableFuture<Void> first = adapter.publishAsync(event());
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(RuntimeException.class)
+                .hasMessageContaining("InternalError");
+        verify(sqsAsyncClient, atLeast(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    void publishAsync_WhenQueueUrlLookupFails_ShouldFailEventsWithoutHoldingPermits() throws Exception {
+        CompletableFuture<GetQueueUrlResponse> unavailable = CompletableFuture.failedFuture(new RuntimeException("unavailable"));
+        when(sqsAsyncClient.getQueueUrl(any(Consumer.class)))
+                .thenReturn(unavailable, unavailable, unavailable, unavailable, unavailable)
+                .thenReturn(CompletableFuture.completedFuture(
+                        GetQueueUrlResponse.builder().queueUrl("http://localhost/test-debit-events").build()));
+        stubSuccessfulBatches();
+
+        for (int i = 0; i < 5; i++) {
+            CompletableFuture<Void> failed = adapter.publishAsync(event());
+            assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasMessageContaining("unavailable");
+        }
+
+        adapter.publishAsync(event()).get(5, TimeUnit.SECONDS);
+        assertThat(availablePermits()).isEqualTo(4);
+    }
+
+    @Test
+    void publishAsync_WhenSendThrowsSynchronously_ShouldReleasePermitAndFailEvents() throws Exception {
+        stubQueueUrl();
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenThrow(new IllegalStateException("client closed"));
+
+        for (int i = 0; i < 5; i++) {
+            CompletableFuture<Void> failed = adapter.publishAsync(event());
+            assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasMessageContaining("client closed");
+        }
+
+        assertThat(availablePermits()).isEqualTo(4);
+    }
+
+    @Test
+    void publishAsync_WhenBodiesExceedBatchPayloadLimit_ShouldSplitBatch() throws Exception {
+        stubQueueUrl();
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            SendMessageBatchRequest request = invocation.getArgument(0);
+            synchronized (sentBatches) {
+                sentBatches.add(request);
+            }
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                    .successful(request.entries().stream()
+                            .map(entry -> SendMessageBatchResultEntry.builder().id(entry.id()).build())
+                            .toList())
+                    .build());
+        });
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(adapter.publishAsync(event("x".repeat(100 * 1024))));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(sentBatches).allSatisfy(batch -> assertThat(batch.entries().stream()
+                .mapToInt(entry -> entry.messageBody().length()).sum())
+                .isLessThanOrEqualTo(BatchingSqsEventPublisherAdapter.MAX_BATCH_PAYLOAD_BYTES));
+        assertThat(sentBatches.stream().mapToInt(batch -> batch.entries().size()).sum()).isEqualTo(5);
+    }
+
+    @Test
+    void publishAsync_WhenEventExceedsMessageLimit_ShouldFailOnlyThatEvent() throws Exception {
+        stubQueueUrl();
+        stubSuccessfulBatches();
+
+        CompletableFuture<Void> oversized = adapter.publishAsync(event("x".repeat(BatchingSqsEventPublisherAdapter.MAX_BATCH_PAYLOAD_BYTES)));
+        CompletableFuture<Void> regular = adapter.publishAsync(event());
+
+        assertThatThrownBy(() -> oversized.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        regular.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void publish_WhenSendFails_ShouldThrow() {
+        stubQueueUrl();
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SQS error")));
+
+        assertThatThrownBy(() -> adapter.publish(event()))
+                .hasMessage("Failed to publish event")
+                .hasRootCauseMessage("SQS error");
+    }
+
+    @Test
+    void shutdown_WhilePublishersAreOffering_ShouldCompleteEveryFuture() throws Exception {
+        stubQueueUrl();
+        stubSuccessfulBatches();
+        List<CompletableFuture<Void>> futures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(4);
+        ExecutorService publishers = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            publishers.submit(() -> {
+                started.countDown();
+                for (int j = 0; j < 200; j++) {
+                    futures.add(adapter.publishAsync(event()));
+                }
+            });
+        }
+
+        started.await();
+        adapter.shutdown();
+        publishers.shutdown();
+        assertThat(publishers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(futures).hasSize(800).allSatisfy(future -> assertThat(future).isDone());
+    }
+
+    @Test
+    void publishAsync_AfterShutdown_ShouldFail() {
+        adapter.shutdown();
+
+        CompletableFuture<Void> future = adapter.publishAsync(event());
+
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    private void stubSuccessfulBatches() {
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            SendMessageBatchRequest request = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                    .successful(request.entries().stream()
+                            .map(entry -> SendMessageBatchResultEntry.builder().id(entry.id()).build())
+                            .toList())
+                    .build());
+        });
+    }
+
+    private int availablePermits() {
+        return ((Semaphore) ReflectionTestUtils.getField(adapter, "inFlightBatches")).availablePermits();
+    }
+
+    private void stubQueueUrl() {
+        when(sqsAsyncClient.getQueueUrl(any(Consumer.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        GetQueueUrlResponse.builder().queueUrl("http://localhost/test-debit-events").build()));
+    }
+
+    private DebitEvent event() {
+        return event("test payload");
+    }
+
+    private DebitEvent event(String payload) {
+        return DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(UUID.randomUUID())
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .payload(payload)
+                .companyId("company123")
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.hexagonal.infrastructure.messaging.adapter;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 3, topics = KafkaEventPublisherAdapterTest.TOPIC)
+class KafkaEventPublisherAdapterTest {
+
+    static final String TOPIC = "debit-events-test";
+
+    private final EmbeddedKafkaBroker broker;
+    private MeterRegistry meterRegistry;
+    private KafkaEventPublisherAdapter adapter;
+
+    KafkaEventPublisherAdapterTest(EmbeddedKafkaBroker broker) {
+        this.broker = broker;
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new KafkaEventPublisherAdapter(new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(adapter, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(adapter, "topic", TOPIC);
+        ReflectionTestUtils.setField(adapter, "partitionKey", "company");
+        ReflectionTestUtils.setField(adapter, "lingerMs", 5);
+        ReflectionTestUtils.setField(adapter, "batchSize", 16384);
+        ReflectionTestUtils.setField(adapter, "compressionType", "lz4");
+        ReflectionTestUtils.setField(adapter, "deliveryTimeoutMs", 60000);
+        adapter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    void publishAsync_ShouldKeyEventsByCompanySoEachCompanyStaysOnOnePartition() throws Exception {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            futures.add(adapter.publishAsync(event("company-" + (i % 3))));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        List<ConsumerRecord<String, String>> records = consumeAll(30);
+
+        assertThat(records).extracting(ConsumerRecord::key).containsOnly("company-0", "company-1", "company-2");
+        Map<String, List<Integer>> partitionsByCompany = records.stream().collect(Collectors.groupingBy(
+                ConsumerRecord::key, Collectors.mapping(ConsumerRecord::partition, Collectors.toList())));
+        partitionsByCompany.values().forEach(partitions -> assertThat(partitions).containsOnly(partitions.get(0)));
+        assertThat(new String(records.get(0).headers().lastHeader(KafkaEventPublisherAdapter.EVENT_TYPE_HEADER).value(),
+                StandardCharsets.UTF_8)).isEqualTo("DEBIT_TRANSACTION_CREATED");
+        assertThat(meterRegistry.get("debit.events.publish.latency").tag("outcome", "success").timer().count())
+                .isEqualTo(30);
+    }
+
+    @Test
+    void key_WhenCompanyIsMissing_ShouldFallBackToTransactionId() {
+        DebitEvent event = event(null);
+
+        assertThat(adapter.key(event)).isEqualTo(event.getTransactionId().toString());
+    }
+
+    private List<ConsumerRecord<String, String>> consumeAll(int expected) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("kafka-publisher-test", "false", broker);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        try (Consumer<String, String> consumer = new KafkaConsumer<>(props, new StringDeserializer(), new StringDeserializer())) {
+            consumer.subscribe(List.of(TOPIC));
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (records.size() < expected && System.currentTimeMillis() < deadline) {
+                ConsumerRecords<String, String> polled = consumer.poll(Duration.ofMillis(500));
+                polled.forEach(records::add);
+            }
+        }
+        return records;
+    }
+
+    private DebitEvent event(String companyId) {
+        return DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(UUID.randomUUID())
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .payload("test payload")
+                .companyId(companyId)
+                .build();
+    }
+}
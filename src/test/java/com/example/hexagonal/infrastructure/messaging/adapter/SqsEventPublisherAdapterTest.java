@@ -1,6 +1,6 @@
 package com.example.hexagonal.infrastructure.messaging.adapter;
 
-import com.example.hexagonal.domain.model.OrderEvent;
+import com.example.hexagonal.domain.model.DebitEvent;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +12,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -27,44 +27,41 @@ class SqsEventPublisherAdapterTest {
     @BeforeEach
     void setUp() {
         adapter = new SqsEventPublisherAdapter(sqsTemplate);
-        ReflectionTestUtils.setField(adapter, "queueName", "test-order-events");
+        ReflectionTestUtils.setField(adapter, "queueName", "test-debit-events");
     }
 
     @Test
     void publish_ShouldPublishEventSuccessfully() {
-        OrderEvent event = OrderEvent.builder()
+        DebitEvent event = DebitEvent.builder()
                 .eventId(UUID.randomUUID())
-                .orderId(UUID.randomUUID())
-                .eventType("ORDER_CREATED")
+                .transactionId(UUID.randomUUID())
+                .eventType("DEBIT_TRANSACTION_CREATED")
                 .payload("test payload")
                 .timestamp(LocalDateTime.now())
                 .build();
 
         adapter.publish(event);
 
-        verify(sqsTemplate).send(eq("test-order-events"), eq(event));
+        verify(sqsTemplate).send(eq("test-debit-events"), eq(event));
     }
 
     @Test
     void publish_WhenExceptionOccurs_ShouldThrowRuntimeException() {
-        OrderEvent event = OrderEvent.builder()
+        DebitEvent event = DebitEvent.builder()
                 .eventId(UUID.randomUUID())
-                .orderId(UUID.randomUUID())
-                .eventType("ORDER_CREATED")
+                .transactionId(UUID.randomUUID())
+                .eventType("DEBIT_TRANSACTION_CREATED")
                 .payload("test payload")
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        doThrow(new RuntimeException("SQS error")).when(sqsTemplate).send(any(), any());
+        doThrow(new RuntimeException("SQS error")).when(sqsTemplate).send(eq("test-debit-events"), eq(event));
 
-        try {
-            adapter.publish(event);
-        } catch (RuntimeException e) {
-            assertThat(e.getMessage()).isEqualTo("Failed to publish event");
-            assertThat(e.getCause()).isInstanceOf(RuntimeException.class);
-            assertThat(e.getCause().getMessage()).isEqualTo("SQS error");
-        }
+        assertThatThrownBy(() -> adapter.publish(event))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Failed to publish event")
+                .hasRootCauseMessage("SQS error");
 
-        verify(sqsTemplate).send(eq("test-order-events"), eq(event));
+        verify(sqsTemplate).send(eq("test-debit-events"), eq(event));
     }
 }
@@ -0,0 +1,108 @@
+package com.example.hexagonal.infrastructure.messaging.dispatch;
+
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.example.hexagonal.infrastructure.messaging.handler.CommandHandler;
+import com.example.hexagonal.infrastructure.messaging.idempotency.IdempotentCommandGuard;
+import com.example.hexagonal.infrastructure.messaging.registry.CommandHandlerRegistry;
+import com.example.hexagonal.infrastructure.observability.CommandMetrics;
+import com.example.hexagonal.infrastructure.observability.CommandPhase;
+import com.example.hexagonal.infrastructure.observability.CommandTrace;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CommandDispatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MeterRegistry meterRegistry;
+    private CommandEnvelopeReader envelopeReader;
+    private CommandDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CommandHandlerRegistry registry = new CommandHandlerRegistry(List.of(new PersistingHandler(objectMapper)));
+        registry.initializeHandlers();
+        envelopeReader = new CommandEnvelopeReader(objectMapper);
+        dispatcher = new CommandDispatcher(registry,
+                new IdempotentCommandGuard(Optional.empty(), meterRegistry, false, 60, 1000),
+                new FairCommandScheduler(mock(DebitTransactionRepository.class), meterRegistry, false, 1, 10, 1, "", 10, 10),
+                new CommandMetrics(meterRegistry, 1.0));
+    }
+
+    @Test
+    void dispatch_ShouldRecordEveryPhaseUnderTheCommandType() {
+        String result = dispatcher.dispatch(envelopeReader.read("{\"commandType\":\"PERSIST_TEST\",\"value\":\"a\"}", null));
+
+        assertThat(result).isEqualTo("a");
+        for (CommandPhase phase : CommandPhase.values()) {
+            assertThat(phaseTimer(phase.tagValue()).count()).as(phase.tagValue()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("debit.commands.queue.lag").timer().count()).isZero();
+    }
+
+    @Test
+    void dispatch_WithSentTimestamp_ShouldRecordQueueLag() {
+        long sentTimestamp = System.currentTimeMillis() - 2000;
+
+        dispatcher.dispatch(envelopeReader.read("{\"commandType\":\"PERSIST_TEST\",\"value\":\"a\"}", null), sentTimestamp);
+
+        Timer lag = meterRegistry.get("debit.commands.queue.lag").tag("command", "PERSIST_TEST").timer();
+        assertThat(lag.count()).isEqualTo(1);
+        assertThat(lag.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(2000);
+    }
+
+    @Test
+    void dispatch_WhenCommandTypeIsUnknown_ShouldNotRegisterMetersForIt() {
+        dispatcher.dispatch(envelopeReader.read("{\"commandType\":\"NOPE\"}", null), System.currentTimeMillis());
+
+        assertThat(meterRegistry.find("debit.commands.queue.lag").tag("command", "NOPE").timer()).isNull();
+        assertThat(meterRegistry.find("debit.commands.phase").tag("command", "NOPE").timer()).isNull();
+    }
+
+    private Timer phaseTimer(String phase) {
+        return meterRegistry.get("debit.commands.phase")
+                .tag("command", "PERSIST_TEST")
+                .tag("phase", phase)
+                .timer();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final class PersistingHandler extends CommandHandler<Map> {
+
+        private PersistingHandler(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        public String getCommandType() {
+            return "PERSIST_TEST";
+        }
+
+        @Override
+        public Class<Map> getCommandClass() {
+            return Map.class;
+        }
+
+        @Override
+        public void handle(Map command) {
+            handleWithResult(command);
+        }
+
+        @Override
+        public String handleWithResult(Map command) {
+            return CommandTrace.time(CommandPhase.PERSIST, () -> String.valueOf(command.get("value")));
+        }
+    }
+}
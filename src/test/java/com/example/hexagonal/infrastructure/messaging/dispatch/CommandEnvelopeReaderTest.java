@@ -0,0 +1,61 @@
+package com.example.hexagonal.infrastructure.messaging.dispatch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommandEnvelopeReaderTest {
+
+    private CommandEnvelopeReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new CommandEnvelopeReader(new ObjectMapper());
+    }
+
+    @Test
+    void read_ShouldPreferMessageAttribute() {
+        String message = "{\"commandType\":\"PROCESS_DEBIT_TRANSACTION\",\"transactionId\":\"42\"}";
+
+        CommandEnvelope envelope = reader.read(message, "CANCEL_DEBIT_TRANSACTION");
+
+        assertThat(envelope.getCommandType()).isEqualTo("CANCEL_DEBIT_TRANSACTION");
+        assertThat(envelope.getPayload().path("transactionId").asText()).isEqualTo("42");
+    }
+
+    @Test
+    void read_ShouldUseCommandTypeFieldWhenAttributeMissing() {
+        String message = "{\"commandType\":\"PROCESS_DEBIT_TRANSACTION\",\"transactionId\":\"42\"}";
+
+        CommandEnvelope envelope = reader.read(message, null);
+
+        assertThat(envelope.getCommandType()).isEqualTo("PROCESS_DEBIT_TRANSACTION");
+    }
+
+    @Test
+    void read_ShouldIgnoreCommandNamesInsideOtherFields() {
+        String message = "{\"commandType\":\"CREATE_DEBIT_TRANSACTION\","
+                + "\"description\":\"replaces CANCEL_DEBIT_TRANSACTION sent yesterday\"}";
+
+        CommandEnvelope envelope = reader.read(message, "");
+
+        assertThat(envelope.getCommandType()).isEqualTo("CREATE_DEBIT_TRANSACTION");
+    }
+
+    @Test
+    void read_WithoutCommandType_ShouldReturnUnknown() {
+        CommandEnvelope envelope = reader.read("{\"description\":\"CREATE_DEBIT_TRANSACTION\"}", null);
+
+        assertThat(envelope.getCommandType()).isEqualTo(CommandEnvelopeReader.UNKNOWN_COMMAND_TYPE);
+    }
+
+    @Test
+    void read_WithInvalidJson_ShouldThrowException() {
+        assertThatThrownBy(() -> reader.read("not-json", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Command message is not valid JSON");
+    }
+}
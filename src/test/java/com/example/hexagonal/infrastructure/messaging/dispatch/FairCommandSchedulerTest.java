@@ -0,0 +1,210 @@
+package com.example.hexagonal.infrastructure.messaging.dispatch;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FairCommandSchedulerTest {
+
+    // Defaults of debit.commands.fair-queue.max-concurrency and spring.cloud.aws.sqs.listener.max-concurrent-messages.
+    private static final int SLOTS = 16;
+    private static final int LISTENER_CONCURRENCY = 64;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> executionOrder = new CopyOnWriteArrayList<>();
+    private DebitTransactionRepository transactionRepository;
+    private MeterRegistry meterRegistry;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = mock(DebitTransactionRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void execute_WhenNoisyTenantHasBacklog_ShouldServeSmallTenantWithinOneRound() throws Exception {
+        FairCommandScheduler scheduler = scheduler(1, 100, "");
+        CountDownLatch blocker = occupySlot(scheduler, "noisy");
+
+        for (int i = 0; i < 20; i++) {
+            submit(scheduler, "noisy");
+        }
+        await(() -> scheduler.queuedCount("noisy") == 20);
+        Future<?> small = submit(scheduler, "small");
+        await(() -> scheduler.queuedCount("small") == 1);
+
+        blocker.countDown();
+        small.get(5, TimeUnit.SECONDS);
+
+        assertThat(executionOrder.indexOf("small")).isLessThanOrEqualTo(1);
+        assertThat(meterRegistry.get("debit.commands.fair.queue.wait").tag("tenant", "small").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void execute_ShouldGiveWeightedTenantsProportionallyMoreSlots() throws Exception {
+        FairCommandScheduler scheduler = scheduler(1, 100, "heavy=3");
+        CountDownLatch blocker = occupySlot(scheduler, "blocker");
+
+        for (int i = 0; i < 12; i++) {
+            submit(scheduler, "heavy");
+            submit(scheduler, "light");
+        }
+        await(() -> scheduler.queuedCount("heavy") == 12 && scheduler.queuedCount("light") == 12);
+
+        blocker.countDown();
+        await(() -> executionOrder.size() == 24);
+
+        List<String> firstEight = executionOrder.subList(0, 8);
+        assertThat(firstEight.stream().filter("heavy"::equals).count()).isEqualTo(6);
+    }
+
+    @Test
+    void execute_WithListenerConcurrency_ShouldLetSmallTenantIntoTheNextSlots() throws Exception {
+        FairCommandScheduler scheduler = scheduler(SLOTS, 1000, "");
+        CountDownLatch blocker = occupySlots(scheduler, "noisy", SLOTS);
+        CountDownLatch secondWave = new CountDownLatch(1);
+
+        int smallCommands = 4;
+        int noisyCommands = LISTENER_CONCURRENCY - SLOTS - smallCommands;
+        for (int i = 0; i < noisyCommands; i++) {
+            submitBlocking(scheduler, "noisy", secondWave);
+        }
+        await(() -> scheduler.queuedCount("noisy") == noisyCommands);
+        for (int i = 0; i < smallCommands; i++) {
+            submitBlocking(scheduler, "small", secondWave);
+        }
+        await(() -> scheduler.queuedCount("small") == smallCommands);
+
+        // FIFO would hand all freed slots to the noisy backlog that arrived first.
+        blocker.countDown();
+        await(() -> executionOrder.size() == SLOTS);
+
+        assertThat(executionOrder.stream().filter("small"::equals).count()).isEqualTo(smallCommands);
+        secondWave.countDown();
+    }
+
+    @Test
+    void execute_WhenTenantQueueDrains_ShouldForgetTheTenant() throws Exception {
+        FairCommandScheduler scheduler = scheduler(SLOTS, 100, "");
+
+        for (int i = 0; i < 10; i++) {
+            submit(scheduler, "tenant-" + i).get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(scheduler.trackedTenants()).isZero();
+        assertThat(executionOrder).hasSize(10);
+    }
+
+    @Test
+    void execute_WhenTenantQueueIsFull_ShouldRejectCommand() throws Exception {
+        FairCommandScheduler scheduler = scheduler(1, 2, "");
+        CountDownLatch blocker = occupySlot(scheduler, "noisy");
+        submit(scheduler, "noisy");
+        submit(scheduler, "noisy");
+        await(() -> scheduler.queuedCount("noisy") == 2);
+
+        assertThatThrownBy(() -> scheduler.execute(payload("noisy"), () -> "ignored"))
+                .isInstanceOf(CommandQueueFullException.class);
+        assertThat(meterRegistry.get("debit.commands.fair.queue.rejected").tag("tenant", "noisy").counter().count())
+                .isEqualTo(1);
+        blocker.countDown();
+    }
+
+    @Test
+    void execute_WhenCommandOnlyHasTransactionId_ShouldQueueUnderItsCompany() throws Exception {
+        UUID transactionId = UUID.randomUUID();
+        when(transactionRepository.findById(transactionId))
+                .thenReturn(Optional.of(DebitTransaction.builder().transactionId(transactionId).companyId("company1").build()));
+        FairCommandScheduler scheduler = scheduler(1, 100, "");
+        CountDownLatch blocker = occupySlot(scheduler, "noisy");
+
+        JsonNode payload = objectMapper.createObjectNode().put("transactionId", transactionId.toString());
+        callers.submit(() -> scheduler.execute(payload, () -> "processed"));
+
+        await(() -> scheduler.queuedCount("company1") == 1);
+        blocker.countDown();
+    }
+
+    private FairCommandScheduler scheduler(int maxConcurrency, int maxQueuedPerTenant, String weights) {
+        return new FairCommandScheduler(transactionRepository, meterRegistry, true,
+                maxConcurrency, maxQueuedPerTenant, 1, weights, 200, LISTENER_CONCURRENCY);
+    }
+
+    private CountDownLatch occupySlot(FairCommandScheduler scheduler, String tenant) throws Exception {
+        return occupySlots(scheduler, tenant, 1);
+    }
+
+    private CountDownLatch occupySlots(FairCommandScheduler scheduler, String tenant, int slots) throws Exception {
+        CountDownLatch started = new CountDownLatch(slots);
+        CountDownLatch blocker = new CountDownLatch(1);
+        for (int i = 0; i < slots; i++) {
+            callers.submit(() -> scheduler.execute(payload(tenant), () -> {
+                started.countDown();
+                return awaitQuietly(blocker);
+            }));
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return blocker;
+    }
+
+    private void submitBlocking(FairCommandScheduler scheduler, String tenant, CountDownLatch release) {
+        callers.submit(() -> scheduler.execute(payload(tenant), () -> {
+            executionOrder.add(tenant);
+            return awaitQuietly(release);
+        }));
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Future<?> submit(FairCommandScheduler scheduler, String tenant) {
+        return callers.submit(() -> scheduler.execute(payload(tenant), () -> executionOrder.add(tenant)));
+    }
+
+    private JsonNode payload(String companyId) {
+        return objectMapper.createObjectNode().put("companyId", companyId);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
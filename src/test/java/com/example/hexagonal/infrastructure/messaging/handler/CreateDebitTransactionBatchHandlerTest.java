@@ -0,0 +1,100 @@
+package com.example.hexagonal.infrastructure.messaging.handler;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.DebitTransactionBatchItemResult;
+import com.example.hexagonal.domain.port.DebitTransactionService;
+import com.example.hexagonal.infrastructure.messaging.dto.CreateDebitTransactionBatchCommand;
+import com.example.hexagonal.infrastructure.messaging.dto.CreateDebitTransactionCommand;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CreateDebitTransactionBatchHandlerTest {
+
+    @Mock
+    private DebitTransactionService debitTransactionService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CreateDebitTransactionBatchHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        handler = new CreateDebitTransactionBatchHandler(objectMapper, debitTransactionService, validator, Optional.empty(), 3);
+    }
+
+    @Test
+    void handleWithResult_ShouldCreateValidItemsAndReportInvalidOnesByIndex() throws Exception {
+        UUID firstId = UUID.randomUUID();
+        UUID thirdId = UUID.randomUUID();
+        when(debitTransactionService.createDebitTransactions(anyList())).thenReturn(List.of(
+                DebitTransactionBatchItemResult.builder().index(0).success(true).transactionId(firstId).build(),
+                DebitTransactionBatchItemResult.builder().index(1).success(true).transactionId(thirdId).build()));
+
+        CreateDebitTransactionCommand invalid = item("account2");
+        invalid.setAmount(new BigDecimal("-1.00"));
+        CreateDebitTransactionBatchCommand command = CreateDebitTransactionBatchCommand.builder()
+                .correlationId("batch-correlation")
+                .transactions(List.of(item("account1"), invalid, item("account3")))
+                .build();
+
+        JsonNode result = objectMapper.readTree(handler.handleWithResult(command));
+
+        assertThat(result.get("created").asInt()).isEqualTo(2);
+        assertThat(result.get("failed").asInt()).isEqualTo(1);
+        assertThat(result.get("items").get(0).get("transactionId").asText()).isEqualTo(firstId.toString());
+        assertThat(result.get("items").get(1).get("error").asText()).isEqualTo("Amount must be positive");
+        assertThat(result.get("items").get(2).get("transactionId").asText()).isEqualTo(thirdId.toString());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DebitTransaction>> drafts = ArgumentCaptor.forClass(List.class);
+        verify(debitTransactionService).createDebitTransactions(drafts.capture());
+        assertThat(drafts.getValue()).extracting(DebitTransaction::getBankAccountId).containsExactly("account1", "account3");
+        assertThat(drafts.getValue()).extracting(DebitTransaction::getCorrelationId).containsOnly("batch-correlation");
+    }
+
+    @Test
+    void handleWithResult_WhenBatchExceedsLimit_ShouldRejectWholeCommand() {
+        CreateDebitTransactionBatchCommand command = CreateDebitTransactionBatchCommand.builder()
+                .transactions(List.of(item("a"), item("b"), item("c"), item("d")))
+                .build();
+
+        assertThatThrownBy(() -> handler.handleWithResult(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit is 3");
+        verifyNoInteractions(debitTransactionService);
+    }
+
+    private CreateDebitTransactionCommand item(String bankAccountId) {
+        return CreateDebitTransactionCommand.builder()
+                .companyId("company1")
+                .companyDocument("12.345.678/0001-90")
+                .companyName("Empresa Exemplo LTDA")
+                .bankAccountId(bankAccountId)
+                .amount(new BigDecimal("100.00"))
+                .description("Débito automático")
+                .scheduledDate(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.hexagonal.infrastructure.messaging.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotentCommandGuardTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MeterRegistry meterRegistry;
+    private IdempotentCommandGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new IdempotentCommandGuard(Optional.empty(), meterRegistry, true, 60, 1000);
+    }
+
+    @Test
+    void execute_WhenCommandIsRedelivered_ShouldReturnPreviousResultWithoutReprocessing() {
+        JsonNode payload = payload(UUID.randomUUID());
+        AtomicInteger executions = new AtomicInteger();
+
+        String first = guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> "tx-" + executions.incrementAndGet());
+        String second = guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> "tx-" + executions.incrementAndGet());
+
+        assertThat(first).isEqualTo("tx-1");
+        assertThat(second).isEqualTo("tx-1");
+        assertThat(executions).hasValue(1);
+        assertThat(meterRegistry.get("debit.commands.idempotency").tag("result", "hit").tag("tier", "local")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_WhenCommandFails_ShouldAllowRetry() {
+        JsonNode payload = payload(UUID.randomUUID());
+
+        assertThatThrownBy(() -> guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> {
+            throw new RuntimeException("boom");
+        })).hasMessage("boom");
+
+        assertThat(guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> "tx-1")).isEqualTo("tx-1");
+    }
+
+    @Test
+    void execute_WhenDuplicateArrivesWhileFirstIsRunning_ShouldRejectDuplicate() throws Exception {
+        JsonNode payload = payload(UUID.randomUUID());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread first = new Thread(() -> guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "tx-1";
+        }));
+        first.start();
+        started.await();
+
+        assertThatThrownBy(() -> guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> "tx-2"))
+                .isInstanceOf(CommandInProgressException.class);
+
+        release.countDown();
+        first.join();
+        assertThat(guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> "tx-2")).isEqualTo("tx-1");
+    }
+
+    @Test
+    void execute_WhenCommandIdIsMissing_ShouldAlwaysProcess() {
+        JsonNode payload = objectMapper.createObjectNode().put("companyId", "company1");
+        AtomicInteger executions = new AtomicInteger();
+
+        guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> "tx-" + executions.incrementAndGet());
+        guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> "tx-" + executions.incrementAndGet());
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void execute_WhenSharedStoreKnowsCommand_ShouldSkipProcessing() {
+        SharedDeduplicationStore sharedStore = mock(SharedDeduplicationStore.class);
+        when(sharedStore.findResult(anyString())).thenReturn(Optional.of(new CompletedCommand("tx-remote")));
+        guard = new IdempotentCommandGuard(Optional.of(sharedStore), meterRegistry, true, 60, 1000);
+
+        String result = guard.execute("CREATE_DEBIT_TRANSACTION", payload(UUID.randomUUID()), () -> "tx-local");
+
+        assertThat(result).isEqualTo("tx-remote");
+        verify(sharedStore, never()).tryClaim(anyString());
+    }
+
+    @Test
+    void execute_WhenSharedClaimIsHeldByAnotherInstance_ShouldRejectAndAllowLaterRetry() {
+        SharedDeduplicationStore sharedStore = mock(SharedDeduplicationStore.class);
+        when(sharedStore.findResult(anyString())).thenReturn(Optional.empty());
+        when(sharedStore.tryClaim(anyString())).thenReturn(false, true);
+        guard = new IdempotentCommandGuard(Optional.of(sharedStore), meterRegistry, true, 60, 1000);
+        JsonNode payload = payload(UUID.randomUUID());
+
+        assertThatThrownBy(() -> guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> "tx-1"))
+                .isInstanceOf(CommandInProgressException.class);
+        assertThat(guard.execute("CREATE_DEBIT_TRANSACTION", payload, () -> "tx-1")).isEqualTo("tx-1");
+
+        verify(sharedStore).complete(anyString(), eq("tx-1"));
+    }
+
+    @Test
+    void execute_WhenSharedStoreRecordedNullResult_ShouldReplayNull() {
+        SharedDeduplicationStore sharedStore = mock(SharedDeduplicationStore.class);
+        when(sharedStore.findResult(anyString())).thenReturn(Optional.of(new CompletedCommand(null)));
+        guard = new IdempotentCommandGuard(Optional.of(sharedStore), meterRegistry, true, 60, 1000);
+
+        String result = guard.execute("CANCEL_DEBIT_TRANSACTION", payload(UUID.randomUUID()), () -> "tx-local");
+
+        assertThat(result).isNull();
+        verify(sharedStore, never()).tryClaim(anyString());
+    }
+
+    private JsonNode payload(UUID commandId) {
+        return objectMapper.createObjectNode()
+                .put("commandId", commandId.toString())
+                .put("companyId", "company1");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.hexagonal.infrastructure.messaging.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisDeduplicationStoreTest {
+
+    private static final String KEY = "CANCEL_DEBIT_TRANSACTION:command-1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisDeduplicationStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        store = new RedisDeduplicationStore(redisTemplate, 60, 300);
+    }
+
+    @Test
+    void complete_WhenResultIsNull_ShouldStoreMarkerWithoutSeparator() {
+        store.complete(KEY, null);
+
+        verify(valueOperations).set(RedisDeduplicationStore.KEY_PREFIX + KEY, "DONE", Duration.ofMinutes(60));
+    }
+
+    @Test
+    void complete_WhenResultIsEmpty_ShouldKeepItDistinctFromNull() {
+        store.complete(KEY, "");
+
+        verify(valueOperations).set(RedisDeduplicationStore.KEY_PREFIX + KEY, "DONE:", Duration.ofMinutes(60));
+    }
+
+    @Test
+    void findResult_WhenNullMarkerIsStored_ShouldReturnCompletedWithNullResult() {
+        when(valueOperations.get(RedisDeduplicationStore.KEY_PREFIX + KEY)).thenReturn("DONE");
+
+        assertThat(store.findResult(KEY)).contains(new CompletedCommand(null));
+    }
+
+    @Test
+    void findResult_WhenResultIsStored_ShouldReturnIt() {
+        when(valueOperations.get(RedisDeduplicationStore.KEY_PREFIX + KEY)).thenReturn("DONE:tx-1");
+
+        assertThat(store.findResult(KEY)).contains(new CompletedCommand("tx-1"));
+    }
+
+    @Test
+    void findResult_WhenClaimIsInProgress_ShouldReturnEmpty() {
+        when(valueOperations.get(RedisDeduplicationStore.KEY_PREFIX + KEY)).thenReturn(RedisDeduplicationStore.IN_PROGRESS);
+
+        assertThat(store.findResult(KEY)).isEmpty();
+    }
+}
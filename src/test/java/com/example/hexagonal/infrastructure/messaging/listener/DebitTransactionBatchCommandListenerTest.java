@@ -0,0 +1,121 @@
+package com.example.hexagonal.infrastructure.messaging.listener;
+
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandDispatcher;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelope;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelopeReader;
+import com.example.hexagonal.infrastructure.observability.SqsConsumerMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DebitTransactionBatchCommandListenerTest {
+
+    @Mock
+    private CommandDispatcher commandDispatcher;
+
+    @Mock
+    private BatchAcknowledgement<String> acknowledgement;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DebitTransactionBatchCommandListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new DebitTransactionBatchCommandListener(new CommandEnvelopeReader(new ObjectMapper()),
+                commandDispatcher, new SqsConsumerMetrics(meterRegistry), Runnable::run);
+    }
+
+    @Test
+    void handleDebitTransactionCommands_WhenAllSucceed_ShouldAcknowledgeEveryMessage() {
+        List<Message<String>> messages = List.of(
+                message("{\"commandType\":\"CREATE_DEBIT_TRANSACTION\",\"companyId\":\"c1\"}"),
+                message("{\"commandType\":\"PROCESS_DEBIT_TRANSACTION\"}"));
+
+        listener.handleDebitTransactionCommands(messages, acknowledgement);
+
+        assertThat(acknowledged()).containsExactlyElementsOf(messages);
+        verify(commandDispatcher, times(2)).dispatch(any(CommandEnvelope.class), anyLong());
+        assertThat(meterRegistry.get("debit.sqs.messages.acknowledged").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("debit.sqs.messages.failed").counter().count()).isZero();
+    }
+
+    @Test
+    void handleDebitTransactionCommands_WithPoisonMessage_ShouldAcknowledgeOnlyTheOthers() {
+        Message<String> first = message("{\"commandType\":\"CREATE_DEBIT_TRANSACTION\"}");
+        Message<String> malformed = message("{not json");
+        Message<String> rejected = message("{\"commandType\":\"CANCEL_DEBIT_TRANSACTION\"}");
+        Message<String> last = message("{\"commandType\":\"RETRY_DEBIT_TRANSACTION\"}");
+        when(commandDispatcher.dispatch(any(CommandEnvelope.class), anyLong())).thenAnswer(invocation -> {
+            CommandEnvelope envelope = invocation.getArgument(0);
+            if ("CANCEL_DEBIT_TRANSACTION".equals(envelope.getCommandType())) {
+                throw new RuntimeException("Transaction cannot be cancelled");
+            }
+            return null;
+        });
+
+        listener.handleDebitTransactionCommands(List.of(first, malformed, rejected, last), acknowledgement);
+
+        assertThat(acknowledged()).containsExactly(first, last);
+        verify(commandDispatcher, times(3)).dispatch(any(CommandEnvelope.class), anyLong());
+        assertThat(meterRegistry.get("debit.sqs.messages.acknowledged").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("debit.sqs.messages.failed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void handleDebitTransactionCommands_WhenEveryMessageFails_ShouldNotAcknowledge() {
+        listener.handleDebitTransactionCommands(List.of(message("{not json"), message("[")), acknowledgement);
+
+        verify(acknowledgement, never()).acknowledge(any());
+        assertThat(meterRegistry.get("debit.sqs.messages.failed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void handleDebitTransactionCommands_ShouldRecordPollLatencyFromTheBatchReceivedAt() {
+        Message<String> polled = MessageBuilder.withPayload("{\"commandType\":\"PROCESS_DEBIT_TRANSACTION\"}")
+                .setHeader(SqsHeaders.SQS_RECEIVED_AT_HEADER, Instant.now().minusMillis(250))
+                .build();
+
+        listener.handleDebitTransactionCommands(List.of(polled), acknowledgement);
+        listener.handleDebitTransactionCommands(List.of(message("{\"commandType\":\"PROCESS_DEBIT_TRANSACTION\"}")),
+                acknowledgement);
+
+        assertThat(meterRegistry.get("debit.sqs.poll.latency").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("debit.sqs.poll.latency").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(250);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Message<String>> acknowledged() {
+        ArgumentCaptor<Collection<Message<String>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(acknowledgement).acknowledge(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Message<String> message(String payload) {
+        return MessageBuilder.withPayload(payload).build();
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.hexagonal.infrastructure.messaging.listener;
+
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandDispatcher;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelope;
+import com.example.hexagonal.infrastructure.messaging.dispatch.CommandEnvelopeReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@EmbeddedKafka(partitions = 2)
+class KafkaCommandListenerTest {
+
+    private final EmbeddedKafkaBroker broker;
+    private final Map<String, List<Integer>> dispatchedByCompany = new ConcurrentHashMap<>();
+    private CommandDispatcher commandDispatcher;
+    private ExecutorService executor;
+    private KafkaCommandListener listener;
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private String topic;
+    private String deadLetterTopic;
+    private String groupId;
+
+    KafkaCommandListenerTest(EmbeddedKafkaBroker broker) {
+        this.broker = broker;
+    }
+
+    @BeforeEach
+    void setUp() {
+        topic = "debit-commands-" + UUID.randomUUID();
+        deadLetterTopic = topic + ".DLT";
+        groupId = "kafka-command-listener-" + UUID.randomUUID();
+        broker.addTopics(topic, deadLetterTopic);
+        commandDispatcher = Mockito.mock(CommandDispatcher.class);
+        executor = Executors.newFixedThreadPool(8);
+        kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(KafkaTestUtils.producerProps(broker),
+                new StringSerializer(), new StringSerializer()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+        executor.shutdownNow();
+        kafkaTemplate.destroy();
+    }
+
+    @Test
+    void onMessage_ShouldProcessEveryCommandInKeyOrderAndCommitAfterHandling() throws Exception {
+        CountDownLatch handled = new CountDownLatch(20);
+        doAnswer(invocation -> {
+            recordDispatch(invocation.getArgument(0));
+            handled.countDown();
+            return null;
+        }).when(commandDispatcher).dispatch(any());
+        startListener();
+
+        sendCommands(4, 5);
+
+        assertThat(handled.await(30, TimeUnit.SECONDS)).isTrue();
+        dispatchedByCompany.values().forEach(sequence -> assertThat(sequence).containsExactly(0, 1, 2, 3, 4));
+        assertThat(committedOffsets(20)).isEqualTo(20);
+    }
+
+    @Test
+    void onMessage_WhenCommandFails_ShouldRedeliverItAndLaterCommandsOfSameKeyInOrder() throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        doAnswer(invocation -> {
+            CommandEnvelope envelope = invocation.getArgument(0);
+            if (envelope.getPayload().path("companyId").asText().equals("company-0")
+                    && envelope.getPayload().path("sequence").asInt() == 2
+                    && failed.compareAndSet(false, true)) {
+                throw new RuntimeException("Throughput exceeded");
+            }
+            recordDispatch(envelope);
+            return null;
+        }).when(commandDispatcher).dispatch(any());
+        startListener();
+
+        sendCommands(2, 5);
+
+        // company-1 may be redelivered alongside company-0, so wait per key rather than on a total.
+        awaitDispatched("company-0", 5);
+        awaitDispatched("company-1", 5);
+        assertThat(failed).isTrue();
+        assertThat(dispatchedByCompany.get("company-0")).containsExactly(0, 1, 2, 3, 4);
+        assertThat(dispatchedByCompany.get("company-1")).startsWith(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void onMessage_WhenCommandKeepsFailing_ShouldDeadLetterItAndContinueWithItsKey() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            CommandEnvelope envelope = invocation.getArgument(0);
+            if (envelope.getPayload().path("companyId").asText().equals("company-0")
+                    && envelope.getPayload().path("sequence").asInt() == 2) {
+                attempts.incrementAndGet();
+                throw new RuntimeException("Insufficient funds");
+            }
+            recordDispatch(envelope);
+            return null;
+        }).when(commandDispatcher).dispatch(any());
+        startListener();
+
+        sendCommands(2, 5);
+
+        awaitDispatched("company-0", 4);
+        assertThat(dispatchedByCompany.get("company-0")).containsExactly(0, 1, 3, 4);
+        assertThat(attempts).hasValue(3);
+        ConsumerRecord<String, String> deadLetter = deadLetter();
+        assertThat(deadLetter.key()).isEqualTo("company-0");
+        assertThat(deadLetter.value()).contains("\"sequence\":2");
+        assertThat(new String(deadLetter.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC).value(), StandardCharsets.UTF_8))
+                .isEqualTo(topic);
+        assertThat(committedOffsets(10)).isEqualTo(10);
+    }
+
+    private void startListener() {
+        listener = new KafkaCommandListener(new CommandEnvelopeReader(new ObjectMapper()), commandDispatcher,
+                executor, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(listener, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(listener, "topic", topic);
+        ReflectionTestUtils.setField(listener, "groupId", groupId);
+        ReflectionTestUtils.setField(listener, "concurrency", 2);
+        ReflectionTestUtils.setField(listener, "maxPollRecords", 50);
+        ReflectionTestUtils.setField(listener, "retryBackoffMs", 50L);
+        ReflectionTestUtils.setField(listener, "maxAttempts", 3);
+        ReflectionTestUtils.setField(listener, "deadLetterTopic", deadLetterTopic);
+        listener.start();
+    }
+
+    private void sendCommands(int companies, int commandsPerCompany) {
+        for (int sequence = 0; sequence < commandsPerCompany; sequence++) {
+            for (int company = 0; company < companies; company++) {
+                String payload = "{\"commandId\":\"" + UUID.randomUUID() + "\",\"companyId\":\"company-" + company
+                        + "\",\"sequence\":" + sequence + "}";
+                ProducerRecord<String, String> record = new ProducerRecord<>(topic, "company-" + company, payload);
+                record.headers().add(CommandEnvelopeReader.COMMAND_TYPE_ATTRIBUTE,
+                        "PROCESS_DEBIT_TRANSACTION".getBytes(StandardCharsets.UTF_8));
+                kafkaTemplate.send(record);
+            }
+        }
+        kafkaTemplate.flush();
+    }
+
+    private void recordDispatch(CommandEnvelope envelope) {
+        assertThat(envelope.getCommandType()).isEqualTo("PROCESS_DEBIT_TRANSACTION");
+        dispatchedByCompany.computeIfAbsent(envelope.getPayload().path("companyId").asText(), key -> new CopyOnWriteArrayList<>())
+                .add(envelope.getPayload().path("sequence").asInt());
+    }
+
+    private void awaitDispatched(String companyId, int commands) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (dispatchedByCompany.getOrDefault(companyId, List.of()).size() < commands) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private ConsumerRecord<String, String> deadLetter() {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("dead-letters-" + UUID.randomUUID(), "false", broker);
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, deadLetterTopic);
+            return KafkaTestUtils.getSingleRecord(consumer, deadLetterTopic, Duration.ofSeconds(30));
+        }
+    }
+
+    private long committedOffsets(long expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        long total = 0;
+        while (total < expected && System.currentTimeMillis() < deadline) {
+            total = 0;
+            for (int partition = 0; partition < 2; partition++) {
+                OffsetAndMetadata committed = KafkaTestUtils.getCurrentOffset(broker.getBrokersAsString(), groupId, topic, partition);
+                total += committed == null ? 0 : committed.offset();
+            }
+            Thread.sleep(100);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.hexagonal.infrastructure.messaging.outbox;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.OutboxEntry;
+import com.example.hexagonal.domain.port.EventPublisher;
+import com.example.hexagonal.domain.port.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxRepository, eventPublisher, Executors.newFixedThreadPool(4),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "parallelism", 4);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(relay, "leaseSeconds", 30L);
+    }
+
+    @Test
+    void relayPendingEvents_ShouldPublishEachTransactionInSequenceOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<OutboxEntry> pending = List.of(
+                entry(first, 3), entry(second, 2), entry(first, 1), entry(second, 4));
+        List<DebitEvent> publishedEvents = new ArrayList<>();
+
+        when(outboxRepository.findPending(100)).thenReturn(pending);
+        when(outboxRepository.claim(any(UUID.class), anyString(), any(Duration.class))).thenReturn(true);
+        when(eventPublisher.publishAsync(any(DebitEvent.class))).thenAnswer(invocation -> {
+            synchronized (publishedEvents) {
+                publishedEvents.add(invocation.getArgument(0));
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+
+        relay.startRelay().join();
+
+        assertThat(publishedEvents.stream().filter(e -> e.getTransactionId().equals(first)).map(DebitEvent::getPayload))
+                .containsExactly("1", "3");
+        assertThat(publishedEvents.stream().filter(e -> e.getTransactionId().equals(second)).map(DebitEvent::getPayload))
+                .containsExactly("2", "4");
+
+        ArgumentCaptor<Collection<UUID>> published = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).markPublished(published.capture());
+        assertThat(published.getValue()).hasSize(4);
+    }
+
+    @Test
+    void relayPendingEvents_WhenPublishFails_ShouldHoldBackLaterEventsOfSameTransaction() {
+        UUID transactionId = UUID.randomUUID();
+        OutboxEntry failing = entry(transactionId, 1);
+        OutboxEntry later = entry(transactionId, 2);
+
+        when(outboxRepository.findPending(100)).thenReturn(List.of(failing, later));
+        when(outboxRepository.claim(any(UUID.class), anyString(), any(Duration.class))).thenReturn(true);
+        when(eventPublisher.publishAsync(failing.getEvent()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SQS error")));
+
+        relay.startRelay().join();
+
+        verify(eventPublisher, never()).publishAsync(later.getEvent());
+        verify(outboxRepository, never()).markPublished(any());
+    }
+
+    @Test
+    void relayPendingEvents_WhenEventIsLeasedByAnotherRelay_ShouldSkipThatTransaction() {
+        UUID leasedElsewhere = UUID.randomUUID();
+        UUID free = UUID.randomUUID();
+        OutboxEntry leased = entry(leasedElsewhere, 1);
+        OutboxEntry next = entry(leasedElsewhere, 2);
+        OutboxEntry other = entry(free, 1);
+
+        when(outboxRepository.findPending(100)).thenReturn(List.of(leased, next, other));
+        when(outboxRepository.claim(any(UUID.class), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> !leased.getEventId().equals(invocation.getArgument(0)));
+        when(eventPublisher.publishAsync(any(DebitEvent.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.startRelay().join();
+
+        verify(eventPublisher, never()).publishAsync(leased.getEvent());
+        verify(eventPublisher, never()).publishAsync(next.getEvent());
+        verify(outboxRepository, never()).claim(eq(next.getEventId()), anyString(), any(Duration.class));
+        ArgumentCaptor<Collection<UUID>> published = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).markPublished(published.capture());
+        assertThat(published.getValue()).containsExactly(other.getEventId());
+    }
+
+    @Test
+    void relayPendingEvents_ShouldClaimWithTheSameOwnerOnEveryPoll() {
+        OutboxEntry entry = entry(UUID.randomUUID(), 1);
+        when(outboxRepository.findPending(100)).thenReturn(List.of(entry));
+        when(outboxRepository.claim(any(UUID.class), anyString(), any(Duration.class))).thenReturn(true);
+        when(eventPublisher.publishAsync(any(DebitEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SQS error")));
+
+        relay.startRelay().join();
+        relay.startRelay().join();
+
+        ArgumentCaptor<String> owners = ArgumentCaptor.forClass(String.class);
+        verify(outboxRepository, times(2)).claim(eq(entry.getEventId()), owners.capture(), eq(Duration.ofSeconds(30)));
+        assertThat(owners.getAllValues()).hasSize(2).containsOnly(owners.getValue());
+    }
+
+    @Test
+    void relayPendingEvents_ShouldReturnBeforePublishCompletesAndSkipTicksWhileRunning() {
+        OutboxEntry entry = entry(UUID.randomUUID(), 1);
+        CompletableFuture<Void> publish = new CompletableFuture<>();
+        when(outboxRepository.findPending(100)).thenReturn(List.of(entry));
+        when(outboxRepository.claim(any(UUID.class), anyString(), any(Duration.class))).thenReturn(true);
+        when(eventPublisher.publishAsync(entry.getEvent())).thenReturn(publish);
+
+        CompletableFuture<Void> run = relay.startRelay();
+        relay.relayPendingEvents();
+
+        assertThat(run).isNotDone();
+        publish.complete(null);
+        run.join();
+        verify(outboxRepository, times(1)).findPending(100);
+        verify(outboxRepository).markPublished(List.of(entry.getEventId()));
+    }
+
+    @Test
+    void relayPendingEvents_WhenNothingPending_ShouldNotPublish() {
+        when(outboxRepository.findPending(100)).thenReturn(List.of());
+
+        relay.startRelay().join();
+
+        verify(eventPublisher, never()).publishAsync(any());
+    }
+
+    private OutboxEntry entry(UUID transactionId, long sequence) {
+        UUID eventId = UUID.randomUUID();
+        return OutboxEntry.builder()
+                .eventId(eventId)
+                .transactionId(transactionId)
+                .sequence(sequence)
+                .createdAt(LocalDateTime.now())
+                .event(DebitEvent.builder()
+                        .eventId(eventId)
+                        .transactionId(transactionId)
+                        .eventType("DEBIT_TRANSACTION_PROCESSING")
+                        .payload(String.valueOf(sequence))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.hexagonal.infrastructure.observability;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommandMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommandMetrics commandMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        commandMetrics = new CommandMetrics(meterRegistry, 0.0);
+    }
+
+    @Test
+    void time_WhenNoCommandIsRunning_ShouldOnlyRunTheWork() {
+        assertThat(CommandTrace.time(CommandPhase.PERSIST, () -> "saved")).isEqualTo("saved");
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void trace_ShouldAttributeNestedPhasesToTheInnermostCommand() {
+        commandMetrics.trace("OUTER", () -> {
+            commandMetrics.trace("INNER", () -> CommandTrace.time(CommandPhase.PERSIST, () -> null));
+            return CommandTrace.time(CommandPhase.PERSIST, () -> null);
+        });
+
+        assertThat(persistTimer("OUTER").count()).isEqualTo(1);
+        assertThat(persistTimer("INNER").count()).isEqualTo(1);
+        assertThat(CommandTrace.time(CommandPhase.PERSIST, () -> "untraced")).isEqualTo("untraced");
+        assertThat(persistTimer("OUTER").count()).isEqualTo(1);
+    }
+
+    @Test
+    void trace_WhenCommandFails_ShouldRecordPhaseAndCloseTrace() {
+        assertThatThrownBy(() -> commandMetrics.trace("FAILING", () -> CommandTrace.time(CommandPhase.PERSIST, () -> {
+            throw new IllegalStateException("Throughput exceeded");
+        }))).isInstanceOf(IllegalStateException.class);
+
+        assertThat(persistTimer("FAILING").count()).isEqualTo(1);
+        CommandTrace.record(CommandPhase.PERSIST, System.nanoTime());
+        assertThat(persistTimer("FAILING").count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordQueueLag_ShouldPublishPercentiles() {
+        long now = System.currentTimeMillis();
+        for (int i = 1; i <= 100; i++) {
+            commandMetrics.recordQueueLag("CREATE_DEBIT_TRANSACTION", now - i * 10L);
+        }
+        commandMetrics.recordQueueLag("CREATE_DEBIT_TRANSACTION", 0);
+
+        Timer lag = meterRegistry.get("debit.commands.queue.lag").tag("command", "CREATE_DEBIT_TRANSACTION").timer();
+        assertThat(lag.count()).isEqualTo(100);
+        ValueAtPercentile[] percentiles = lag.takeSnapshot().percentileValues();
+        assertThat(percentiles).extracting(ValueAtPercentile::percentile).containsExactly(0.5, 0.95, 0.99, 0.999);
+        assertThat(percentiles[1].value(TimeUnit.MILLISECONDS)).isGreaterThan(percentiles[0].value(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void sentTimestamp_ShouldParseHeaderOrFallBackToZero() {
+        assertThat(CommandMetrics.sentTimestamp("1700000000123")).isEqualTo(1700000000123L);
+        assertThat(CommandMetrics.sentTimestamp(1700000000123L)).isEqualTo(1700000000123L);
+        assertThat(CommandMetrics.sentTimestamp(null)).isZero();
+        assertThat(CommandMetrics.sentTimestamp("not-a-timestamp")).isZero();
+    }
+
+    private Timer persistTimer(String commandType) {
+        return meterRegistry.get("debit.commands.phase")
+                .tag("command", commandType)
+                .tag("phase", "persist")
+                .timer();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.hexagonal.infrastructure.persistence.cache;
+
+import com.example.hexagonal.domain.exception.PartialBatchWriteException;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingDebitTransactionRepositoryTest {
+
+    @Mock
+    private DebitTransactionRepository delegate;
+
+    private MeterRegistry meterRegistry;
+    private CachingDebitTransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingDebitTransactionRepository(delegate, Optional.empty(), meterRegistry, 1000, 30);
+    }
+
+    @Test
+    void findById_WhenCalledTwice_ShouldLoadFromDelegateOnce() {
+        DebitTransaction transaction = transaction(TransactionStatus.PENDING, LocalDateTime.now());
+        when(delegate.findById(transaction.getTransactionId())).thenReturn(Optional.of(transaction));
+
+        repository.findById(transaction.getTransactionId());
+        repository.findById(transaction.getTransactionId());
+
+        verify(delegate, times(1)).findById(transaction.getTransactionId());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "debitTransactions").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_WhenCallerMutatesResult_ShouldNotChangeCachedEntry() {
+        DebitTransaction transaction = transaction(TransactionStatus.PENDING, LocalDateTime.now());
+        when(delegate.findById(transaction.getTransactionId())).thenReturn(Optional.of(transaction));
+
+        repository.findById(transaction.getTransactionId()).orElseThrow().setStatus(TransactionStatus.PROCESSING);
+
+        assertThat(repository.findById(transaction.getTransactionId()).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.PENDING);
+    }
+
+    @Test
+    void saveWithEvent_ShouldReplaceCachedEntry() {
+        LocalDateTime now = LocalDateTime.now();
+        DebitTransaction pending = transaction(TransactionStatus.PENDING, now);
+        when(delegate.findById(pending.getTransactionId())).thenReturn(Optional.of(pending));
+        repository.findById(pending.getTransactionId());
+
+        DebitTransaction processing = pending.toBuilder().status(TransactionStatus.PROCESSING).updatedAt(now.plusSeconds(1)).build();
+        when(delegate.saveWithEvent(any(), any())).thenReturn(processing);
+        repository.saveWithEvent(processing, null);
+
+        assertThat(repository.findById(pending.getTransactionId()).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.PROCESSING);
+        verify(delegate, times(1)).findById(pending.getTransactionId());
+    }
+
+    @Test
+    void save_WhenOlderWriteCompletesLast_ShouldKeepNewestEntry() {
+        LocalDateTime now = LocalDateTime.now();
+        DebitTransaction older = transaction(TransactionStatus.PROCESSING, now);
+        DebitTransaction newer = older.toBuilder().status(TransactionStatus.PROCESSED).updatedAt(now.plusSeconds(1)).build();
+        when(delegate.save(newer)).thenReturn(newer);
+        when(delegate.save(older)).thenReturn(older);
+
+        repository.save(newer);
+        repository.save(older);
+
+        assertThat(repository.findById(older.getTransactionId()).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.PROCESSED);
+    }
+
+    @Test
+    void deleteById_ShouldInvalidateCachedEntry() {
+        DebitTransaction transaction = transaction(TransactionStatus.PENDING, LocalDateTime.now());
+        when(delegate.save(transaction)).thenReturn(transaction);
+        repository.save(transaction);
+
+        repository.deleteById(transaction.getTransactionId());
+
+        when(delegate.findById(transaction.getTransactionId())).thenReturn(Optional.empty());
+        assertThat(repository.findById(transaction.getTransactionId())).isEmpty();
+    }
+
+    @Test
+    void findAllById_ShouldLoadOnlyMissingIds() {
+        DebitTransaction cached = transaction(TransactionStatus.PENDING, LocalDateTime.now());
+        DebitTransaction missing = transaction(TransactionStatus.PENDING, LocalDateTime.now());
+        when(delegate.save(cached)).thenReturn(cached);
+        repository.save(cached);
+        when(delegate.findAllById(List.of(missing.getTransactionId()))).thenReturn(List.of(missing));
+
+        List<DebitTransaction> found = repository.findAllById(List.of(cached.getTransactionId(), missing.getTransactionId()));
+
+        assertThat(found).extracting(DebitTransaction::getTransactionId)
+                .containsExactly(cached.getTransactionId(), missing.getTransactionId());
+    }
+
+    @Test
+    void saveAllWithEvents_WhenPartiallyPersisted_ShouldCacheOnlyTheWrittenTransactions() {
+        DebitTransaction written = transaction(TransactionStatus.PENDING, LocalDateTime.now());
+        DebitTransaction rejected = transaction(TransactionStatus.PENDING, LocalDateTime.now());
+        when(delegate.saveAllWithEvents(any(), any()))
+                .thenThrow(new PartialBatchWriteException(1, new RuntimeException("Transaction cancelled")));
+
+        assertThatThrownBy(() -> repository.saveAllWithEvents(List.of(written, rejected), List.of()))
+                .isInstanceOf(PartialBatchWriteException.class);
+
+        assertThat(repository.findById(written.getTransactionId())).isPresent();
+        verify(delegate, never()).findById(written.getTransactionId());
+    }
+
+    private DebitTransaction transaction(TransactionStatus status, LocalDateTime updatedAt) {
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId("company1")
+                .amount(new BigDecimal("10.00"))
+                .status(status)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .retryCount(0)
+                .build();
+    }
+}
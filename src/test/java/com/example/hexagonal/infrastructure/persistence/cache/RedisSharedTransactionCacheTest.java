@@ -0,0 +1,202 @@
+package com.example.hexagonal.infrastructure.persistence.cache;
+
+import com.example.hexagonal.config.RedisCacheConfig;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSharedTransactionCacheTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, byte[]> template;
+    private RedisMessageListenerContainer listenerContainer;
+    private RedisSharedTransactionCache replicaA;
+    private RedisSharedTransactionCache replicaB;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisCacheConfig config = new RedisCacheConfig();
+        template = config.debitTransactionRedisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        listenerContainer = config.debitTransactionCacheListenerContainer(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        replicaA = new RedisSharedTransactionCache(template, listenerContainer, new SimpleMeterRegistry(), "test-invalidation", 5);
+        replicaB = new RedisSharedTransactionCache(template, listenerContainer, new SimpleMeterRegistry(), "test-invalidation", 5);
+        replicaA.subscribe();
+        replicaB.subscribe();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void put_ShouldBeVisibleToOtherReplicaAndBroadcastInvalidation() throws Exception {
+        List<UUID> invalidatedOnA = new CopyOnWriteArrayList<>();
+        List<UUID> invalidatedOnB = new CopyOnWriteArrayList<>();
+        replicaA.onRemoteInvalidation(invalidatedOnA::add);
+        replicaB.onRemoteInvalidation(invalidatedOnB::add);
+        DebitTransaction transaction = transaction();
+
+        replicaA.put(transaction);
+
+        assertThat(replicaB.get(transaction.getTransactionId())).contains(transaction);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (invalidatedOnB.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(invalidatedOnB).containsExactly(transaction.getTransactionId());
+        assertThat(invalidatedOnA).isEmpty();
+    }
+
+    @Test
+    void putIfAbsent_ShouldNotOverwriteNewerValue() {
+        DebitTransaction newer = transaction();
+        DebitTransaction stale = newer.toBuilder().status(TransactionStatus.PENDING).build();
+        replicaA.put(newer);
+
+        replicaB.putIfAbsent(stale);
+
+        assertThat(replicaB.get(newer.getTransactionId()).map(DebitTransaction::getStatus))
+                .contains(TransactionStatus.PROCESSED);
+    }
+
+    @Test
+    void put_WhenCachedVersionIsNewer_ShouldKeepIt() {
+        DebitTransaction newer = transaction().toBuilder().version(3L).build();
+        DebitTransaction late = newer.toBuilder().status(TransactionStatus.PENDING).version(2L).build();
+        replicaA.put(newer);
+
+        replicaB.put(late);
+        replicaB.putIfAbsent(late);
+
+        assertThat(replicaA.get(newer.getTransactionId()).map(DebitTransaction::getVersion)).contains(3L);
+        assertThat(replicaA.get(newer.getTransactionId()).map(DebitTransaction::getStatus))
+                .contains(TransactionStatus.PROCESSED);
+    }
+
+    @Test
+    void put_WhenVersionIsNewer_ShouldReplaceCachedEntry() {
+        DebitTransaction older = transaction().toBuilder().status(TransactionStatus.PENDING).version(1L).build();
+        DebitTransaction newer = older.toBuilder().status(TransactionStatus.PROCESSED).version(2L).build();
+        replicaA.putIfAbsent(older);
+
+        replicaB.put(newer);
+
+        assertThat(replicaA.getAll(List.of(newer.getTransactionId())))
+                .containsEntry(newer.getTransactionId(), newer);
+    }
+
+    @Test
+    void setIfNewer_WhenKeyIsMissing_ShouldWriteInBothModesWithTheTimeToLive() {
+        DebitTransaction populated = transaction().toBuilder().version(4L).build();
+        DebitTransaction written = transaction().toBuilder().version(4L).build();
+
+        replicaA.putIfAbsent(populated);
+        replicaA.put(written);
+
+        assertThat(replicaB.get(populated.getTransactionId())).contains(populated);
+        assertThat(replicaB.get(written.getTransactionId())).contains(written);
+        assertThat(template.getExpire(key(written), TimeUnit.SECONDS)).isBetween(1L, 300L);
+        assertThat(ByteBuffer.wrap(template.opsForValue().get(key(written))).getLong()).isEqualTo(4L);
+    }
+
+    @Test
+    void setIfNewer_WhenIncomingVersionIsOlder_ShouldKeepCachedEntryInBothModes() {
+        DebitTransaction cached = transaction().toBuilder().version(5L).build();
+        replicaA.put(cached);
+
+        replicaB.put(cached.toBuilder().status(TransactionStatus.FAILED).version(4L).build());
+        replicaB.putIfAbsent(cached.toBuilder().status(TransactionStatus.CANCELLED).version(4L).build());
+
+        assertThat(replicaA.get(cached.getTransactionId())).contains(cached);
+    }
+
+    @Test
+    void setIfNewer_WhenVersionIsEqual_ShouldOverwriteOnPutButNotOnPopulate() {
+        DebitTransaction cached = transaction().toBuilder().version(5L).build();
+        DebitTransaction populated = cached.toBuilder().status(TransactionStatus.CANCELLED).build();
+        DebitTransaction rewritten = cached.toBuilder().status(TransactionStatus.FAILED).build();
+        replicaA.put(cached);
+
+        replicaB.putIfAbsent(populated);
+        assertThat(replicaA.get(cached.getTransactionId())).contains(cached);
+
+        replicaB.put(rewritten);
+        assertThat(replicaA.get(cached.getTransactionId())).contains(rewritten);
+    }
+
+    @Test
+    void setIfNewer_WhenIncomingVersionIsNewer_ShouldReplaceInBothModes() {
+        DebitTransaction cached = transaction().toBuilder().version(5L).build();
+        DebitTransaction populated = cached.toBuilder().status(TransactionStatus.RETRYING).version(6L).build();
+        DebitTransaction written = cached.toBuilder().status(TransactionStatus.FAILED).version(7L).build();
+        replicaA.put(cached);
+
+        replicaB.putIfAbsent(populated);
+        assertThat(replicaA.get(cached.getTransactionId())).contains(populated);
+
+        replicaB.put(written);
+        assertThat(replicaA.get(cached.getTransactionId())).contains(written);
+    }
+
+    @Test
+    void evict_ShouldRemoveSharedEntry() {
+        DebitTransaction transaction = transaction();
+        replicaA.put(transaction);
+
+        replicaB.evict(transaction.getTransactionId());
+
+        assertThat(replicaA.get(transaction.getTransactionId())).isEqualTo(Optional.empty());
+        assertThat(replicaA.getAll(List.of(transaction.getTransactionId()))).isEmpty();
+    }
+
+    private static String key(DebitTransaction transaction) {
+        return RedisSharedTransactionCache.KEY_PREFIX + transaction.getTransactionId();
+    }
+
+    private DebitTransaction transaction() {
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId("company1")
+                .amount(new BigDecimal("10.00"))
+                .status(TransactionStatus.PROCESSED)
+                .updatedAt(LocalDateTime.now())
+                .retryCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.hexagonal.infrastructure.persistence.codec;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactDebitTransactionTest {
+
+    private final StringInternTable strings = new StringInternTable();
+
+    @Test
+    void toDebitTransaction_ShouldRestoreEveryField() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 17, 10, 15, 30, 123_456_789);
+        DebitTransaction transaction = DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId("company1")
+                .companyDocument("12.345.678/0001-90")
+                .companyName("Empresa Ação Ltda")
+                .bankAccountId("account-1")
+                .amount(new BigDecimal("-1234567.890"))
+                .description("Débito mensal")
+                .status(TransactionStatus.RETRYING)
+                .failureReason("timeout")
+                .scheduledDate(now.plusDays(1))
+                .processedDate(LocalDateTime.of(1960, 1, 1, 0, 0, 0, 1))
+                .createdAt(now.minusDays(1))
+                .updatedAt(now)
+                .correlationId("corr-1")
+                .retryCount(2)
+                .version(7L)
+                .build();
+
+        CompactDebitTransaction compact = CompactDebitTransaction.of(transaction, strings);
+
+        assertThat(compact.toDebitTransaction(transaction.getTransactionId())).isEqualTo(transaction);
+    }
+
+    @Test
+    void toDebitTransaction_WhenOptionalFieldsAreNull_ShouldKeepThemNull() {
+        DebitTransaction transaction = DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .build();
+
+        assertThat(CompactDebitTransaction.of(transaction, strings).toDebitTransaction(transaction.getTransactionId()))
+                .isEqualTo(transaction);
+    }
+
+    @Test
+    void amount_WhenUnscaledValueExceedsLong_ShouldKeepExactValue() {
+        BigDecimal huge = new BigDecimal("123456789012345678901234567890.12");
+        DebitTransaction transaction = DebitTransaction.builder().amount(huge).build();
+
+        assertThat(CompactDebitTransaction.of(transaction, strings).amount()).isEqualTo(huge);
+    }
+
+    @Test
+    void of_ShouldShareCompanyStringsAcrossRows() {
+        CompactDebitTransaction first = CompactDebitTransaction.of(row(new String("company1")), strings);
+        CompactDebitTransaction second = CompactDebitTransaction.of(row(new String("company1")), strings);
+
+        assertThat(second.companyId()).isSameAs(first.companyId());
+        assertThat(strings.size()).isEqualTo(1);
+    }
+
+    @Test
+    void toDebitTransaction_WhenDatesArePastYear2262OrOpenBounds_ShouldRestoreThem() {
+        DebitTransaction transaction = DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .scheduledDate(LocalDateTime.of(2300, 1, 1, 0, 0, 0, 999_999_999))
+                .processedDate(LocalDateTime.MAX)
+                .createdAt(LocalDateTime.MIN)
+                .updatedAt(LocalDateTime.of(1600, 12, 31, 23, 59, 59, 1))
+                .build();
+
+        assertThat(CompactDebitTransaction.of(transaction, strings).toDebitTransaction(transaction.getTransactionId()))
+                .isEqualTo(transaction);
+    }
+
+    @Test
+    void epochMicros_WhenDateIsBeyondTheMicrosecondRange_ShouldClampToTheSentinels() {
+        assertThat(CompactDebitTransaction.epochMicros(LocalDateTime.of(500_000, 1, 1, 0, 0))).isEqualTo(Long.MAX_VALUE);
+        assertThat(CompactDebitTransaction.epochMicros(LocalDateTime.of(-500_000, 1, 1, 0, 0))).isEqualTo(Long.MIN_VALUE);
+        assertThat(CompactDebitTransaction.epochMicros(LocalDateTime.of(2300, 1, 1, 0, 0)))
+                .isLessThan(CompactDebitTransaction.epochMicros(LocalDateTime.MAX));
+    }
+
+    @Test
+    void of_WhenDateIsOutsideMicrosecondRange_ShouldReject() {
+        DebitTransaction transaction = DebitTransaction.builder().scheduledDate(LocalDateTime.of(500_000, 1, 1, 0, 0)).build();
+
+        assertThatThrownBy(() -> CompactDebitTransaction.of(transaction, strings))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DebitTransaction row(String companyId) {
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId(companyId)
+                .build();
+    }
+}
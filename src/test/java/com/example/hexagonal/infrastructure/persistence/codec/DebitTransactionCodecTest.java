@@ -0,0 +1,110 @@
+package com.example.hexagonal.infrastructure.persistence.codec;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DebitTransactionCodecTest {
+
+    @Test
+    void decode_ShouldRestoreEveryField() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 17, 10, 15, 30, 123_456_789);
+        DebitTransaction transaction = DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId("company1")
+                .companyDocument("12.345.678/0001-90")
+                .companyName("Empresa Ação Ltda")
+                .bankAccountId("account-1")
+                .amount(new BigDecimal("-1234567.89"))
+                .description("Débito mensal")
+                .status(TransactionStatus.RETRYING)
+                .failureReason("timeout")
+                .scheduledDate(now.plusDays(1))
+                .processedDate(now.minusHours(2))
+                .createdAt(now.minusDays(1))
+                .updatedAt(now)
+                .correlationId("corr-1")
+                .retryCount(2)
+                .version(7L)
+                .build();
+
+        assertThat(DebitTransactionCodec.decode(DebitTransactionCodec.encode(transaction))).isEqualTo(transaction);
+    }
+
+    @Test
+    void decode_WhenOptionalFieldsAreNull_ShouldKeepThemNull() {
+        DebitTransaction transaction = DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .status(TransactionStatus.PENDING)
+                .build();
+
+        byte[] encoded = DebitTransactionCodec.encode(transaction);
+
+        assertThat(DebitTransactionCodec.decode(encoded)).isEqualTo(transaction);
+        assertThat(encoded).hasSize(20);
+    }
+
+    @Test
+    void encode_ShouldWriteTheStableStatusCodeRatherThanTheOrdinal() {
+        DebitTransaction transaction = DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .status(TransactionStatus.PENDING)
+                .build();
+
+        byte[] encoded = DebitTransactionCodec.encode(transaction);
+
+        assertThat(encoded[0]).isEqualTo(DebitTransactionCodec.FORMAT_VERSION);
+        assertThat(encoded[19]).isEqualTo((byte) 1);
+    }
+
+    @Test
+    void decode_WhenAmountScaleIsLarge_ShouldRestoreIt() {
+        DebitTransaction transaction = DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .amount(new BigDecimal("1E-200"))
+                .build();
+
+        assertThat(DebitTransactionCodec.decode(DebitTransactionCodec.encode(transaction)).getAmount())
+                .isEqualTo(new BigDecimal("1E-200"));
+    }
+
+    @Test
+    void decode_WhenRecordIsVersionOne_ShouldReadOrdinalStatusAndByteScale() throws Exception {
+        UUID transactionId = UUID.randomUUID();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeLong(transactionId.getMostSignificantBits());
+            out.writeLong(transactionId.getLeastSignificantBits());
+            out.writeShort((1 << 4) | (1 << 6));
+            out.writeByte(2);
+            out.writeByte(2);
+            out.writeShort(12345);
+            out.writeByte(TransactionStatus.FAILED.ordinal());
+        }
+
+        DebitTransaction decoded = DebitTransactionCodec.decode(bytes.toByteArray());
+
+        assertThat(decoded.getTransactionId()).isEqualTo(transactionId);
+        assertThat(decoded.getAmount()).isEqualByComparingTo("123.45");
+        assertThat(decoded.getStatus()).isEqualTo(TransactionStatus.FAILED);
+    }
+
+    @Test
+    void decode_WhenFormatVersionIsUnknown_ShouldFail() {
+        byte[] encoded = DebitTransactionCodec.encode(DebitTransaction.builder().transactionId(UUID.randomUUID()).build());
+        encoded[0] = 99;
+
+        assertThatThrownBy(() -> DebitTransactionCodec.decode(encoded)).isInstanceOf(UncheckedIOException.class);
+    }
+}
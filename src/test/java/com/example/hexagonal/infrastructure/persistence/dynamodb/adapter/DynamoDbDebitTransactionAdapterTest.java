@@ -0,0 +1,259 @@
+package com.example.hexagonal.infrastructure.persistence.dynamodb.adapter;
+
+import com.example.hexagonal.domain.exception.PartialBatchWriteException;
+import com.example.hexagonal.domain.exception.VersionConflictException;
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.OutboxEntry;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+class DynamoDbDebitTransactionAdapterTest {
+
+    @Container
+    static LocalStackContainer localStack = new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.0"))
+            .withServices(LocalStackContainer.Service.DYNAMODB);
+
+    private static DynamoDbDebitTransactionAdapter adapter;
+
+    private String companyId;
+
+    @BeforeAll
+    static void createTables() {
+        DynamoDbClient dynamoDbClient = DynamoDbClient.builder()
+                .endpointOverride(localStack.getEndpoint())
+                .region(Region.of(localStack.getRegion()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(localStack.getAccessKey(), localStack.getSecretKey())))
+                .build();
+        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                .dynamoDbClient(dynamoDbClient)
+                .build();
+
+        adapter = new DynamoDbDebitTransactionAdapter(enhancedClient, dynamoDbClient,
+                "debit-transactions", "debit-transactions-outbox", 3, true, 31, 10000);
+        adapter.initialize();
+    }
+
+    @BeforeEach
+    void setUp() {
+        companyId = "company-" + UUID.randomUUID();
+    }
+
+    @Test
+    void saveAll_WhenMoreThanOneBatch_ShouldPersistEveryTransaction() {
+        List<DebitTransaction> transactions = IntStream.range(0, 60)
+                .mapToObj(i -> transaction(TransactionStatus.PENDING, LocalDateTime.now().plusDays(1)))
+                .toList();
+
+        adapter.saveAll(transactions);
+
+        List<UUID> ids = transactions.stream().map(DebitTransaction::getTransactionId).toList();
+        assertThat(adapter.findAllById(ids)).hasSize(60);
+        assertThat(adapter.findByCompanyId(companyId)).hasSize(60);
+    }
+
+    @Test
+    void countByCompanyIdAndStatus_ShouldCountOnlyMatchingStatus() {
+        adapter.saveAll(List.of(
+                transaction(TransactionStatus.PENDING, LocalDateTime.now()),
+                transaction(TransactionStatus.PENDING, LocalDateTime.now()),
+                transaction(TransactionStatus.FAILED, LocalDateTime.now())));
+
+        assertThat(adapter.countByCompanyIdAndStatus(companyId, TransactionStatus.PENDING)).isEqualTo(2);
+        assertThat(adapter.countByCompanyIdAndStatus(companyId, TransactionStatus.FAILED)).isEqualTo(1);
+        assertThat(adapter.countByCompanyIdAndStatus(companyId, TransactionStatus.PROCESSED)).isZero();
+    }
+
+    @Test
+    void findByScheduledDateBetween_ShouldSpanDayBuckets() {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 10, 23, 0);
+        DebitTransaction inside = adapter.save(transaction(TransactionStatus.PENDING, base));
+        DebitTransaction nextDay = adapter.save(transaction(TransactionStatus.PENDING, base.plusHours(2)));
+        adapter.save(transaction(TransactionStatus.PENDING, base.plusDays(3)));
+
+        List<DebitTransaction> found = adapter.findByScheduledDateBetween(base.minusMinutes(1), base.plusHours(3));
+
+        assertThat(found).extracting(DebitTransaction::getTransactionId)
+                .contains(inside.getTransactionId(), nextDay.getTransactionId())
+                .hasSize(2);
+    }
+
+    @Test
+    void findByScheduledDateBetween_WithLimit_ShouldReturnTheEarliestAcrossDayBuckets() {
+        LocalDateTime base = LocalDateTime.of(2031, 3, 5, 22, 0);
+        DebitTransaction first = adapter.save(transaction(TransactionStatus.PENDING, base));
+        DebitTransaction second = adapter.save(transaction(TransactionStatus.PENDING, base.plusHours(1)));
+        DebitTransaction third = adapter.save(transaction(TransactionStatus.PENDING, base.plusHours(3)));
+
+        assertThat(adapter.findByScheduledDateBetween(base, base.plusDays(1), 2))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(first.getTransactionId(), second.getTransactionId());
+        assertThat(adapter.findByScheduledDateBetween(base.plusMinutes(1), base.plusDays(1), 5))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(second.getTransactionId(), third.getTransactionId());
+    }
+
+    @Test
+    void findByScheduledDateBetween_WhenRangeSpansTooManyDays_ShouldRejectQuery() {
+        LocalDateTime base = LocalDateTime.of(2032, 1, 1, 0, 0);
+
+        assertThatThrownBy(() -> adapter.findByScheduledDateBetween(base, base.plusDays(31), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(adapter.findByScheduledDateBetween(base, base.plusDays(30), 10)).isEmpty();
+        assertThat(adapter.findByScheduledDateBetween(base.plusDays(1), base, 10)).isEmpty();
+    }
+
+    @Test
+    void findFailedTransactionsForRetry_WithLimit_ShouldReturnTheLeastRecentlyUpdatedRetryable() {
+        LocalDateTime past = LocalDateTime.of(2001, 1, 1, 0, 0);
+        adapter.save(transaction(TransactionStatus.FAILED, past).toBuilder().updatedAt(past).retryCount(3).build());
+        DebitTransaction oldest = adapter.save(transaction(TransactionStatus.FAILED, past).toBuilder()
+                .updatedAt(past.plusMinutes(1)).build());
+        DebitTransaction older = adapter.save(transaction(TransactionStatus.FAILED, past).toBuilder()
+                .updatedAt(past.plusMinutes(2)).retryCount(2).build());
+        adapter.save(transaction(TransactionStatus.FAILED, past).toBuilder().updatedAt(past.plusMinutes(3)).build());
+
+        assertThat(adapter.findFailedTransactionsForRetry(2))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(oldest.getTransactionId(), older.getTransactionId());
+    }
+
+    @Test
+    void saveWithEvent_ShouldWriteOutboxEntryUntilPublished() {
+        DebitTransaction transaction = transaction(TransactionStatus.PENDING, LocalDateTime.now());
+        DebitEvent event = DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transaction.getTransactionId())
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .timestamp(LocalDateTime.now())
+                .companyId(companyId)
+                .build();
+
+        adapter.saveWithEvent(transaction, event);
+
+        assertThat(adapter.findById(transaction.getTransactionId())).isPresent();
+        assertThat(adapter.findPending(1000)).extracting(OutboxEntry::getEventId).contains(event.getEventId());
+
+        adapter.markPublished(List.of(event.getEventId()));
+
+        assertThat(adapter.findPending(1000)).extracting(OutboxEntry::getEventId).doesNotContain(event.getEventId());
+    }
+
+    @Test
+    void claim_ShouldGrantTheLeaseToOneRelayUntilItExpires() throws InterruptedException {
+        DebitTransaction transaction = transaction(TransactionStatus.PENDING, LocalDateTime.now());
+        DebitEvent event = DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transaction.getTransactionId())
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .timestamp(LocalDateTime.now())
+                .companyId(companyId)
+                .build();
+        adapter.saveWithEvent(transaction, event);
+
+        assertThat(adapter.findPending(1000)).filteredOn(entry -> entry.getEventId().equals(event.getEventId()))
+                .extracting(OutboxEntry::getSequence).containsExactly(1L);
+        assertThat(adapter.claim(event.getEventId(), "relay-a", Duration.ofMillis(300))).isTrue();
+        assertThat(adapter.claim(event.getEventId(), "relay-b", Duration.ofMillis(300))).isFalse();
+        assertThat(adapter.claim(event.getEventId(), "relay-a", Duration.ofMillis(300))).isTrue();
+
+        Thread.sleep(400);
+
+        assertThat(adapter.claim(event.getEventId(), "relay-b", Duration.ofSeconds(30))).isTrue();
+        adapter.markPublished(List.of(event.getEventId()));
+        assertThat(adapter.claim(event.getEventId(), "relay-b", Duration.ofSeconds(30))).isFalse();
+    }
+
+    @Test
+    void saveWithEvent_WhenVersionIsStale_ShouldRejectTransactionAndEvent() {
+        DebitTransaction transaction = adapter.save(transaction(TransactionStatus.PENDING, LocalDateTime.now()));
+        DebitTransaction stale = adapter.findById(transaction.getTransactionId()).orElseThrow();
+        adapter.save(adapter.findById(transaction.getTransactionId()).orElseThrow());
+        DebitEvent event = DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transaction.getTransactionId())
+                .eventType("DEBIT_TRANSACTION_CANCELLED")
+                .timestamp(LocalDateTime.now())
+                .companyId(companyId)
+                .build();
+
+        stale.setStatus(TransactionStatus.CANCELLED);
+
+        assertThatThrownBy(() -> adapter.saveWithEvent(stale, event)).isInstanceOf(VersionConflictException.class);
+        assertThat(adapter.findById(transaction.getTransactionId()).orElseThrow().getVersion()).isEqualTo(2);
+        assertThat(adapter.findPending(1000)).extracting(OutboxEntry::getEventId).doesNotContain(event.getEventId());
+    }
+
+    @Test
+    void saveAllWithEvents_ShouldWriteEachChunkOfPairsAtomically() {
+        DebitTransaction existing = adapter.save(transaction(TransactionStatus.PENDING, LocalDateTime.now()));
+        List<DebitTransaction> transactions = IntStream.range(0, 120)
+                .mapToObj(i -> i == 60
+                        ? existing.toBuilder().version(null).build()
+                        : transaction(TransactionStatus.PENDING, LocalDateTime.now()))
+                .toList();
+        List<DebitEvent> events = transactions.stream().map(this::createdEvent).toList();
+
+        assertThatThrownBy(() -> adapter.saveAllWithEvents(transactions, events))
+                .isInstanceOfSatisfying(PartialBatchWriteException.class,
+                        e -> assertThat(e.getPersistedCount()).isEqualTo(50));
+
+        List<UUID> written = transactions.subList(0, 50).stream().map(DebitTransaction::getTransactionId).toList();
+        List<UUID> rejected = transactions.subList(50, 100).stream()
+                .map(DebitTransaction::getTransactionId)
+                .filter(id -> !id.equals(existing.getTransactionId()))
+                .toList();
+        assertThat(adapter.findAllById(written)).hasSize(50);
+        assertThat(adapter.findAllById(rejected)).isEmpty();
+        assertThat(adapter.findPending(1000)).extracting(OutboxEntry::getTransactionId)
+                .containsAll(written)
+                .doesNotContainAnyElementsOf(rejected);
+    }
+
+    private DebitEvent createdEvent(DebitTransaction transaction) {
+        return DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transaction.getTransactionId())
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .timestamp(LocalDateTime.now())
+                .companyId(companyId)
+                .build();
+    }
+
+    private DebitTransaction transaction(TransactionStatus status, LocalDateTime scheduledDate) {
+        LocalDateTime now = LocalDateTime.now();
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId(companyId)
+                .amount(new BigDecimal("10.00"))
+                .status(status)
+                .scheduledDate(scheduledDate)
+                .createdAt(now)
+                .updatedAt(now)
+                .retryCount(0)
+                .build();
+    }
+}
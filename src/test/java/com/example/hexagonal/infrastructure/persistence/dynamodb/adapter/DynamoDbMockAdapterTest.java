@@ -0,0 +1,338 @@
+package com.example.hexagonal.infrastructure.persistence.dynamodb.adapter;
+
+import com.example.hexagonal.domain.exception.PartialBatchWriteException;
+import com.example.hexagonal.domain.exception.VersionConflictException;
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionPage;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DynamoDbMockAdapterTest {
+
+    private DynamoDbMockAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new DynamoDbMockAdapter();
+    }
+
+    @Test
+    void save_ShouldIndexByCompanyAndStatus() {
+        adapter.save(transaction("company1", TransactionStatus.PENDING));
+        adapter.save(transaction("company1", TransactionStatus.FAILED));
+        adapter.save(transaction("company2", TransactionStatus.PENDING));
+
+        assertThat(adapter.findByCompanyId("company1")).hasSize(2);
+        assertThat(adapter.findByStatus(TransactionStatus.PENDING)).hasSize(2);
+        assertThat(adapter.countByCompanyId("company1")).isEqualTo(2);
+        assertThat(adapter.countByCompanyId("unknown")).isZero();
+    }
+
+    @Test
+    void save_WhenStatusChangesOnSameInstance_ShouldMoveBetweenStatusIndexes() {
+        DebitTransaction transaction = transaction("company1", TransactionStatus.PENDING);
+        adapter.save(transaction);
+
+        transaction.setStatus(TransactionStatus.PROCESSING);
+        adapter.save(transaction);
+
+        assertThat(adapter.findByStatus(TransactionStatus.PENDING)).isEmpty();
+        assertThat(adapter.findByStatus(TransactionStatus.PROCESSING)).containsExactly(transaction);
+        assertThat(adapter.countByStatus(TransactionStatus.PENDING)).isZero();
+        assertThat(adapter.countByStatus(TransactionStatus.PROCESSING)).isEqualTo(1);
+    }
+
+    @Test
+    void save_WhenCompanyChanges_ShouldMoveBetweenCompanyIndexes() {
+        DebitTransaction transaction = transaction("company1", TransactionStatus.PENDING);
+        adapter.save(transaction);
+
+        adapter.save(DebitTransaction.builder()
+                .transactionId(transaction.getTransactionId())
+                .companyId("company2")
+                .status(TransactionStatus.PENDING)
+                .version(transaction.getVersion())
+                .build());
+
+        assertThat(adapter.countByCompanyId("company1")).isZero();
+        assertThat(adapter.countByCompanyId("company2")).isEqualTo(1);
+    }
+
+    @Test
+    void save_ShouldIncrementVersion() {
+        DebitTransaction transaction = transaction("company1", TransactionStatus.PENDING);
+
+        adapter.save(transaction);
+        adapter.save(transaction);
+
+        assertThat(transaction.getVersion()).isEqualTo(2);
+        assertThat(adapter.findById(transaction.getTransactionId()).orElseThrow().getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void save_WhenVersionIsStale_ShouldRejectWrite() {
+        DebitTransaction transaction = transaction("company1", TransactionStatus.PENDING);
+        adapter.save(transaction);
+        DebitTransaction first = adapter.findById(transaction.getTransactionId()).orElseThrow();
+        DebitTransaction second = adapter.findById(transaction.getTransactionId()).orElseThrow();
+
+        first.setStatus(TransactionStatus.PROCESSING);
+        adapter.save(first);
+        second.setStatus(TransactionStatus.CANCELLED);
+
+        assertThatThrownBy(() -> adapter.save(second)).isInstanceOf(VersionConflictException.class);
+        assertThat(adapter.findById(transaction.getTransactionId()).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.PROCESSING);
+        assertThat(adapter.countByStatus(TransactionStatus.CANCELLED)).isZero();
+    }
+
+    @Test
+    void deleteById_ShouldRemoveFromIndexes() {
+        DebitTransaction transaction = transaction("company1", TransactionStatus.PENDING);
+        adapter.save(transaction);
+
+        adapter.deleteById(transaction.getTransactionId());
+
+        assertThat(adapter.existsById(transaction.getTransactionId())).isFalse();
+        assertThat(adapter.findByCompanyId("company1")).isEmpty();
+        assertThat(adapter.findByStatus(TransactionStatus.PENDING)).isEmpty();
+        assertThat(adapter.countByCompanyId("company1")).isZero();
+    }
+
+    @Test
+    void findByScheduledDateBetween_ShouldReturnRangeInScheduleOrderUpToLimit() {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 10, 10, 0);
+        DebitTransaction third = scheduled(base.plusMinutes(30));
+        DebitTransaction first = scheduled(base);
+        DebitTransaction second = scheduled(base.plusMinutes(10));
+        scheduled(base.plusHours(2));
+        scheduled(base.minusMinutes(1));
+
+        assertThat(adapter.findByScheduledDateBetween(base, base.plusHours(1)))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(first.getTransactionId(), second.getTransactionId(), third.getTransactionId());
+        assertThat(adapter.findByScheduledDateBetween(base, base.plusHours(1), 2))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(first.getTransactionId(), second.getTransactionId());
+        assertThat(adapter.findByScheduledDateBetween(base.plusHours(1), base)).isEmpty();
+    }
+
+    @Test
+    void findByScheduledDateBetween_WithFarFutureDatesAndOpenBound_ShouldOrderThemBySubMicrosecondTime() {
+        LocalDateTime base = LocalDateTime.of(2300, 1, 1, 0, 0, 0, 500);
+        DebitTransaction later = scheduled(base.plusNanos(1));
+        DebitTransaction earlier = scheduled(base);
+        DebitTransaction farthest = scheduled(LocalDateTime.MAX);
+
+        assertThat(adapter.findByScheduledDateBetween(base, LocalDateTime.MAX))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(earlier.getTransactionId(), later.getTransactionId(), farthest.getTransactionId());
+        assertThat(adapter.findByScheduledDateBetween(base.plusNanos(1), base.plusNanos(1)))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(later.getTransactionId());
+    }
+
+    @Test
+    void findByScheduledDateBetween_WhenRescheduledOrDeleted_ShouldMoveOrDropEntry() {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 10, 10, 0);
+        DebitTransaction rescheduled = scheduled(base);
+        DebitTransaction deleted = scheduled(base);
+
+        rescheduled.setScheduledDate(base.plusDays(1));
+        adapter.save(rescheduled);
+        adapter.deleteById(deleted.getTransactionId());
+
+        assertThat(adapter.findByScheduledDateBetween(base, base.plusHours(1))).isEmpty();
+        assertThat(adapter.findByScheduledDateBetween(base.plusDays(1), base.plusDays(1)))
+                .extracting(DebitTransaction::getVersion)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void findFailedTransactionsForRetry_ShouldReturnFailedWithRetriesRemainingOldestFirst() {
+        LocalDateTime base = LocalDateTime.of(2030, 1, 10, 10, 0);
+        DebitTransaction newer = failed(base.plusMinutes(5), 2);
+        DebitTransaction older = failed(base, 0);
+        failed(base.minusMinutes(5), 3);
+        DebitTransaction recovered = failed(base.minusMinutes(10), 1);
+        adapter.save(transaction("company1", TransactionStatus.PENDING));
+
+        recovered.setStatus(TransactionStatus.PROCESSED);
+        adapter.save(recovered);
+
+        assertThat(adapter.findFailedTransactionsForRetry())
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(older.getTransactionId(), newer.getTransactionId());
+        assertThat(adapter.findFailedTransactionsForRetry(1))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(older.getTransactionId());
+    }
+
+    @Test
+    void findByCompanyId_WithPageSize_ShouldWalkEveryTransactionOnceAcrossPages() {
+        Set<UUID> saved = new HashSet<>();
+        for (int i = 0; i < 7; i++) {
+            saved.add(adapter.save(transaction("company1", TransactionStatus.PENDING)).getTransactionId());
+        }
+        adapter.save(transaction("company2", TransactionStatus.PENDING));
+
+        TransactionPage first = adapter.findByCompanyId("company1", 3, null);
+        TransactionPage second = adapter.findByCompanyId("company1", 3, first.getContinuationToken());
+        TransactionPage third = adapter.findByCompanyId("company1", 3, second.getContinuationToken());
+
+        assertThat(first.getItems()).hasSize(3);
+        assertThat(second.getItems()).hasSize(3);
+        assertThat(third.getItems()).hasSize(1);
+        assertThat(third.hasMore()).isFalse();
+        assertThat(Stream.of(first, second, third).flatMap(page -> page.getItems().stream()))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactlyInAnyOrderElementsOf(saved);
+    }
+
+    @Test
+    void findByStatus_WithPageSize_WhenTransactionsChangeBetweenPages_ShouldNotRepeatEarlierItems() {
+        for (int i = 0; i < 6; i++) {
+            adapter.save(transaction("company1", TransactionStatus.PENDING));
+        }
+
+        TransactionPage first = adapter.findByStatus(TransactionStatus.PENDING, 3, null);
+        DebitTransaction moved = first.getItems().get(0);
+        moved.setStatus(TransactionStatus.PROCESSING);
+        adapter.save(moved);
+        adapter.save(transaction("company1", TransactionStatus.PENDING));
+
+        List<DebitTransaction> rest = TransactionPage.stream(token ->
+                adapter.findByStatus(TransactionStatus.PENDING, 3, token == null ? first.getContinuationToken() : token))
+                .toList();
+
+        assertThat(rest).extracting(DebitTransaction::getTransactionId)
+                .doesNotContainAnyElementsOf(first.getItems().stream().map(DebitTransaction::getTransactionId).toList())
+                .doesNotHaveDuplicates();
+        assertThat(rest).allMatch(transaction -> transaction.getStatus() == TransactionStatus.PENDING);
+    }
+
+    @Test
+    void findByCompanyId_WithPageSize_WhenTokenIsInvalid_ShouldRejectQuery() {
+        assertThatThrownBy(() -> adapter.findByCompanyId("company1", 10, "not-a-token"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> adapter.findByCompanyId("company1", 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void saveWithEvent_ShouldQueueEventUntilMarkedPublished() {
+        DebitTransaction transaction = transaction("company1", TransactionStatus.PENDING);
+        DebitEvent event = event(transaction);
+
+        adapter.saveWithEvent(transaction, event);
+
+        assertThat(adapter.findPending(10)).singleElement()
+                .satisfies(entry -> assertThat(entry.getSequence()).isEqualTo(1));
+        assertThat(adapter.claim(event.getEventId(), "relay-1", Duration.ofSeconds(30))).isTrue();
+        assertThat(adapter.claim(event.getEventId(), "relay-2", Duration.ofSeconds(30))).isFalse();
+        assertThat(adapter.claim(event.getEventId(), "relay-1", Duration.ofSeconds(30))).isTrue();
+        adapter.markPublished(List.of(event.getEventId()));
+        assertThat(adapter.countPending()).isZero();
+    }
+
+    @Test
+    void saveWithEvent_WhenVersionIsStale_ShouldNotQueueEvent() {
+        DebitTransaction transaction = transaction("company1", TransactionStatus.PENDING);
+        adapter.save(transaction);
+        DebitTransaction stale = transaction.toBuilder().version(null).build();
+
+        assertThatThrownBy(() -> adapter.saveWithEvent(stale, event(stale))).isInstanceOf(VersionConflictException.class);
+        assertThat(adapter.countPending()).isZero();
+    }
+
+    @Test
+    void saveAllWithEvents_WhenOneAlreadyExists_ShouldReportStoredPrefix() {
+        DebitTransaction existing = transaction("company1", TransactionStatus.PENDING);
+        adapter.save(existing);
+        DebitTransaction first = transaction("company1", TransactionStatus.PENDING);
+        DebitTransaction duplicate = existing.toBuilder().version(null).build();
+        DebitTransaction last = transaction("company1", TransactionStatus.PENDING);
+
+        assertThatThrownBy(() -> adapter.saveAllWithEvents(List.of(first, duplicate, last),
+                List.of(event(first), event(duplicate), event(last))))
+                .isInstanceOfSatisfying(PartialBatchWriteException.class,
+                        e -> assertThat(e.getPersistedCount()).isEqualTo(1));
+        assertThat(adapter.existsById(first.getTransactionId())).isTrue();
+        assertThat(adapter.existsById(last.getTransactionId())).isFalse();
+        assertThat(adapter.countPending()).isEqualTo(1);
+    }
+
+    @Test
+    void findAllById_ShouldSkipMissingAndDuplicateIds() {
+        DebitTransaction transaction = adapter.save(transaction("company1", TransactionStatus.PENDING));
+
+        assertThat(adapter.findAllById(List.of(transaction.getTransactionId(), UUID.randomUUID(), transaction.getTransactionId())))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(transaction.getTransactionId());
+    }
+
+    @Test
+    void countByCompanyIdAndStatus_ShouldCountOnlyMatchingStatus() {
+        adapter.save(transaction("company1", TransactionStatus.PENDING));
+        adapter.save(transaction("company1", TransactionStatus.PENDING));
+        adapter.save(transaction("company1", TransactionStatus.FAILED));
+        adapter.save(transaction("company2", TransactionStatus.PENDING));
+
+        assertThat(adapter.countByCompanyIdAndStatus("company1", TransactionStatus.PENDING)).isEqualTo(2);
+        assertThat(adapter.countByCompanyIdAndStatus("company1", TransactionStatus.PROCESSED)).isZero();
+    }
+
+    private DebitEvent event(DebitTransaction transaction) {
+        return DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transaction.getTransactionId())
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .companyId(transaction.getCompanyId())
+                .status(transaction.getStatus())
+                .build();
+    }
+
+    private DebitTransaction scheduled(LocalDateTime scheduledDate) {
+        DebitTransaction transaction = transaction("company1", TransactionStatus.SCHEDULED);
+        transaction.setScheduledDate(scheduledDate);
+        return adapter.save(transaction);
+    }
+
+    private DebitTransaction failed(LocalDateTime updatedAt, int retryCount) {
+        DebitTransaction transaction = transaction("company1", TransactionStatus.FAILED);
+        transaction.setUpdatedAt(updatedAt);
+        transaction.setRetryCount(retryCount);
+        return adapter.save(transaction);
+    }
+
+    private DebitTransaction transaction(String companyId, TransactionStatus status) {
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId(companyId)
+                .companyDocument("12.345.678/0001-90")
+                .companyName("Empresa Exemplo LTDA")
+                .bankAccountId("account456")
+                .amount(new BigDecimal("1500.00"))
+                .description("Débito automático mensal")
+                .status(status)
+                .scheduledDate(LocalDateTime.now().plusDays(1))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .retryCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.hexagonal.infrastructure.persistence.segmentlog;
+
+import com.example.hexagonal.domain.exception.VersionConflictException;
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.infrastructure.persistence.codec.DebitTransactionCodec;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentLogDynamoDbAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SegmentLogDynamoDbAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    void start_ShouldReplayLogAfterRestart() {
+        adapter = open(true);
+        DebitTransaction kept = transaction("company1");
+        DebitTransaction deleted = transaction("company1");
+        adapter.save(kept);
+        adapter.save(deleted);
+        kept.setStatus(TransactionStatus.PROCESSED);
+        adapter.save(kept);
+        adapter.deleteById(deleted.getTransactionId());
+
+        adapter.shutdown();
+        adapter = open(true);
+
+        DebitTransaction restored = adapter.findById(kept.getTransactionId()).orElseThrow();
+        assertThat(restored.getVersion()).isEqualTo(2);
+        assertThat(restored.getStatus()).isEqualTo(TransactionStatus.PROCESSED);
+        assertThat(restored.getAmount()).isEqualByComparingTo("1500.00");
+        assertThat(adapter.existsById(deleted.getTransactionId())).isFalse();
+        assertThat(adapter.countByCompanyId("company1")).isEqualTo(1);
+        assertThat(adapter.findByStatus(TransactionStatus.PROCESSED)).hasSize(1);
+        assertThat(adapter.findByStatus(TransactionStatus.PENDING)).isEmpty();
+    }
+
+    @Test
+    void save_WhenVersionIsStale_ShouldRejectWrite() {
+        adapter = open(true);
+        DebitTransaction transaction = transaction("company1");
+        adapter.save(transaction);
+        DebitTransaction stale = transaction.toBuilder().version(null).build();
+
+        assertThatThrownBy(() -> adapter.save(stale)).isInstanceOf(VersionConflictException.class);
+        assertThat(adapter.findById(transaction.getTransactionId()).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void start_WhenLastRecordIsTorn_ShouldRecoverUpToLastValidRecord() throws Exception {
+        adapter = open(true);
+        DebitTransaction first = transaction("company1");
+        DebitTransaction torn = transaction("company1");
+        adapter.save(first);
+        adapter.save(torn);
+        adapter.shutdown();
+
+        int tornOffset = LogSegment.recordSize(DebitTransactionCodec.encode(first));
+        try (FileChannel channel = FileChannel.open(directory.resolve(LogSegment.fileName(1)), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), tornOffset + LogSegment.HEADER_SIZE + 20);
+        }
+
+        adapter = open(true);
+        assertThat(adapter.existsById(first.getTransactionId())).isTrue();
+        assertThat(adapter.existsById(torn.getTransactionId())).isFalse();
+
+        DebitTransaction afterRecovery = transaction("company2");
+        adapter.save(afterRecovery);
+        adapter.shutdown();
+        adapter = open(true);
+
+        assertThat(adapter.existsById(first.getTransactionId())).isTrue();
+        assertThat(adapter.existsById(afterRecovery.getTransactionId())).isTrue();
+    }
+
+    @Test
+    void compact_ShouldDeleteSupersededSegmentsAndKeepLatestVersions() {
+        adapter = open(false);
+        DebitTransaction hot = transaction("company1");
+        DebitTransaction cold = transaction("company2");
+        DebitTransaction deleted = transaction("company3");
+        adapter.save(cold);
+        adapter.save(deleted);
+        adapter.deleteById(deleted.getTransactionId());
+        while (adapter.segmentCount() < 3) {
+            adapter.save(hot);
+        }
+        int segmentsBefore = adapter.segmentCount();
+
+        adapter.compact();
+
+        assertThat(adapter.segmentCount()).isLessThan(segmentsBefore);
+        assertThat(meterRegistry.get("debit.persistence.segment.log.compactions").counter().count()).isPositive();
+        long latestVersion = hot.getVersion();
+
+        adapter.shutdown();
+        adapter = open(false);
+
+        assertThat(adapter.findById(hot.getTransactionId()).orElseThrow().getVersion()).isEqualTo(latestVersion);
+        assertThat(adapter.findById(cold.getTransactionId())).isPresent();
+        assertThat(adapter.existsById(deleted.getTransactionId())).isFalse();
+    }
+
+    @Test
+    void save_WhenWritersAreConcurrent_ShouldShareFsyncs() throws Exception {
+        adapter = open(true);
+        ExecutorService writers = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 1600; i++) {
+            futures.add(writers.submit(() -> adapter.save(transaction("company1"))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        writers.shutdown();
+
+        DistributionSummary groupCommits = meterRegistry.get("debit.persistence.segment.log.group.commit.records").summary();
+        assertThat(groupCommits.totalAmount()).isEqualTo(1600);
+        assertThat(groupCommits.count()).isLessThan(1600);
+        assertThat(adapter.countByCompanyId("company1")).isEqualTo(1600);
+    }
+
+    @Test
+    void findByScheduledDateBetween_AfterRestart_ShouldReturnRangeInScheduleOrderUpToLimit() {
+        adapter = open(true);
+        LocalDateTime base = LocalDateTime.of(2030, 1, 10, 10, 0);
+        DebitTransaction second = scheduled(base.plusMinutes(10));
+        DebitTransaction first = scheduled(base);
+        DebitTransaction rescheduled = scheduled(base.plusMinutes(5));
+        scheduled(base.plusHours(2));
+        rescheduled.setScheduledDate(base.plusDays(1));
+        adapter.save(rescheduled);
+
+        adapter.shutdown();
+        adapter = open(true);
+
+        assertThat(adapter.findByScheduledDateBetween(base, base.plusHours(1)))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(first.getTransactionId(), second.getTransactionId());
+        assertThat(adapter.findByScheduledDateBetween(base, base.plusHours(1), 1))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(first.getTransactionId());
+    }
+
+    @Test
+    void findFailedTransactionsForRetry_ShouldReturnFailedWithRetriesRemainingOldestFirst() {
+        adapter = open(false);
+        LocalDateTime base = LocalDateTime.of(2030, 1, 10, 10, 0);
+        DebitTransaction newer = failed(base.plusMinutes(5), 2);
+        DebitTransaction older = failed(base, 0);
+        failed(base.minusMinutes(5), 3);
+        DebitTransaction deleted = failed(base.minusMinutes(10), 1);
+        adapter.deleteById(deleted.getTransactionId());
+
+        assertThat(adapter.findFailedTransactionsForRetry())
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(older.getTransactionId(), newer.getTransactionId());
+        assertThat(adapter.findFailedTransactionsForRetry(1))
+                .extracting(DebitTransaction::getTransactionId)
+                .containsExactly(older.getTransactionId());
+    }
+
+    @Test
+    void saveWithEvent_ShouldQueueEventUntilMarkedPublished() {
+        adapter = open(true);
+        DebitTransaction transaction = transaction("company1");
+        DebitEvent event = DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transaction.getTransactionId())
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .build();
+
+        adapter.saveWithEvent(transaction, event);
+
+        assertThat(adapter.findPending(10)).singleElement()
+                .satisfies(entry -> assertThat(entry.getSequence()).isEqualTo(1));
+        assertThat(adapter.claim(event.getEventId(), "relay-1", Duration.ofSeconds(30))).isTrue();
+        assertThat(adapter.claim(event.getEventId(), "relay-2", Duration.ofSeconds(30))).isFalse();
+        adapter.markPublished(List.of(event.getEventId()));
+        assertThat(adapter.countPending()).isZero();
+        assertThat(adapter.findById(transaction.getTransactionId())).isPresent();
+    }
+
+    private DebitTransaction scheduled(LocalDateTime scheduledDate) {
+        DebitTransaction transaction = transaction("company1");
+        transaction.setScheduledDate(scheduledDate);
+        return adapter.save(transaction);
+    }
+
+    private DebitTransaction failed(LocalDateTime updatedAt, int retryCount) {
+        DebitTransaction transaction = transaction("company1");
+        transaction.setStatus(TransactionStatus.FAILED);
+        transaction.setUpdatedAt(updatedAt);
+        transaction.setRetryCount(retryCount);
+        return adapter.save(transaction);
+    }
+
+    private SegmentLogDynamoDbAdapter open(boolean fsync) {
+        meterRegistry = new SimpleMeterRegistry();
+        SegmentLogDynamoDbAdapter opened = new SegmentLogDynamoDbAdapter(meterRegistry, directory.toString(), 1, fsync, 0.5, 3);
+        opened.start();
+        return opened;
+    }
+
+    private DebitTransaction transaction(String companyId) {
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId(companyId)
+                .companyDocument("12.345.678/0001-90")
+                .companyName("Empresa Exemplo LTDA")
+                .bankAccountId("account456")
+                .amount(new BigDecimal("1500.00"))
+                .description("Débito automático mensal")
+                .status(TransactionStatus.PENDING)
+                .scheduledDate(LocalDateTime.now().plusDays(1))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .retryCount(0)
+                .build();
+    }
+}
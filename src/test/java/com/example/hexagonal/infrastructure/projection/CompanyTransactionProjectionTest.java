@@ -0,0 +1,152 @@
+package com.example.hexagonal.infrastructure.projection;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompanyTransactionProjectionTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompanyTransactionProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projection = new CompanyTransactionProjection(meterRegistry, true, 1440, 10000);
+    }
+
+    @Test
+    void apply_ShouldMoveCountAndAmountBetweenStatuses() {
+        UUID transactionId = UUID.randomUUID();
+        projection.apply(event(transactionId, "company1", null, TransactionStatus.PENDING, "150.25"));
+        projection.apply(event(UUID.randomUUID(), "company1", null, TransactionStatus.PENDING, "49.75"));
+        projection.apply(event(transactionId, "company1", TransactionStatus.PENDING, TransactionStatus.PROCESSING, "150.25"));
+
+        assertThat(projection.count("company1", TransactionStatus.PENDING)).isEqualTo(1);
+        assertThat(projection.count("company1", TransactionStatus.PROCESSING)).isEqualTo(1);
+        assertThat(projection.count("company1")).isEqualTo(2);
+        assertThat(projection.totalAmount("company1", TransactionStatus.PENDING)).isEqualByComparingTo("49.75");
+        assertThat(projection.totalAmount("company1", TransactionStatus.PROCESSING)).isEqualByComparingTo("150.25");
+        assertThat(projection.count("unknown", TransactionStatus.PENDING)).isZero();
+        assertThat(projection.totalAmount("unknown", TransactionStatus.PENDING)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void apply_WhenEventIsRedelivered_ShouldCountItOnce() {
+        DebitEvent created = event(UUID.randomUUID(), "company1", null, TransactionStatus.PENDING, "10.00");
+
+        assertThat(projection.apply(created)).isTrue();
+        assertThat(projection.apply(created)).isFalse();
+
+        assertThat(projection.count("company1", TransactionStatus.PENDING)).isEqualTo(1);
+        assertThat(meterRegistry.get("debit.projection.events").tag("result", "duplicate").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void apply_WhenTransitionArrivesBeforeCreation_ShouldConvergeToSameTotals() {
+        UUID transactionId = UUID.randomUUID();
+        projection.apply(event(transactionId, "company1", TransactionStatus.PENDING, TransactionStatus.CANCELLED, "10.00"));
+        projection.apply(event(transactionId, "company1", null, TransactionStatus.PENDING, "10.00"));
+
+        assertThat(projection.count("company1", TransactionStatus.PENDING)).isZero();
+        assertThat(projection.count("company1", TransactionStatus.CANCELLED)).isEqualTo(1);
+    }
+
+    @Test
+    void count_WhenTransitionArrivesBeforeCreation_ShouldNotReadNegative() {
+        projection.apply(event(UUID.randomUUID(), "company1", TransactionStatus.PENDING, TransactionStatus.CANCELLED, "10.00"));
+
+        assertThat(projection.count("company1", TransactionStatus.PENDING)).isZero();
+        assertThat(projection.totalAmount("company1", TransactionStatus.PENDING)).isEqualByComparingTo("0");
+        assertThat(projection.count("company1")).isEqualTo(1);
+    }
+
+    @Test
+    void isReady_ShouldStayFalseUntilRebuiltAndAfterMarkedStale() {
+        projection.apply(event(UUID.randomUUID(), "company1", null, TransactionStatus.PENDING, "10.00"));
+        assertThat(projection.isReady()).isFalse();
+
+        projection.rebuild(Stream.empty());
+        assertThat(projection.isReady()).isTrue();
+
+        projection.markStale();
+        assertThat(projection.isReady()).isFalse();
+    }
+
+    @Test
+    void apply_WhenEventHasNoTransition_ShouldSkipIt() {
+        DebitEvent legacy = DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType("DEBIT_TRANSACTION_CREATED")
+                .companyId("company1")
+                .build();
+
+        assertThat(projection.apply(legacy)).isFalse();
+        assertThat(projection.count("company1")).isZero();
+        assertThat(meterRegistry.get("debit.projection.events").tag("result", "skipped").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void apply_WhenCalledConcurrently_ShouldNotLoseUpdates() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    projection.apply(event(UUID.randomUUID(), "company1", null, TransactionStatus.PENDING, "1.00"));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(projection.count("company1", TransactionStatus.PENDING)).isEqualTo(8000);
+        assertThat(projection.totalAmount("company1", TransactionStatus.PENDING)).isEqualByComparingTo("8000.00");
+    }
+
+    @Test
+    void rebuild_ShouldReplaceStateWithReplayedEvents() {
+        List<DebitEvent> log = new ArrayList<>();
+        UUID transactionId = UUID.randomUUID();
+        log.add(event(transactionId, "company1", null, TransactionStatus.PENDING, "10.00"));
+        log.add(event(transactionId, "company1", TransactionStatus.PENDING, TransactionStatus.PROCESSING, "10.00"));
+        log.add(event(UUID.randomUUID(), "company2", null, TransactionStatus.PENDING, "5.00"));
+        projection.apply(event(UUID.randomUUID(), "company3", null, TransactionStatus.PENDING, "1.00"));
+        projection.apply(log.get(0));
+
+        projection.rebuild(log.stream());
+
+        assertThat(projection.count("company1", TransactionStatus.PENDING)).isZero();
+        assertThat(projection.count("company1", TransactionStatus.PROCESSING)).isEqualTo(1);
+        assertThat(projection.count("company2", TransactionStatus.PENDING)).isEqualTo(1);
+        assertThat(projection.count("company3")).isZero();
+        assertThat(projection.apply(log.get(2))).isFalse();
+    }
+
+    private DebitEvent event(UUID transactionId, String companyId, TransactionStatus previousStatus,
+                             TransactionStatus status, String amount) {
+        return DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transactionId)
+                .eventType("DEBIT_TRANSACTION_" + status.name())
+                .companyId(companyId)
+                .previousStatus(previousStatus)
+                .status(status)
+                .amount(new BigDecimal(amount))
+                .build();
+    }
+}
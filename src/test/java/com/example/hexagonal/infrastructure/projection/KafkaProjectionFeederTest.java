@@ -0,0 +1,140 @@
+package com.example.hexagonal.infrastructure.projection;
+
+import com.example.hexagonal.domain.model.DebitEvent;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EmbeddedKafka(partitions = 3)
+class KafkaProjectionFeederTest {
+
+    private final EmbeddedKafkaBroker broker;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<KafkaProjectionFeeder> feeders = new ArrayList<>();
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private String topic;
+
+    KafkaProjectionFeederTest(EmbeddedKafkaBroker broker) {
+        this.broker = broker;
+    }
+
+    @BeforeEach
+    void setUp() {
+        topic = "debit-events-" + UUID.randomUUID();
+        broker.addTopics(topic);
+        kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(KafkaTestUtils.producerProps(broker),
+                new StringSerializer(), new StringSerializer()));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (KafkaProjectionFeeder feeder : feeders) {
+            feeder.stop();
+        }
+        kafkaTemplate.destroy();
+    }
+
+    @Test
+    void start_ShouldRebuildFromTheWholeTopicBeforeReportingReady() throws Exception {
+        UUID transactionId = UUID.randomUUID();
+        send(event(transactionId, "company-0", null, TransactionStatus.PENDING, "10.00"));
+        send(event(transactionId, "company-0", TransactionStatus.PENDING, TransactionStatus.PROCESSED, "10.00"));
+        send(event(UUID.randomUUID(), "company-1", null, TransactionStatus.PENDING, "5.00"));
+        CompanyTransactionProjection projection = projection();
+        assertThat(projection.isReady()).isFalse();
+
+        startFeeder(projection);
+
+        awaitTrue(projection::isReady);
+        assertThat(projection.count("company-0", TransactionStatus.PENDING)).isZero();
+        assertThat(projection.count("company-0", TransactionStatus.PROCESSED)).isEqualTo(1);
+        assertThat(projection.totalAmount("company-1", TransactionStatus.PENDING)).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    void start_WhenSeveralReplicasRun_ShouldFeedEveryEventToEachOfThem() throws Exception {
+        CompanyTransactionProjection first = projection();
+        CompanyTransactionProjection second = projection();
+        startFeeder(first);
+        startFeeder(second);
+        awaitTrue(() -> first.isReady() && second.isReady());
+
+        for (int i = 0; i < 30; i++) {
+            send(event(UUID.randomUUID(), "company-" + (i % 3), null, TransactionStatus.PENDING, "1.00"));
+        }
+
+        awaitTrue(() -> total(first) == 30 && total(second) == 30);
+    }
+
+    @Test
+    void stop_ShouldMarkTheProjectionStale() throws Exception {
+        CompanyTransactionProjection projection = projection();
+        KafkaProjectionFeeder feeder = startFeeder(projection);
+        awaitTrue(projection::isReady);
+
+        feeder.stop();
+
+        assertThat(projection.isReady()).isFalse();
+    }
+
+    private CompanyTransactionProjection projection() {
+        return new CompanyTransactionProjection(new SimpleMeterRegistry(), true, 1440, 10000);
+    }
+
+    private KafkaProjectionFeeder startFeeder(CompanyTransactionProjection projection) {
+        KafkaProjectionFeeder feeder = new KafkaProjectionFeeder(projection, objectMapper);
+        ReflectionTestUtils.setField(feeder, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(feeder, "topic", topic);
+        ReflectionTestUtils.setField(feeder, "pollTimeoutMs", 100L);
+        feeder.start();
+        feeders.add(feeder);
+        return feeder;
+    }
+
+    private void send(DebitEvent event) throws Exception {
+        kafkaTemplate.send(topic, event.getCompanyId(), objectMapper.writeValueAsString(event)).get();
+    }
+
+    private static long total(CompanyTransactionProjection projection) {
+        return projection.count("company-0") + projection.count("company-1") + projection.count("company-2");
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static DebitEvent event(UUID transactionId, String companyId, TransactionStatus previousStatus,
+                                    TransactionStatus status, String amount) {
+        return DebitEvent.builder()
+                .eventId(UUID.randomUUID())
+                .transactionId(transactionId)
+                .eventType("DEBIT_TRANSACTION_" + status.name())
+                .companyId(companyId)
+                .previousStatus(previousStatus)
+                .status(status)
+                .amount(new BigDecimal(amount))
+                .build();
+    }
+}
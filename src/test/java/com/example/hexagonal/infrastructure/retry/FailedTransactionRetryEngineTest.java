@@ -0,0 +1,110 @@
+package com.example.hexagonal.infrastructure.retry;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.example.hexagonal.domain.port.DebitTransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FailedTransactionRetryEngineTest {
+
+    @Mock
+    private DebitTransactionRepository transactionRepository;
+
+    @Mock
+    private DebitTransactionService debitTransactionService;
+
+    private MeterRegistry meterRegistry;
+    private FailedTransactionRetryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new FailedTransactionRetryEngine(transactionRepository, debitTransactionService,
+                new RetryBackoffPolicy(3, 60, 3600), new SyncTaskExecutor(), meterRegistry, 2, 60, 100);
+    }
+
+    @Test
+    void dispatchDueRetries_ShouldWaitForBackoffSinceLastFailure() {
+        DebitTransaction recent = failed("account1", 0, LocalDateTime.now());
+        DebitTransaction old = failed("account1", 0, LocalDateTime.now().minusHours(1));
+        when(transactionRepository.findFailedTransactionsForRetry(100)).thenReturn(List.of(recent, old));
+
+        engine.enqueueFailedTransactions();
+        engine.dispatchDueRetries();
+
+        verify(debitTransactionService).retryFailedTransaction(old.getTransactionId());
+        verify(debitTransactionService, never()).retryFailedTransaction(recent.getTransactionId());
+        assertThat(engine.queuedCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("debit.retry.attempts").tag("outcome", "retried").summary().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void enqueueFailedTransactions_ShouldNotQueueSameTransactionTwice() {
+        DebitTransaction transaction = failed("account1", 1, LocalDateTime.now());
+        when(transactionRepository.findFailedTransactionsForRetry(100)).thenReturn(List.of(transaction));
+
+        engine.enqueueFailedTransactions();
+        engine.enqueueFailedTransactions();
+
+        assertThat(engine.queuedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchDueRetries_WhenAccountBudgetExhausted_ShouldPostponeTheRest() {
+        LocalDateTime failedAt = LocalDateTime.now().minusHours(1);
+        List<DebitTransaction> storm = List.of(
+                failed("account1", 0, failedAt),
+                failed("account1", 0, failedAt),
+                failed("account1", 0, failedAt),
+                failed("account2", 0, failedAt));
+        when(transactionRepository.findFailedTransactionsForRetry(100)).thenReturn(storm);
+
+        engine.enqueueFailedTransactions();
+        engine.dispatchDueRetries();
+
+        verify(debitTransactionService, times(3)).retryFailedTransaction(any());
+        assertThat(engine.queuedCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("debit.retry.throttled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void enqueueFailedTransactions_WhenAttemptsExhausted_ShouldSkip() {
+        when(transactionRepository.findFailedTransactionsForRetry(100))
+                .thenReturn(List.of(failed("account1", 3, LocalDateTime.now().minusDays(1))));
+
+        engine.enqueueFailedTransactions();
+
+        assertThat(engine.queuedCount()).isZero();
+    }
+
+    private DebitTransaction failed(String bankAccountId, int retryCount, LocalDateTime updatedAt) {
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .bankAccountId(bankAccountId)
+                .status(TransactionStatus.FAILED)
+                .retryCount(retryCount)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.hexagonal.infrastructure.retry;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBackoffPolicyTest {
+
+    private final RetryBackoffPolicy policy = new RetryBackoffPolicy(3, 60, 600);
+
+    @Test
+    void canRetry_ShouldHonorMaxAttempts() {
+        assertThat(policy.canRetry(null)).isTrue();
+        assertThat(policy.canRetry(2)).isTrue();
+        assertThat(policy.canRetry(3)).isFalse();
+    }
+
+    @RepeatedTest(20)
+    void backoff_ShouldDoublePerAttemptWithinJitterBounds() {
+        assertThat(policy.backoff(0)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+        assertThat(policy.backoff(2)).isBetween(Duration.ofSeconds(120), Duration.ofSeconds(240));
+    }
+
+    @Test
+    void backoff_ShouldBeCappedAtMaxDelay() {
+        assertThat(policy.backoff(20)).isBetween(Duration.ofSeconds(300), Duration.ofSeconds(600));
+        assertThat(policy.backoff(Integer.MAX_VALUE)).isLessThanOrEqualTo(Duration.ofSeconds(600));
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.hexagonal.infrastructure.scheduling;
+
+import com.example.hexagonal.domain.model.DebitTransaction;
+import com.example.hexagonal.domain.model.TransactionStatus;
+import com.example.hexagonal.domain.port.DebitTransactionRepository;
+import com.example.hexagonal.domain.port.DebitTransactionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledDebitReleaserTest {
+
+    private static final Instant START = Instant.parse("2030-01-10T10:00:00Z");
+
+    @Mock
+    private DebitTransactionRepository transactionRepository;
+
+    @Mock
+    private DebitTransactionService debitTransactionService;
+
+    private MutableClock clock;
+    private MeterRegistry meterRegistry;
+    private ScheduledDebitReleaser releaser;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        meterRegistry = new SimpleMeterRegistry();
+        releaser = new ScheduledDebitReleaser(transactionRepository, debitTransactionService, new SyncTaskExecutor(),
+                meterRegistry, clock, 1000, 10, 60_000, 24, 30_000, 100, 4, 0, 1);
+    }
+
+    @Test
+    void loadUpcoming_OnStartup_ShouldRehydrateOverdueDebitsAndReleaseThem() {
+        DebitTransaction overdue = transaction(TransactionStatus.PENDING, now().minusHours(2));
+        DebitTransaction processed = transaction(TransactionStatus.PROCESSED, now().minusHours(1));
+        when(transactionRepository.findByScheduledDateBetween(now().minusHours(24), now().plusMinutes(10), 100))
+                .thenReturn(List.of(overdue, processed));
+
+        releaser.loadUpcoming();
+        clock.advance(Duration.ofSeconds(1));
+        releaser.releaseDue();
+
+        verify(debitTransactionService).processDebitTransaction(overdue.getTransactionId());
+        verify(debitTransactionService, never()).processDebitTransaction(processed.getTransactionId());
+        assertThat(meterRegistry.get("debit.scheduler.released").tag("result", "processed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void releaseDue_ShouldWaitUntilScheduledDate() {
+        DebitTransaction upcoming = transaction(TransactionStatus.SCHEDULED, now().plusMinutes(5));
+        when(transactionRepository.findByScheduledDateBetween(any(), any(), anyInt())).thenReturn(List.of(upcoming));
+        releaser.loadUpcoming();
+
+        clock.advance(Duration.ofMinutes(4));
+        releaser.releaseDue();
+        verify(debitTransactionService, never()).processDebitTransaction(any());
+
+        clock.advance(Duration.ofMinutes(1));
+        releaser.releaseDue();
+        verify(debitTransactionService).processDebitTransaction(upcoming.getTransactionId());
+        assertThat(releaser.pending()).isZero();
+    }
+
+    @Test
+    void loadUpcoming_ShouldSkipDebitsAlreadyLoadedByPreviousWindow() {
+        DebitTransaction boundary = transaction(TransactionStatus.PENDING, now().plusMinutes(10));
+        when(transactionRepository.findByScheduledDateBetween(any(), any(), anyInt())).thenReturn(List.of(boundary));
+
+        releaser.loadUpcoming();
+        clock.advance(Duration.ofMinutes(1));
+        releaser.loadUpcoming();
+
+        assertThat(releaser.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void track_WhenDebitFallsInsideLoadedWindow_ShouldScheduleIt() {
+        when(transactionRepository.findByScheduledDateBetween(any(), any(), anyInt())).thenReturn(List.of());
+        releaser.loadUpcoming();
+        DebitTransaction created = transaction(TransactionStatus.PENDING, now().plusMinutes(1));
+        DebitTransaction farAway = transaction(TransactionStatus.PENDING, now().plusDays(3));
+
+        releaser.track(created);
+        releaser.track(farAway);
+
+        assertThat(releaser.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseDue_WhenNoPermitIsFree_ShouldDeferTheRestToTheNextTick() {
+        List<Runnable> submitted = new ArrayList<>();
+        releaser = new ScheduledDebitReleaser(transactionRepository, debitTransactionService, submitted::add,
+                meterRegistry, clock, 1000, 10, 60_000, 24, 30_000, 100, 4, 0, 1);
+        List<DebitTransaction> due = IntStream.range(0, 6)
+                .mapToObj(i -> transaction(TransactionStatus.PENDING, now().minusMinutes(1)))
+                .toList();
+        when(transactionRepository.findByScheduledDateBetween(any(), any(), anyInt())).thenReturn(due);
+        releaser.loadUpcoming();
+
+        clock.advance(Duration.ofSeconds(1));
+        releaser.releaseDue();
+
+        assertThat(submitted).hasSize(4);
+        assertThat(releaser.pending()).isEqualTo(2);
+        assertThat(meterRegistry.get("debit.scheduler.rescheduled").tag("reason", "deferred").counter().count())
+                .isEqualTo(2);
+
+        submitted.forEach(Runnable::run);
+        clock.advance(Duration.ofSeconds(1));
+        releaser.releaseDue();
+
+        assertThat(submitted).hasSize(6);
+        assertThat(releaser.pending()).isZero();
+    }
+
+    @Test
+    void releaseDue_WhenReleaseFailsAndDebitIsStillPending_ShouldRetryAfterDelay() {
+        DebitTransaction overdue = transaction(TransactionStatus.PENDING, now().minusMinutes(1));
+        when(transactionRepository.findByScheduledDateBetween(any(), any(), anyInt())).thenReturn(List.of(overdue));
+        when(transactionRepository.findById(overdue.getTransactionId())).thenReturn(Optional.of(overdue));
+        when(debitTransactionService.processDebitTransaction(overdue.getTransactionId()))
+                .thenThrow(new IllegalStateException("Timed out waiting for transaction lock"))
+                .thenReturn(overdue);
+        releaser.loadUpcoming();
+
+        clock.advance(Duration.ofSeconds(1));
+        releaser.releaseDue();
+        assertThat(releaser.pending()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(29));
+        releaser.releaseDue();
+        verify(debitTransactionService, times(1)).processDebitTransaction(overdue.getTransactionId());
+
+        clock.advance(Duration.ofSeconds(1));
+        releaser.releaseDue();
+        verify(debitTransactionService, times(2)).processDebitTransaction(overdue.getTransactionId());
+        assertThat(releaser.pending()).isZero();
+        assertThat(meterRegistry.get("debit.scheduler.rescheduled").tag("reason", "retried").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void releaseDue_WhenReleaseFailsButDebitWasProcessedElsewhere_ShouldDropIt() {
+        DebitTransaction overdue = transaction(TransactionStatus.PENDING, now().minusMinutes(1));
+        when(transactionRepository.findByScheduledDateBetween(any(), any(), anyInt())).thenReturn(List.of(overdue));
+        when(transactionRepository.findById(overdue.getTransactionId()))
+                .thenReturn(Optional.of(overdue.toBuilder().status(TransactionStatus.PROCESSED).build()));
+        doThrow(new RuntimeException("Transaction cannot be processed in current status"))
+                .when(debitTransactionService).processDebitTransaction(overdue.getTransactionId());
+        releaser.loadUpcoming();
+
+        clock.advance(Duration.ofSeconds(1));
+        releaser.releaseDue();
+
+        assertThat(releaser.pending()).isZero();
+    }
+
+    @Test
+    void loadUpcoming_WhenQueryFails_ShouldLoadTheSameWindowAgain() {
+        DebitTransaction overdue = transaction(TransactionStatus.PENDING, now().minusHours(2));
+        when(transactionRepository.findByScheduledDateBetween(now().minusHours(24), now().plusMinutes(10), 100))
+                .thenThrow(new RuntimeException("ProvisionedThroughputExceeded"))
+                .thenReturn(List.of(overdue));
+
+        assertThatThrownBy(() -> releaser.loadUpcoming()).hasMessageContaining("ProvisionedThroughputExceeded");
+        releaser.loadUpcoming();
+
+        assertThat(releaser.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void loadUpcoming_WhenWindowExceedsLoadLimit_ShouldPageByScheduledDateWithoutDuplicates() {
+        releaser = new ScheduledDebitReleaser(transactionRepository, debitTransactionService, new SyncTaskExecutor(),
+                meterRegistry, clock, 1000, 10, 60_000, 24, 30_000, 3, 4, 0, 1);
+        List<DebitTransaction> stored = List.of(
+                transaction(TransactionStatus.PENDING, now().minusHours(3)),
+                transaction(TransactionStatus.PENDING, now().minusHours(2)),
+                transaction(TransactionStatus.PENDING, now().minusHours(2)),
+                transaction(TransactionStatus.PENDING, now().minusHours(1)),
+                transaction(TransactionStatus.SCHEDULED, now().plusMinutes(5)));
+        List<Integer> limits = new ArrayList<>();
+        when(transactionRepository.findByScheduledDateBetween(any(), any(), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime from = invocation.getArgument(0);
+            LocalDateTime until = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            limits.add(limit);
+            return stored.stream()
+                    .filter(transaction -> !transaction.getScheduledDate().isBefore(from)
+                            && !transaction.getScheduledDate().isAfter(until))
+                    .limit(limit)
+                    .toList();
+        });
+
+        releaser.loadUpcoming();
+
+        assertThat(limits).containsExactly(3, 3, 3);
+        assertThat(releaser.pending()).isEqualTo(5);
+        assertThat(meterRegistry.get("debit.scheduler.loaded").counter().count()).isEqualTo(5);
+
+        clock.advance(Duration.ofMinutes(1));
+        releaser.loadUpcoming();
+
+        assertThat(releaser.pending()).isEqualTo(5);
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private DebitTransaction transaction(TransactionStatus status, LocalDateTime scheduledDate) {
+        return DebitTransaction.builder()
+                .transactionId(UUID.randomUUID())
+                .companyId("company1")
+                .status(status)
+                .scheduledDate(scheduledDate)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
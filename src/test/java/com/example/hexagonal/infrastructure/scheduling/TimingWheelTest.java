@@ -0,0 +1,55 @@
+package com.example.hexagonal.infrastructure.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    void advance_ShouldReturnOnlyEntriesWhoseTickHasPassed() {
+        TimingWheel wheel = new TimingWheel(1000, 64, 0);
+        UUID early = UUID.randomUUID();
+        UUID late = UUID.randomUUID();
+        wheel.add(early, 5_000);
+        wheel.add(late, 30_000);
+
+        assertThat(wheel.advance(4_999)).isEmpty();
+        assertThat(wheel.advance(5_000)).containsExactly(early);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(60_000)).containsExactly(late);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void add_WhenDeadlineAlreadyPassed_ShouldFireOnNextAdvance() {
+        TimingWheel wheel = new TimingWheel(1000, 64, 10_000);
+        UUID overdue = UUID.randomUUID();
+
+        assertThat(wheel.add(overdue, 1_000)).isTrue();
+
+        assertThat(wheel.advance(11_000)).containsExactly(overdue);
+    }
+
+    @Test
+    void add_WhenBeyondHorizon_ShouldReject() {
+        TimingWheel wheel = new TimingWheel(1000, 60, 0);
+
+        assertThat(wheel.slotCount()).isEqualTo(64);
+        assertThat(wheel.add(UUID.randomUUID(), wheel.horizonMillis())).isTrue();
+        assertThat(wheel.add(UUID.randomUUID(), wheel.horizonMillis() + 1)).isFalse();
+    }
+
+    @Test
+    void advance_WhenFarBehind_ShouldDrainEverySlotOnce() {
+        TimingWheel wheel = new TimingWheel(1000, 8, 0);
+        for (int i = 1; i <= 8; i++) {
+            wheel.add(UUID.randomUUID(), i * 1000L);
+        }
+
+        assertThat(wheel.advance(1_000_000)).hasSize(8);
+        assertThat(wheel.advance(2_000_000)).isEmpty();
+    }
+}